@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.benchmark;
+
+import com.edduarte.argus.cleaner.DiacriticCleaner;
+import com.edduarte.argus.cleaner.SpecialCharsCleaner;
+import com.edduarte.argus.cleaner.TextNormalizer;
+import it.unimi.dsi.lang.MutableString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cleaning of read text by the special-characters and the
+ * diacritics cleaners, and by the text normalizer that fuses both. Since cleaners modify the text in place, a fresh copy
+ * of the text is created before every invocation, outside of the measurement.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CleanerBenchmark {
+
+    @Param({"wikipedia.html", Corpus.NEW_REVISION})
+    public String fileName;
+
+    private final SpecialCharsCleaner specialCharsCleaner = new SpecialCharsCleaner();
+
+    private final DiacriticCleaner diacriticCleaner = new DiacriticCleaner();
+
+    private final TextNormalizer textNormalizer = new TextNormalizer();
+
+    private String text;
+
+    private MutableString content;
+
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        text = Corpus.text(fileName).toString();
+    }
+
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        content = new MutableString(text);
+    }
+
+
+    @Benchmark
+    public MutableString specialChars() {
+        specialCharsCleaner.clean(content);
+        return content;
+    }
+
+
+    @Benchmark
+    public MutableString diacritics() {
+        diacriticCleaner.clean(content);
+        return content;
+    }
+
+
+    @Benchmark
+    public MutableString both() {
+        specialCharsCleaner.clean(content);
+        diacriticCleaner.clean(content);
+        return content;
+    }
+
+
+    @Benchmark
+    public MutableString normalizer() {
+        textNormalizer.clean(content);
+        return content;
+    }
+}
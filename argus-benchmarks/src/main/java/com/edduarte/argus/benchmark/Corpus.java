@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.benchmark;
+
+import com.edduarte.argus.reader.JsonReader;
+import com.edduarte.argus.reader.MarkupReader;
+import com.edduarte.argus.reader.PlainTextReader;
+import com.edduarte.argus.reader.Reader;
+import it.unimi.dsi.lang.MutableString;
+import org.apache.commons.io.IOUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * The offline corpus that is bundled with the benchmarks, containing the same
+ * article in HTML, XML, JSON and plain-text formats, two revisions of the
+ * same news page, captured two hours apart, and the english stop-words. The
+ * corpus files are the test fixtures of the readers and of the difference
+ * detector and the stop-words file, which are packaged with this class.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class Corpus {
+
+    public static final String OLD_REVISION = "bbc_news_8_12_2014_11_00.html";
+
+    public static final String NEW_REVISION = "bbc_news_8_12_2014_13_00.html";
+
+
+    private Corpus() {
+    }
+
+
+    /**
+     * Returns the raw content of the specified corpus file.
+     */
+    public static byte[] bytes(String fileName) {
+        try (InputStream is = Corpus.class.getResourceAsStream(fileName)) {
+            if (is == null) {
+                throw new IllegalArgumentException(
+                        "There is no corpus file named '" + fileName + "'.");
+            }
+            return IOUtils.toByteArray(is);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+
+    /**
+     * Returns the raw content of the specified corpus file as a string.
+     */
+    public static String string(String fileName) {
+        try {
+            return new String(bytes(fileName), "UTF-8");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+
+    /**
+     * Reads the specified corpus file with the reader that is used for its
+     * format, returning the text that the reader extracted from it.
+     */
+    public static MutableString text(String fileName) {
+        try {
+            return newReader(fileName)
+                    .readDocumentContents(new ByteArrayInputStream(bytes(fileName)));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+
+    /**
+     * Instantiates the reader that is used for the format of the specified
+     * corpus file, which is inferred from its extension.
+     */
+    public static Reader newReader(String fileName) {
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1);
+        switch (extension) {
+            case "html":
+            case "xml":
+                return new MarkupReader();
+            case "json":
+                return new JsonReader();
+            case "txt":
+                return new PlainTextReader();
+            default:
+                throw new IllegalArgumentException(
+                        "There is no reader for corpus file '" + fileName + "'.");
+        }
+    }
+}
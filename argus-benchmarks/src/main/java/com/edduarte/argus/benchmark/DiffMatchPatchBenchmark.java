@@ -0,0 +1,70 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.benchmark;
+
+import com.edduarte.argus.diff.DiffMatchPatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the character-based diff of the text of two revisions of the same
+ * page, without a time limit so that every run performs the full diff.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DiffMatchPatchBenchmark {
+
+    private String oldText;
+
+    private String newText;
+
+
+    @Setup
+    public void setUp() {
+        oldText = Corpus.text(Corpus.OLD_REVISION).toString();
+        newText = Corpus.text(Corpus.NEW_REVISION).toString();
+    }
+
+
+    @Benchmark
+    public LinkedList<DiffMatchPatch.Diff> diff() {
+        DiffMatchPatch dmp = new DiffMatchPatch();
+        dmp.Diff_Timeout = 0;
+        LinkedList<DiffMatchPatch.Diff> diffs = dmp.diff_main(oldText, newText);
+        dmp.diff_cleanupSemantic(diffs);
+        return diffs;
+    }
+}
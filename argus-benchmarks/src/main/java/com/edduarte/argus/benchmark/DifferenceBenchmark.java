@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.benchmark;
+
+import com.edduarte.argus.diff.Difference;
+import com.edduarte.argus.diff.DifferenceDetector;
+import com.edduarte.argus.diff.DifferenceMatcher;
+import com.edduarte.argus.document.Document;
+import com.edduarte.argus.document.DocumentBuilder;
+import com.edduarte.argus.keyword.Keyword;
+import com.edduarte.argus.keyword.KeywordBuilder;
+import com.edduarte.argus.parser.ParserPool;
+import com.edduarte.argus.parser.SimpleParser;
+import com.google.common.collect.Lists;
+import com.mongodb.DB;
+import com.mongodb.MongoClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the detection of differences between two revisions of the same
+ * page, and the matching of the detected differences with keywords.
+ * <p>
+ * Like the difference tests, building the snapshots requires a MongoDB
+ * instance at 'localhost:27017'. The occurrence indexes of both snapshots are
+ * kept in memory once built, so the database is not used while measuring.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DifferenceBenchmark {
+
+    private static final String URL = "http://www.bbc.com/news/uk/";
+
+    private static final String TYPE = "text/html";
+
+    private MongoClient mongoClient;
+
+    private DB occurrencesDB;
+
+    private Document oldSnapshot;
+
+    private Document newSnapshot;
+
+    private List<Difference> differences;
+
+    private List<Keyword> keywords;
+
+
+    @Setup
+    public void setUp() throws Exception {
+        mongoClient = new MongoClient("localhost", 27017);
+        occurrencesDB = mongoClient.getDB("benchmark_terms_db");
+        ParserPool parserPool = new ParserPool();
+        parserPool.place(new SimpleParser());
+
+        oldSnapshot = build(Corpus.string(Corpus.OLD_REVISION), parserPool);
+        newSnapshot = build(Corpus.string(Corpus.NEW_REVISION), parserPool);
+        differences = new DifferenceDetector(oldSnapshot, newSnapshot).call();
+
+        keywords = Lists.newArrayList("House of Commons", "police", "Christmas", "weather")
+                .stream()
+                .map(string -> KeywordBuilder.fromText(string)
+                        .ignoreCase()
+                        .withStopwords()
+                        .withStemming()
+                        .build(parserPool))
+                .collect(Collectors.toList());
+        parserPool.clear();
+    }
+
+
+    @TearDown
+    public void close() {
+        occurrencesDB.dropDatabase();
+        mongoClient.close();
+    }
+
+
+    @Benchmark
+    public List<Difference> detect() {
+        return new DifferenceDetector(oldSnapshot, newSnapshot).call();
+    }
+
+
+    @Benchmark
+    public Set<DifferenceMatcher.Result> match() {
+        return new DifferenceMatcher(keywords, differences, false, false).call();
+    }
+
+
+    private Document build(String content, ParserPool parserPool) {
+        Document document = DocumentBuilder
+                .fromString(URL, content, TYPE)
+                .ignoreCase()
+                .withStopwords()
+                .withStemming()
+                .build(occurrencesDB, parserPool);
+        // loads the occurrence index into memory, outside of the measurement
+        document.getOccurrenceIndex();
+        return document;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.benchmark;
+
+import com.edduarte.argus.analyzer.AnalyzerRegistry;
+import com.edduarte.argus.parser.Parser;
+import com.edduarte.argus.parser.SimpleParser;
+import com.edduarte.argus.stemmer.Stemmer;
+import com.edduarte.argus.stemmer.snowball.EnglishStemmer;
+import com.edduarte.argus.stopper.FileStopper;
+import com.edduarte.argus.stopper.Stopper;
+import it.unimi.dsi.lang.MutableString;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the tokenization of cleaned text by the simple parser, with and
+ * without stop-word filtering and stemming.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"wikipedia.html", Corpus.NEW_REVISION})
+    public String fileName;
+
+    @Param({"false", "true"})
+    public boolean isStoppingEnabled;
+
+    @Param({"false", "true"})
+    public boolean isStemmingEnabled;
+
+    private Parser parser;
+
+    private Stopper stopper;
+
+    private Stemmer stemmer;
+
+    private MutableString content;
+
+
+    @Setup
+    public void setUp() throws Exception {
+        parser = new SimpleParser();
+
+        content = Corpus.text(fileName);
+        AnalyzerRegistry.getCleaner().clean(content);
+
+        if (isStoppingEnabled) {
+            // the stop-words are read from the bundled resource, so that the
+            // benchmark does not depend on the install directory
+            File stopwordsFile = File.createTempFile("argus-stopwords", ".txt");
+            stopwordsFile.deleteOnExit();
+            FileUtils.writeByteArrayToFile(stopwordsFile, Corpus.bytes("en.txt"));
+            stopper = new FileStopper(stopwordsFile);
+        }
+        if (isStemmingEnabled) {
+            stemmer = new EnglishStemmer();
+        }
+    }
+
+
+    @TearDown
+    public void close() throws Exception {
+        parser.close();
+    }
+
+
+    @Benchmark
+    public List<Parser.Result> parse() {
+        return parser.parse(content, stopper, stemmer, true);
+    }
+}
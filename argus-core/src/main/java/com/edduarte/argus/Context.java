@@ -21,14 +21,21 @@ import com.edduarte.argus.diff.DifferenceDetector;
 import com.edduarte.argus.document.Document;
 import com.edduarte.argus.document.DocumentBuilder;
 import com.edduarte.argus.document.DocumentCollection;
+import com.edduarte.argus.fetch.Fetcher;
+import com.edduarte.argus.fetch.HostLimiter;
+import com.edduarte.argus.job.DetectionResult;
 import com.edduarte.argus.job.JobManager;
 import com.edduarte.argus.job.JobManagerHandler;
+import com.edduarte.argus.job.TimingWheelJobBackend;
 import com.edduarte.argus.keyword.Keyword;
 import com.edduarte.argus.keyword.KeywordBuilder;
+import com.edduarte.argus.keyword.KeywordCache;
+import com.edduarte.argus.notify.NotificationDispatcher;
 import com.edduarte.argus.parser.Parser;
 import com.edduarte.argus.parser.ParserPool;
 import com.edduarte.argus.parser.SimpleParser;
 import com.edduarte.argus.rest.SubscribeRequest;
+import com.edduarte.argus.util.Stage;
 import com.mongodb.BulkWriteOperation;
 import com.mongodb.DB;
 import com.mongodb.DBCollection;
@@ -51,13 +58,18 @@ import org.slf4j.LoggerFactory;
 
 import java.security.ProtectionDomain;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 
 /**
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public class Context implements LifeCycle.Listener, JobManagerHandler {
@@ -70,6 +82,26 @@ public class Context implements LifeCycle.Listener, JobManagerHandler {
 
     private static final String DIFFERENCES_DB = "argus_differences_db";
 
+    private static final String JOBS_DB = "argus_jobs";
+
+    private static final int FETCHER_THREADS = 4;
+
+    private static final int FETCHER_CONNECTIONS_PER_HOST = 4;
+
+    private static final double FETCHER_REQUESTS_PER_HOST = 2;
+
+    private static final int FETCHER_BURST_PER_HOST = 4;
+
+    private static final int FETCHER_TIMEOUT = 10000;
+
+    private static final int STAGE_CAPACITY = 1000;
+
+    private static final int IO_STAGE_THREADS = 8;
+
+    private static final int STAGE_METRICS_INTERVAL = 60;
+
+    private static final double DEFAULT_MAX_FETCH_RATE = 20;
+
     private static final Context instance;
 
     static {
@@ -97,6 +129,40 @@ public class Context implements LifeCycle.Listener, JobManagerHandler {
      */
     private final ParserPool parserPool;
 
+    /**
+     * An asynchronous fetcher that pools connections to the watched hosts and
+     * limits the number of concurrent requests to each of them.
+     */
+    private final Fetcher fetcher;
+
+    /**
+     * A cache of the keywords built for subscriptions, which are matched every
+     * time that their documents change but that are only built once.
+     */
+    private final KeywordCache keywordCache;
+
+    /**
+     * The stages of the detection pipeline, where fetching (for documents that
+     * are not fetched by the asynchronous fetcher) and persisting are I/O-bound
+     * and reading, analyzing and diffing are CPU-bound. Each stage has its own
+     * bounded queue, so a slow stage pushes back on the stages that feed it.
+     */
+    private Stage fetchStage;
+
+    private Stage readStage;
+
+    private Stage analyzeStage;
+
+    private Stage persistStage;
+
+    private Stage diffStage;
+
+    /**
+     * A scheduler that periodically logs the queue depth and throughput of
+     * each stage.
+     */
+    private ScheduledExecutorService metricsScheduler;
+
     /**
      * The client for the used MongoDB database.
      */
@@ -154,12 +220,34 @@ public class Context implements LifeCycle.Listener, JobManagerHandler {
      */
     private boolean ignoreCase = true;
 
+    /**
+     * Flag that sets the scheduling of detections in an in-memory timing
+     * wheel instead of in Quartz.
+     */
+    private boolean isTimingWheelEnabled = false;
+
+    /**
+     * The maximum number of detections started per second, or 0 if detections
+     * are not limited.
+     */
+    private double maxFetchRate = DEFAULT_MAX_FETCH_RATE;
+
 
     private Context() throws Exception {
         super();
         initialized = false;
         jobManager = JobManager.create("argus_job_manager", 420, this);
         parserPool = new ParserPool();
+        fetcher = new Fetcher(
+                FETCHER_THREADS,
+                FETCHER_TIMEOUT,
+                new HostLimiter(
+                        FETCHER_REQUESTS_PER_HOST,
+                        FETCHER_BURST_PER_HOST,
+                        FETCHER_CONNECTIONS_PER_HOST
+                )
+        );
+        keywordCache = new KeywordCache();
     }
 
 
@@ -182,15 +270,33 @@ public class Context implements LifeCycle.Listener, JobManagerHandler {
      * Indexes the specified document and detects differences between an older
      * snapshot and the new one. Once differences are collected, saves the resulting
      * index of all occurrences of the new snapshot for future query and comparison
-     * jobs.
+     * jobs. If the document did not change since the older snapshot, the older
+     * snapshot and its differences are kept.
      */
     @Override
-    public boolean detectDifferences(String url) {
+    public CompletableFuture<DetectionResult> detectDifferences(String url) {
+
+        // detections are started by the scheduler thread, which must not
+        // block, so the older document is read from the collection in the
+        // fetch stage
+        return fetchStage
+                .enqueue(() -> detectDifferences(url, collection.get(url)))
+                .thenCompose(Function.identity())
+                .exceptionally(ex -> {
+                    logger.error(ex.getMessage(), ex);
+                    return DetectionResult.failed;
+                });
+    }
+
+
+    private CompletableFuture<DetectionResult> detectDifferences(String url,
+                                                                 Document oldDocument) {
 
         // create a new document snapshot for the provided url
         DocumentBuilder builder = DocumentBuilder
-                .fromUrl(url)
-                .withLanguageDetector(langDetector);
+                .fromUrl(url, fetcher)
+                .withLanguageDetector(langDetector)
+                .withPreviousSnapshot(oldDocument);
 
         if (isStoppingEnabled) {
             builder.withStopwords();
@@ -201,21 +307,50 @@ public class Context implements LifeCycle.Listener, JobManagerHandler {
         if (ignoreCase) {
             builder.ignoreCase();
         }
-        Document newDocument = builder.build(occurrencesDB, parserPool);
-        if (newDocument == null) {
-            // A problem occurred during processing, mostly during the fetching phase.
-            // This could happen if the page was unavailable at the time.
-            return false;
-        }
 
-        // check if there is a older document in the collection
-        Document oldDocument = collection.get(url);
+        // the built document is completed by a stage thread, so the next
+        // steps are submitted from it to the following stages
+        return builder
+                .buildAsync(occurrencesDB, parserPool,
+                        fetchStage, readStage, analyzeStage, persistStage)
+                .thenCompose(newDocument -> {
+                    if (newDocument == null) {
+                        // A problem occurred during processing, mostly during the fetching phase.
+                        // This could happen if the page was unavailable at the time.
+                        return CompletableFuture.completedFuture(DetectionResult.failed);
+                    }
+
+                    if (newDocument == oldDocument) {
+                        // the document did not change, so the older snapshot and its
+                        // differences are kept, along with the validators of the
+                        // newer response
+                        if (!oldDocument.hasRefreshedValidators()) {
+                            return CompletableFuture.completedFuture(DetectionResult.unchanged);
+                        }
+                        return persistStage.submit(() -> {
+                            collection.updateValidators(oldDocument);
+                            return DetectionResult.unchanged;
+                        });
+                    }
+
+                    return diffStage.submit(() -> storeSnapshot(url, oldDocument, newDocument));
+                });
+    }
 
+
+    /**
+     * Detects differences between the specified older and new snapshots of a
+     * document, stores them in the differences database and replaces the older
+     * snapshot in the collection with the new one.
+     */
+    private DetectionResult storeSnapshot(String url,
+                                          Document oldDocument,
+                                          Document newDocument) {
         if (oldDocument != null) {
             // there was already a document for this url on the collection, so
             // detect differences between them and add them to the differences
             // database
-            DifferenceDetector detector = new DifferenceDetector(oldDocument, newDocument, parserPool);
+            DifferenceDetector detector = new DifferenceDetector(oldDocument, newDocument);
             List<Difference> results = detector.call();
 
             removeExistingDifferences(url);
@@ -234,7 +369,7 @@ public class Context implements LifeCycle.Listener, JobManagerHandler {
         collection.remove(url);
         collection.add(newDocument);
 
-        return true;
+        return DetectionResult.changed;
     }
 
 
@@ -268,7 +403,8 @@ public class Context implements LifeCycle.Listener, JobManagerHandler {
     public Keyword buildKeyword(String keywordInput) {
         KeywordBuilder builder = KeywordBuilder
                 .fromText(keywordInput)
-                .withLanguageDetector(langDetector);
+                .withLanguageDetector(langDetector)
+                .withCache(keywordCache);
 
         if (isStoppingEnabled) {
             builder.withStopwords();
@@ -313,6 +449,26 @@ public class Context implements LifeCycle.Listener, JobManagerHandler {
     }
 
 
+    public void setTimingWheelEnabled(boolean isTimingWheelEnabled) {
+        this.isTimingWheelEnabled = isTimingWheelEnabled;
+    }
+
+
+    public boolean isTimingWheelEnabled() {
+        return isTimingWheelEnabled;
+    }
+
+
+    public void setMaxFetchRate(double maxFetchRate) {
+        this.maxFetchRate = maxFetchRate;
+    }
+
+
+    public double getMaxFetchRate() {
+        return maxFetchRate;
+    }
+
+
     /**
      * Starts this REST context at the specified port, using the specified number
      * of threads and wrapping the specified collection and stopwords for queries.
@@ -338,6 +494,8 @@ public class Context implements LifeCycle.Listener, JobManagerHandler {
         langDetector = LanguageDetectorBuilder.create(NgramExtractors.standard())
                 .withProfiles(languageProfiles)
                 .build();
+        // keywords built before with another language detector are discarded
+        keywordCache.clear();
 
         collection = new DocumentCollection(
                 "argus_production_collection",
@@ -345,8 +503,36 @@ public class Context implements LifeCycle.Listener, JobManagerHandler {
                 occurrencesDB
         );
 
+        logger.info("Starting fetcher...");
+        fetcher.start();
+
+        logger.info("Starting stages...");
+        // the analyze stage never has more threads than available parsers, so
+        // its workers are not blocked waiting on the parser pool
+        int cores = Runtime.getRuntime().availableProcessors();
+        int cpuThreads = Math.max(1, Math.min(cores, maxThreads - 1));
+        fetchStage = new Stage("fetch", IO_STAGE_THREADS, STAGE_CAPACITY);
+        readStage = new Stage("read", cpuThreads, STAGE_CAPACITY);
+        analyzeStage = new Stage("analyze", cpuThreads, STAGE_CAPACITY);
+        persistStage = new Stage("persist", IO_STAGE_THREADS, STAGE_CAPACITY);
+        diffStage = new Stage("diff", cpuThreads, STAGE_CAPACITY);
+        metricsScheduler = Executors.newSingleThreadScheduledExecutor();
+        metricsScheduler.scheduleAtFixedRate(
+                this::logStageMetrics,
+                STAGE_METRICS_INTERVAL,
+                STAGE_METRICS_INTERVAL,
+                TimeUnit.SECONDS
+        );
+
         logger.info("Starting jobs...");
-        jobManager.initialize();
+        jobManager.setMaxFetchRate(maxFetchRate);
+        jobManager.setNotificationDispatcher(
+                new NotificationDispatcher(mongoClient.getDB(JOBS_DB)));
+        if (isTimingWheelEnabled) {
+            jobManager.initialize(new TimingWheelJobBackend(mongoClient.getDB(JOBS_DB)));
+        } else {
+            jobManager.initialize();
+        }
 
         logger.info("Starting parsers...");
         for (int i = 1; i < maxThreads; i++) {
@@ -398,6 +584,15 @@ public class Context implements LifeCycle.Listener, JobManagerHandler {
     }
 
 
+    private void logStageMetrics() {
+        logger.info("Stages: {}, {}, {}, {}, {}, {} (fetches in-flight: {}), {}, {}, {}",
+                fetchStage, readStage, analyzeStage, persistStage, diffStage,
+                jobManager.getMatchStage(), fetcher.getInFlightCount(),
+                fetcher.getHostLimiter(), jobManager.getSchedulingMetrics(),
+                jobManager.getNotificationDispatcher());
+    }
+
+
     @Override
     public void lifeCycleStarting(LifeCycle lifeCycle) {
     }
@@ -421,6 +616,13 @@ public class Context implements LifeCycle.Listener, JobManagerHandler {
     @Override
     public void lifeCycleStopped(LifeCycle lifeCycle) {
         jobManager.stop();
+        metricsScheduler.shutdown();
+        fetchStage.shutdown();
+        readStage.shutdown();
+        analyzeStage.shutdown();
+        persistStage.shutdown();
+        diffStage.shutdown();
+        fetcher.stop();
         parserPool.clear();
         mongoClient.close();
         initialized = false;
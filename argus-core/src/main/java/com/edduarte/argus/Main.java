@@ -27,7 +27,7 @@ import org.slf4j.LoggerFactory;
 
 /**
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public class Main {
@@ -58,6 +58,12 @@ public class Main {
 
         options.addOption("stem", "stemming", false, "Keyword matching with stemming (lexical variants).");
 
+        options.addOption("wheel", "timing-wheel", false, "Schedule detections in memory "
+                + "instead of in Quartz, for very large numbers of watched documents.");
+
+        options.addOption("rate", "fetch-rate", true, "Maximum number of documents fetched "
+                + "per second. Defaults to 20, or 0 for no limit.");
+
         options.addOption("h", "help", false, "Shows this help prompt.");
 
 
@@ -122,11 +128,28 @@ public class Main {
             isStemmingEnabled = true;
         }
 
+        boolean isTimingWheelEnabled = false;
+        if (commandLine.hasOption("wheel")) {
+            isTimingWheelEnabled = true;
+        }
+
+        double maxFetchRate = 20;
+        if (commandLine.hasOption("rate")) {
+            String rateString = commandLine.getOptionValue("rate");
+            maxFetchRate = Double.parseDouble(rateString);
+            if (maxFetchRate < 0) {
+                logger.error("Invalid fetch rate. Must be a positive number, or 0 for no limit.");
+                return;
+            }
+        }
+
         try {
             Context context = Context.getInstance();
             context.setIgnoreCase(isIgnoringCase);
             context.setStopwordsEnabled(isStoppingEnabled);
             context.setStemmingEnabled(isStemmingEnabled);
+            context.setTimingWheelEnabled(isTimingWheelEnabled);
+            context.setMaxFetchRate(maxFetchRate);
             context.start(port, maxThreads, dbHost, dbPort);
 
         } catch (Exception ex) {
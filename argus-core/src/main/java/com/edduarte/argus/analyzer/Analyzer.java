@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.analyzer;
+
+import com.edduarte.argus.cleaner.Cleaner;
+import com.edduarte.argus.stemmer.Stemmer;
+import com.edduarte.argus.stopper.Stopper;
+import com.edduarte.argus.util.PluginLoader;
+
+import java.io.File;
+
+/**
+ * The immutable set of language-specific text analysis modules (stopper,
+ * stemmer and cleaners) for a single language, which is shared by every
+ * document and keyword pipeline that processes text in that language.
+ * <p>
+ * Stemmers keep state while stemming, so instead of a shared instance, a new
+ * stemmer is created for every pipeline through {@link #newStemmer()}.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class Analyzer {
+
+    private final String language;
+
+    private final Stopper stopper;
+
+    private final Cleaner cleaner;
+
+    /**
+     * The stopword files that were checked when loading the stopper of this
+     * analyzer, and their last modification dates at that time.
+     */
+    private final File[] sources;
+
+    private final long[] sourcesLastModified;
+
+
+    Analyzer(final String language,
+             final Stopper stopper,
+             final Cleaner cleaner,
+             final File... sources) {
+        this.language = language;
+        this.stopper = stopper;
+        this.cleaner = cleaner;
+        this.sources = sources;
+        this.sourcesLastModified = new long[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            this.sourcesLastModified[i] = sources[i].lastModified();
+        }
+    }
+
+
+    public String getLanguage() {
+        return language;
+    }
+
+
+    /**
+     * Returns the stopper for the language of this analyzer, or for the
+     * english language if there are no stopwords for it.
+     */
+    public Stopper getStopper() {
+        return stopper;
+    }
+
+
+    public Cleaner getCleaner() {
+        return cleaner;
+    }
+
+
+    /**
+     * Instantiates a stemmer for the language of this analyzer, or for the
+     * english language if there is no compatible stemmer for it. Returns null
+     * if neither is available.
+     */
+    public Stemmer newStemmer() throws ReflectiveOperationException {
+        Class<? extends Stemmer> stemmerClass = PluginLoader.getCompatibleStemmer(language);
+        if (stemmerClass == null) {
+            // if no compatible stemmers were found, use the english stemmer
+            stemmerClass = PluginLoader.getCompatibleStemmer(AnalyzerRegistry.DEFAULT_LANGUAGE);
+        }
+        return stemmerClass != null ? stemmerClass.newInstance() : null;
+    }
+
+
+    /**
+     * Checks if any of the stopword files used to build this analyzer was
+     * created, modified or deleted since then.
+     */
+    boolean isStale() {
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i].lastModified() != sourcesLastModified[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.analyzer;
+
+import com.edduarte.argus.cleaner.Cleaner;
+import com.edduarte.argus.cleaner.TextNormalizer;
+import com.edduarte.argus.stopper.FileStopper;
+import com.edduarte.argus.stopper.Stopper;
+import com.edduarte.argus.util.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A registry of analyzers, grouped by language, that builds the analyzer of
+ * each language once and shares it with every pipeline. Since stopword files
+ * can be changed during runtime, the analyzer of a language is rebuilt when
+ * its stopword file is created, modified or deleted.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class AnalyzerRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyzerRegistry.class);
+
+    static final String DEFAULT_LANGUAGE = "en";
+
+    /**
+     * The cleaner does not depend on the language and holds no state, so a
+     * single normalizer is shared by all analyzers.
+     */
+    private static final Cleaner CLEANER = new TextNormalizer();
+
+    private final File stopwordsDir;
+
+    private final ConcurrentMap<String, Analyzer> analyzers;
+
+
+    public AnalyzerRegistry(final File stopwordsDir) {
+        this.stopwordsDir = stopwordsDir;
+        this.analyzers = new ConcurrentHashMap<>();
+    }
+
+
+    public static AnalyzerRegistry getInstance() {
+        return InstanceHolder.instance;
+    }
+
+
+    /**
+     * Returns the language-independent cleaner, which is applied to text
+     * before its language is detected.
+     */
+    public static Cleaner getCleaner() {
+        return CLEANER;
+    }
+
+
+    /**
+     * Returns the analyzer for the specified language, loading it if it was
+     * not loaded before or if its stopword files changed since it was loaded.
+     */
+    public Analyzer get(String language) {
+        Analyzer analyzer = analyzers.get(language);
+        if (analyzer == null || analyzer.isStale()) {
+            analyzer = analyzers.compute(language, (l, current) ->
+                    current == null || current.isStale() ? load(l) : current);
+        }
+        return analyzer;
+    }
+
+
+    /**
+     * Removes all loaded analyzers, forcing them to be loaded again on their
+     * next use.
+     */
+    public void clear() {
+        analyzers.clear();
+    }
+
+
+    private Analyzer load(String language) {
+        File stopwordsFile = new File(stopwordsDir, language + ".txt");
+        Stopper stopper = new FileStopper(stopwordsFile);
+
+        if (!stopper.isEmpty() || language.equals(DEFAULT_LANGUAGE)) {
+            logger.info("Loaded analyzer for language '{}'.", language);
+            return new Analyzer(language, stopper, CLEANER, stopwordsFile);
+        }
+
+        // if no compatible stopwords were found, use the english stopwords
+        File defaultStopwordsFile = new File(stopwordsDir, DEFAULT_LANGUAGE + ".txt");
+        stopper = new FileStopper(defaultStopwordsFile);
+        logger.info("Loaded analyzer for language '{}' with '{}' stopwords.",
+                language, DEFAULT_LANGUAGE);
+        return new Analyzer(language, stopper, CLEANER, stopwordsFile, defaultStopwordsFile);
+    }
+
+
+    private static class InstanceHolder {
+
+        private static final AnalyzerRegistry instance =
+                new AnalyzerRegistry(Constants.STOPWORDS_DIR);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.analyzer;
+
+import com.google.common.base.Optional;
+import com.optimaize.langdetect.LanguageDetector;
+import com.optimaize.langdetect.i18n.LdLocale;
+import com.optimaize.langdetect.text.CommonTextObjectFactories;
+import com.optimaize.langdetect.text.TextObject;
+import com.optimaize.langdetect.text.TextObjectFactory;
+
+/**
+ * Detects the language of a text from a bounded sample of the text, made of a
+ * few windows evenly spread over it, so that the cost of a detection does not
+ * grow with the size of the text.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class LanguageIdentifier {
+
+    /**
+     * The language that is assumed when no language is detected.
+     */
+    public static final String DEFAULT_LANGUAGE = "en";
+
+    private static final int WINDOW_COUNT = 4;
+
+    private static final int WINDOW_SIZE = 2048;
+
+    /**
+     * The maximum number of characters that a window is shrunk or extended by
+     * to be aligned to the boundaries of its words, so that text without
+     * whitespace is still sampled in bounded windows.
+     */
+    private static final int MAX_WORD_LENGTH = 64;
+
+    /**
+     * The text-object factory holds no state besides its filters, so it is
+     * built once and shared by every detection.
+     */
+    private static final TextObjectFactory TEXT_OBJECT_FACTORY =
+            CommonTextObjectFactories.forDetectingOnLargeText();
+
+
+    private LanguageIdentifier() {
+    }
+
+
+    /**
+     * Detects the language of the specified text with the specified detector,
+     * returning its language code, or the default language if none is
+     * detected.
+     */
+    public static String detect(LanguageDetector langDetector, CharSequence text) {
+        Optional<LdLocale> lang = langDetector.detect(sample(text));
+        return lang.isPresent() ? lang.get().getLanguage() : DEFAULT_LANGUAGE;
+    }
+
+
+    /**
+     * Returns the whole text if it fits in the sample, or otherwise a window at
+     * the start and at the end of the text and windows evenly spaced between
+     * them, where every window is aligned to the boundaries of its words unless
+     * they are too far from the window.
+     */
+    static TextObject sample(CharSequence text) {
+        int length = text.length();
+        if (length <= WINDOW_COUNT * WINDOW_SIZE) {
+            return TEXT_OBJECT_FACTORY.forText(text);
+        }
+
+        TextObject textObject = TEXT_OBJECT_FACTORY.create();
+        int step = (length - WINDOW_SIZE) / (WINDOW_COUNT - 1);
+        for (int i = 0; i < WINDOW_COUNT; i++) {
+            int start = i * step;
+            int end = start + WINDOW_SIZE;
+            if (i > 0) {
+                int alignedStart = start;
+                while (alignedStart - start < MAX_WORD_LENGTH &&
+                        !Character.isWhitespace(text.charAt(alignedStart - 1))) {
+                    alignedStart++;
+                }
+                if (Character.isWhitespace(text.charAt(alignedStart - 1))) {
+                    start = alignedStart;
+                }
+            }
+            int alignedEnd = end;
+            while (alignedEnd < length && alignedEnd - end < MAX_WORD_LENGTH &&
+                    !Character.isWhitespace(text.charAt(alignedEnd))) {
+                alignedEnd++;
+            }
+            if (alignedEnd == length || Character.isWhitespace(text.charAt(alignedEnd))) {
+                end = alignedEnd;
+            }
+            if (i > 0) {
+                textObject.append(" ");
+            }
+            textObject.append(text.subSequence(start, end));
+        }
+        return textObject;
+    }
+}
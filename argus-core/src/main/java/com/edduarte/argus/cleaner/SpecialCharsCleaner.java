@@ -29,7 +29,7 @@ import it.unimi.dsi.lang.MutableString;
  * information, like ½, π, µ and φ.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public class SpecialCharsCleaner implements Cleaner {
@@ -37,7 +37,7 @@ public class SpecialCharsCleaner implements Cleaner {
     /**
      * The characters to evaluate and clean from the provided document text.
      */
-    private static final char[] CHARS_TO_FILTER = {
+    static final char[] CHARS_TO_FILTER = {
             '{', '}', '[', ']', '(', ')', '*', '/', '^', '~', '<', '>',
             '_', '…', '–', '−', '.', ',', '!', '?', '@', '#', '&', '+', '-', '=',
             '/', ':', ';', '\\', '|', '\"', '\'', '”', '“', '„', '«',
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.cleaner;
+
+import it.unimi.dsi.lang.MutableString;
+
+import java.text.Normalizer;
+
+/**
+ * Cleaner class that filters special characters like the
+ * {@link SpecialCharsCleaner}, converts diacritic words into their
+ * non-diacritic form like the {@link DiacriticCleaner}, collapses sequences of
+ * spaces into a single space and trims the text, all in a single pass over the
+ * text and in place.
+ * <p>
+ * Every character is mapped through a lookup table with an entry for every
+ * character, which is computed once from the filtered characters and from the
+ * canonical decomposition of every character, so the result is the same as
+ * the result of both cleaners.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class TextNormalizer implements Cleaner {
+
+    /**
+     * The entry of the lookup table for characters that are removed.
+     */
+    private static final char REMOVED = '\uffff';
+
+    private static final char[] TABLE = buildTable();
+
+
+    @Override
+    public void clean(MutableString documentContents) {
+        char[] chars = documentContents.array();
+        int length = documentContents.length();
+
+        // characters are only ever removed, so the result is written over the
+        // characters that were already read
+        int newLength = 0;
+        for (int i = 0; i < length; i++) {
+            char c = TABLE[chars[i]];
+            if (c == REMOVED) {
+                continue;
+            }
+            if (c <= ' ' && (newLength == 0 || (c == ' ' && chars[newLength - 1] == ' '))) {
+                // leading whitespace and control characters, or consecutive
+                // spaces
+                continue;
+            }
+            chars[newLength++] = c;
+        }
+
+        while (newLength > 0 && chars[newLength - 1] <= ' ') {
+            newLength--;
+        }
+        documentContents.length(newLength);
+        // the characters were written directly to the backing array, so the
+        // hash code cached by compact strings is no longer valid
+        documentContents.changed();
+    }
+
+
+    private static char[] buildTable() {
+        char[] table = new char[Character.MAX_VALUE + 1];
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            if (c <= '\u007F') {
+                table[c] = (char) c;
+            } else if (Character.isSurrogate((char) c)) {
+                // supplementary characters never decompose into ASCII
+                table[c] = REMOVED;
+            } else {
+                // the canonical decomposition of a character has at most one
+                // ASCII character, which is its base character
+                table[c] = REMOVED;
+                String decomposed = Normalizer.normalize(String.valueOf((char) c), Normalizer.Form.NFD);
+                for (int i = 0; i < decomposed.length(); i++) {
+                    if (decomposed.charAt(i) <= '\u007F') {
+                        table[c] = decomposed.charAt(i);
+                        break;
+                    }
+                }
+            }
+        }
+
+        // special characters are filtered before they are decomposed
+        for (char c : SpecialCharsCleaner.CHARS_TO_FILTER) {
+            table[c] = ' ';
+        }
+        return table;
+    }
+}
@@ -17,22 +17,18 @@
 package com.edduarte.argus.diff;
 
 import com.edduarte.argus.document.Document;
-import com.edduarte.argus.document.Occurrence;
-import com.edduarte.argus.parser.Parser;
-import com.edduarte.argus.parser.ParserPool;
+import com.edduarte.argus.document.OccurrenceIndex;
 import com.google.common.base.Stopwatch;
-import it.unimi.dsi.lang.MutableString;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.Callable;
 
 /**
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public class DifferenceDetector implements Callable<List<Difference>> {
@@ -45,30 +41,26 @@ public class DifferenceDetector implements Callable<List<Difference>> {
 
     private final Document newSnapshot;
 
-    private final ParserPool parserPool;
-
 
     public DifferenceDetector(final Document oldSnapshot,
-                              final Document newSnapshot,
-                              final ParserPool parserPool) {
+                              final Document newSnapshot) {
         this.oldSnapshot = oldSnapshot;
         this.newSnapshot = newSnapshot;
-        this.parserPool = parserPool;
     }
 
 
-    private static String getSnippet(Document d, String occurrenceText, int wordCount) {
-        Occurrence occurrence = d.getOccurrence(occurrenceText, wordCount);
-        if (occurrence == null) {
-            return "";
-        }
-        String originalContent = d.getOriginalContent();
-
-        int snippetStart = occurrence.getStartIndex() - SNIPPET_INDEX_OFFSET;
+    /**
+     * Returns the snippet of the specified original content that surrounds the
+     * occurrence at the specified position of the occurrence index.
+     */
+    private static String getSnippet(OccurrenceIndex index,
+                                     String originalContent,
+                                     int position) {
+        int snippetStart = index.getStartIndex(position) - SNIPPET_INDEX_OFFSET;
         if (snippetStart < 0) {
             snippetStart = 0;
         }
-        int snippetEnd = occurrence.getEndIndex() + SNIPPET_INDEX_OFFSET;
+        int snippetEnd = index.getEndIndex(position) + SNIPPET_INDEX_OFFSET;
         if (snippetEnd > originalContent.length()) {
             snippetEnd = originalContent.length();
         }
@@ -76,87 +68,66 @@ public class DifferenceDetector implements Callable<List<Difference>> {
     }
 
 
+    /**
+     * Returns the term ids of the specified revised index translated into the
+     * term dictionary of the specified original index, where terms that do not
+     * exist in the original index are given new, unique ids.
+     */
+    private static int[] translateTermIds(OccurrenceIndex originalIndex,
+                                          OccurrenceIndex revisedIndex) {
+        int[] translation = new int[revisedIndex.termCount()];
+        for (int termId = 0; termId < translation.length; termId++) {
+            int originalId = originalIndex.getTermId(revisedIndex.getTerm(termId));
+            translation[termId] = originalId >= 0 ?
+                    originalId :
+                    originalIndex.termCount() + termId;
+        }
+        int[] termIds = revisedIndex.getTermIds();
+        for (int i = 0; i < termIds.length; i++) {
+            termIds[i] = translation[termIds[i]];
+        }
+        return termIds;
+    }
+
+
     @Override
     public List<Difference> call() {
         Stopwatch sw = Stopwatch.createStarted();
 
-        DiffMatchPatch dmp = new DiffMatchPatch();
+        // loads the occurrence indexes of both snapshots once, so that every
+        // snippet is resolved in memory instead of querying the database
+        OccurrenceIndex oldIndex = oldSnapshot.getOccurrenceIndex();
+        OccurrenceIndex newIndex = newSnapshot.getOccurrenceIndex();
+        String oldContent = oldSnapshot.getOriginalContent();
+        String newContent = newSnapshot.getOriginalContent();
 
-        String original = oldSnapshot.getProcessedContent();
-        String revision = newSnapshot.getProcessedContent();
+        // compares both snapshots token by token, over the term ids of their
+        // occurrences instead of their joined processed content
+        int[] original = oldIndex.getTermIds();
+        int[] revision = translateTermIds(oldIndex, newIndex);
+        List<TokenDiff.Edit> edits = new TokenDiff(original, revision).compare();
 
-        LinkedList<DiffMatchPatch.Diff> diffs = dmp.diff_main(original, revision);
-        dmp.diff_cleanupSemantic(diffs);
-
-        Parser parser;
-        try {
-            parser = parserPool.take();
-        } catch (InterruptedException ex) {
-            logger.error(ex.getMessage(), ex);
-            return null;
-        }
-
-        int insertedCountOffset = 0, deletedCountOffset = 0;
         List<Difference> retrievedDiffs = new ArrayList<>();
-        for (DiffMatchPatch.Diff diff : diffs) {
-            String diffText = diff.text;
-
-            List<Parser.Result> results = parser.parse(new MutableString(diffText));
-            for (Parser.Result result : results) {
-                String snippet;
-                String occurrenceText = result.text.toString();
-                switch (diff.action) {
-                    case inserted: {
-                        int wordNum = insertedCountOffset++;
-                        snippet = getSnippet(newSnapshot, occurrenceText, wordNum);
-                        break;
-                    }
-                    case deleted: {
-                        int wordNum = deletedCountOffset++;
-                        snippet = getSnippet(oldSnapshot, occurrenceText, wordNum);
-                        break;
-                    }
-                    default: {
-                        insertedCountOffset++;
-                        deletedCountOffset++;
-                        continue;
-                    }
-                }
+        for (TokenDiff.Edit edit : edits) {
+            OccurrenceIndex index;
+            String content;
+            if (edit.action == DifferenceAction.inserted) {
+                index = newIndex;
+                content = newContent;
+            } else {
+                index = oldIndex;
+                content = oldContent;
+            }
 
+            for (int position = edit.start; position < edit.end; position++) {
                 retrievedDiffs.add(new Difference(
-                        diff.action,
-                        result.text.toString(),
-                        snippet
+                        edit.action,
+                        index.getText(position),
+                        getSnippet(index, content, position)
                 ));
             }
-            results.clear();
-            results = null;
         }
 
-        try {
-            parserPool.place(parser);
-        } catch (InterruptedException ex) {
-            logger.error(ex.getMessage(), ex);
-            return null;
-        }
-
-//        ListIterator<MatchedDiff> it = retrievedDiffs.listIterator();
-//        int i = 1;
-//        while (it.hasNext() && i < retrievedDiffs.size()) {
-//            MatchedDiff d1 = it.next();
-//            MatchedDiff d2 = retrievedDiffs.get(i);
-//
-//            if (d1.status == d2.status &&
-//                    d1.keyword.equals(d2.keyword) &&
-//                    d1.endIndex + SNIPPET_INDEX_OFFSET >= d2.startIndex - SNIPPET_INDEX_OFFSET) {
-////                d2.startIndex = d1.startIndex;
-//                it.remove();
-//
-//            } else {
-//                i++;
-//            }
-//        }
-
         sw.stop();
         logger.info("Completed difference detection for document '{}' in {}",
                 newSnapshot.getUrl(), sw.toString());
@@ -16,28 +16,36 @@
 
 package com.edduarte.argus.diff;
 
-import com.aliasi.util.Pair;
 import com.edduarte.argus.keyword.Keyword;
+import com.edduarte.argus.keyword.KeywordIndex;
 import com.google.common.base.Stopwatch;
-import com.google.common.hash.BloomFilter;
-import org.eclipse.jetty.util.ConcurrentHashSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
 
 /**
+ * Matches a list of differences with a group of keywords, where a keyword
+ * matches a difference when the difference affects one of the keyword's terms
+ * and all of the keyword's terms were affected by the consecutive differences
+ * with the same action that lead up to it.
+ * <p>
+ * The keywords are compiled into an inverted {@link KeywordIndex}, so the
+ * differences are matched in a single pass, regardless of the number of
+ * keywords.
+ *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.3
+ * @version 1.5.0
  * @since 1.0.0
  */
 public class DifferenceMatcher implements Callable<Set<DifferenceMatcher.Result>> {
 
     private static final Logger logger = LoggerFactory.getLogger(DifferenceMatcher.class);
 
-    private final List<Keyword> keywords;
+    private final KeywordIndex keywordIndex;
 
     private final List<Difference> differences;
 
@@ -50,7 +58,15 @@ public class DifferenceMatcher implements Callable<Set<DifferenceMatcher.Result>
                              final List<Difference> differences,
                              final boolean ignoreAdded,
                              final boolean ignoreRemoved) {
-        this.keywords = keywords;
+        this(KeywordIndex.of(keywords), differences, ignoreAdded, ignoreRemoved);
+    }
+
+
+    public DifferenceMatcher(final KeywordIndex keywordIndex,
+                             final List<Difference> differences,
+                             final boolean ignoreAdded,
+                             final boolean ignoreRemoved) {
+        this.keywordIndex = keywordIndex;
         this.differences = differences;
         this.ignoreAdded = ignoreAdded;
         this.ignoreRemoved = ignoreRemoved;
@@ -61,46 +77,35 @@ public class DifferenceMatcher implements Callable<Set<DifferenceMatcher.Result>
     public Set<DifferenceMatcher.Result> call() {
         Stopwatch sw = Stopwatch.createStarted();
 
-        Set<Result> matchedDiffs = new ConcurrentHashSet<>();
+        Set<Result> matchedDiffs = new LinkedHashSet<>();
+        KeywordIndex.Scanner scanner = keywordIndex.newScanner();
 
         DifferenceAction lastAction = DifferenceAction.nothing;
-        BloomFilter<String> lastBloomFilter = null;
         for (Difference r : differences) {
-            if (lastAction == DifferenceAction.nothing || r.getAction() != lastAction) {
-                // reset the bloom filter being used
-                lastBloomFilter = BloomFilter
-                        .create((from, into) -> into.putUnencodedChars(from), 10);
-                lastAction = r.getAction();
+            DifferenceAction action = r.getAction();
+            if (action != lastAction) {
+                // the terms of a keyword must be affected by consecutive
+                // differences with the same action
+                scanner.reset();
+                lastAction = action;
             }
-            BloomFilter<String> bloomFilter = lastBloomFilter;
-            bloomFilter.put(r.getOccurrenceText());
-
-            // check if AT LEAST ONE of the keywords has ALL of its words
-            // contained in the diff text
-            keywords.parallelStream()
-                    .unordered()
-                    .filter(kw -> kw.textStream().allMatch(bloomFilter::mightContain))
-                    .map(kw -> new Pair<>(r, kw))
-                    .filter((pair) -> pair.b().textStream().anyMatch(pair.a().getOccurrenceText()::equals))
-                    .map((pair) -> {
-                        Difference diff = pair.a();
-                        Keyword keyword = pair.b();
-                        DifferenceAction i = diff.getAction();
-                        if (i == DifferenceAction.inserted && !ignoreAdded) {
-                            return new Result(diff.getAction(), keyword, diff.getSnippet());
-
-                        } else if (i == DifferenceAction.deleted && !ignoreRemoved) {
-                            return new Result(diff.getAction(), keyword, diff.getSnippet());
-                        }
-                        return null;
-                    })
-                    .filter(diff -> diff != null)
-                    .forEach(matchedDiffs::add);
+
+            boolean isReported =
+                    (action == DifferenceAction.inserted && !ignoreAdded) ||
+                    (action == DifferenceAction.deleted && !ignoreRemoved);
+            if (!isReported) {
+                continue;
+            }
+
+            // collect every keyword that has ALL of its words contained in
+            // the differences so far and that contains the word of this one
+            scanner.accept(r.getOccurrenceText(), k -> matchedDiffs.add(
+                    new Result(action, keywordIndex.getKeyword(k), r.getSnippet())));
         }
 
         sw.stop();
-        logger.info("Completed difference matching for keywords '{}' in {}",
-                keywords.toString(), sw.toString());
+        logger.info("Completed difference matching for {} keywords in {}",
+                keywordIndex.size(), sw.toString());
         return matchedDiffs;
     }
 
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.diff;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Difference algorithm that compares two sequences of interned term ids, based
+ * on the linear-space variant of "An O(ND) Difference Algorithm and Its
+ * Variations" by Eugene W. Myers. Since it works directly over token positions,
+ * its results are ranges of positions in the original or in the revised
+ * sequence, which can be mapped back to occurrences without re-parsing text.
+ * <p>
+ * To bound the cost of comparing two mostly unrelated sequences, the search
+ * for the middle snake of every sub-sequence gives up after a maximum number of
+ * edits and splits the sub-sequence at the furthest reaching point found so far,
+ * which yields a valid, albeit not necessarily minimal, edit script.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+final class TokenDiff {
+
+    private static final int MIN_MAX_COST = 256;
+
+    private final int[] original;
+
+    private final int[] revision;
+
+    private final boolean[] deleted;
+
+    private final boolean[] inserted;
+
+    private final int maxCost;
+
+    private int[] forward;
+
+    private int[] backward;
+
+
+    TokenDiff(final int[] original, final int[] revision) {
+        this.original = original;
+        this.revision = revision;
+        this.deleted = new boolean[original.length];
+        this.inserted = new boolean[revision.length];
+        this.maxCost = Math.max(MIN_MAX_COST,
+                (int) Math.sqrt(original.length + revision.length));
+    }
+
+
+    /**
+     * Compares the two sequences and returns the edits that convert the
+     * original sequence into the revised sequence, in sequence order. Within
+     * each changed region, deletions are placed before insertions.
+     */
+    List<Edit> compare() {
+        int size = original.length + revision.length;
+        this.forward = new int[2 * size + 3];
+        this.backward = new int[2 * size + 3];
+        compare(0, original.length, 0, revision.length);
+        this.forward = null;
+        this.backward = null;
+
+        List<Edit> edits = new ArrayList<>();
+        int i = 0, j = 0;
+        while (i < original.length || j < revision.length) {
+            if (i < original.length && j < revision.length &&
+                    !deleted[i] && !inserted[j]) {
+                i++;
+                j++;
+                continue;
+            }
+            int start = i;
+            while (i < original.length && deleted[i]) {
+                i++;
+            }
+            if (i > start) {
+                edits.add(new Edit(DifferenceAction.deleted, start, i));
+            }
+            start = j;
+            while (j < revision.length && inserted[j]) {
+                j++;
+            }
+            if (j > start) {
+                edits.add(new Edit(DifferenceAction.inserted, start, j));
+            }
+        }
+        return edits;
+    }
+
+
+    private void compare(int aStart, int aEnd, int bStart, int bEnd) {
+        // the second half of every split is compared iteratively, so that the
+        // recursion depth is only bound by the splits of the first halves
+        while (true) {
+            // skips the common prefix and the common suffix, which are usually
+            // most of two snapshots of the same document
+            while (aStart < aEnd && bStart < bEnd &&
+                    original[aStart] == revision[bStart]) {
+                aStart++;
+                bStart++;
+            }
+            while (aStart < aEnd && bStart < bEnd &&
+                    original[aEnd - 1] == revision[bEnd - 1]) {
+                aEnd--;
+                bEnd--;
+            }
+
+            if (aStart == aEnd) {
+                for (int j = bStart; j < bEnd; j++) {
+                    inserted[j] = true;
+                }
+                return;
+            } else if (bStart == bEnd) {
+                for (int i = aStart; i < aEnd; i++) {
+                    deleted[i] = true;
+                }
+                return;
+            }
+
+            int[] snake = middleSnake(aStart, aEnd, bStart, bEnd);
+            compare(aStart, snake[0], bStart, snake[1]);
+            aStart = snake[2];
+            bStart = snake[3];
+        }
+    }
+
+
+    /**
+     * Finds the middle snake of the specified sub-sequences, returning the
+     * absolute start and end points of that snake as {x, y, u, v}.
+     */
+    private int[] middleSnake(int aStart, int aEnd, int bStart, int bEnd) {
+        int n = aEnd - aStart;
+        int m = bEnd - bStart;
+        int delta = n - m;
+        boolean odd = (delta & 1) != 0;
+        int maxD = (n + m + 1) / 2;
+        int offset = maxD + 1;
+
+        forward[offset + 1] = 0;
+        backward[offset + 1] = 0;
+
+        for (int d = 0; d <= maxD; d++) {
+            for (int k = -d; k <= d; k += 2) {
+                int x;
+                if (k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])) {
+                    x = forward[offset + k + 1];
+                } else {
+                    x = forward[offset + k - 1] + 1;
+                }
+                int y = x - k;
+                int x0 = x, y0 = y;
+                while (x < n && y < m && original[aStart + x] == revision[bStart + y]) {
+                    x++;
+                    y++;
+                }
+                forward[offset + k] = x;
+
+                int kb = delta - k;
+                if (odd && kb >= -(d - 1) && kb <= d - 1 &&
+                        x + backward[offset + kb] >= n) {
+                    return new int[]{aStart + x0, bStart + y0, aStart + x, bStart + y};
+                }
+            }
+
+            for (int k = -d; k <= d; k += 2) {
+                int x;
+                if (k == -d || (k != d && backward[offset + k - 1] < backward[offset + k + 1])) {
+                    x = backward[offset + k + 1];
+                } else {
+                    x = backward[offset + k - 1] + 1;
+                }
+                int y = x - k;
+                int x0 = x, y0 = y;
+                while (x < n && y < m &&
+                        original[aEnd - x - 1] == revision[bEnd - y - 1]) {
+                    x++;
+                    y++;
+                }
+                backward[offset + k] = x;
+
+                int kf = delta - k;
+                if (!odd && kf >= -d && kf <= d &&
+                        x + forward[offset + kf] >= n) {
+                    return new int[]{aEnd - x, bEnd - y, aEnd - x0, bEnd - y0};
+                }
+            }
+
+            if (d >= maxCost) {
+                return furthestReachingPoint(aStart, n, bStart, m, offset, d);
+            }
+        }
+
+        // unreachable, since the paths always overlap before maxD
+        return furthestReachingPoint(aStart, n, bStart, m, offset, maxD);
+    }
+
+
+    /**
+     * Returns the point, on any of the valid forward diagonals, that is
+     * furthest from the start of the specified sub-sequences.
+     */
+    private int[] furthestReachingPoint(int aStart, int n,
+                                        int bStart, int m,
+                                        int offset, int d) {
+        int bestX = 0, bestY = 0;
+        for (int k = -d; k <= d; k += 2) {
+            int x = forward[offset + k];
+            int y = x - k;
+            if (x <= n && y >= 0 && y <= m && x + y > bestX + bestY &&
+                    (x < n || y < m)) {
+                bestX = x;
+                bestY = y;
+            }
+        }
+        return new int[]{aStart + bestX, bStart + bestY, aStart + bestX, bStart + bestY};
+    }
+
+
+    /**
+     * A range of consecutive positions that were deleted from the original
+     * sequence or inserted in the revised sequence.
+     */
+    static final class Edit {
+
+        final DifferenceAction action;
+
+        /**
+         * The first position of this edit, inclusive.
+         */
+        final int start;
+
+        /**
+         * The last position of this edit, exclusive.
+         */
+        final int end;
+
+
+        Edit(final DifferenceAction action, final int start, final int end) {
+            this.action = action;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -17,26 +17,26 @@
 package com.edduarte.argus.document;
 
 import com.edduarte.argus.util.Constants;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
 import com.mongodb.BasicDBObject;
-import com.mongodb.BulkWriteOperation;
 import com.mongodb.DB;
 import com.mongodb.DBCollection;
 import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
 
+import java.io.ByteArrayOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.Objects;
 
 /**
  * Simple structure that holds a document current snapshot and associates
  * it with an url.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public final class Document extends BasicDBObject implements Serializable {
@@ -46,49 +46,141 @@ public final class Document extends BasicDBObject implements Serializable {
 
     public static final String ORIGINAL_CONTENT = "original_content";
 
+    public static final String CONTENT_HASH = "content_hash";
+
+    public static final String TEXT_HASH = "text_hash";
+
+    public static final String FINGERPRINT = "fingerprint";
+
+    public static final String LANGUAGE = "language";
+
+    public static final String ETAG = "etag";
+
+    public static final String LAST_MODIFIED = "last_modified";
+
+    /**
+     * The hash function used to fingerprint the raw content and the read text
+     * of every snapshot, so that unchanged documents are not processed again.
+     */
+    static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    /**
+     * The name of the collection, in the occurrences database, that stores the
+     * serialized occurrence indexes of all document snapshots.
+     */
+    static final String OCCURRENCES_COLLECTION = "occurrence_indexes";
+
+    static final String SNAPSHOT_ID = "snapshot_id";
+
+    private static final String CHUNK = "chunk";
+
+    private static final String DATA = "data";
+
     private static final long serialVersionUID = 1L;
 
-    private static final int BOUND_INDEX = 4;
+    /**
+     * The maximum size of each stored chunk of the serialized occurrence index,
+     * kept well below the maximum size of a MongoDB document (16 MB).
+     */
+    private static final int CHUNK_SIZE = 4 * 1024 * 1024;
 
     private transient final DBCollection occCollection;
 
+    /**
+     * The decoded occurrence index of this snapshot, which is lazily read from
+     * the occurrences database once and kept in memory afterwards.
+     */
+    private transient volatile OccurrenceIndex occurrenceIndex;
+
+    /**
+     * Whether the content hash and the validators of this snapshot were
+     * replaced with the ones of a newer response and were not stored yet.
+     */
+    private transient volatile boolean validatorsRefreshed;
+
 
-    Document(DB occurrencesDB, String url, String originalContent) {
+    Document(DB occurrencesDB,
+             String url,
+             String originalContent,
+             String contentHash,
+             String textHash,
+             long fingerprint,
+             String eTag,
+             long lastModified) {
         super(ID, Constants.bytesToHex(Constants.generateRandomBytes()));
         append(URL, url);
         append(ORIGINAL_CONTENT, originalContent);
-        occCollection = occurrencesDB
-                .getCollection(getUrl().hashCode() + getString(ID));
+        append(CONTENT_HASH, contentHash);
+        append(TEXT_HASH, textHash);
+        append(FINGERPRINT, fingerprint);
+        append(ETAG, eTag);
+        append(LAST_MODIFIED, lastModified);
+        occCollection = occurrencesDB.getCollection(OCCURRENCES_COLLECTION);
     }
 
 
     Document(DB occurrencesDB, BasicDBObject dbObject) {
         super(dbObject);
-        occCollection = occurrencesDB
-                .getCollection(getUrl().hashCode() + getString(ID));
+        occCollection = occurrencesDB.getCollection(OCCURRENCES_COLLECTION);
     }
 
 
-    public void addOccurrence(Occurrence occurrence) {
-        occCollection.insert(occurrence);
+    /**
+     * Stores the specified occurrence index as this snapshot's occurrences. The
+     * index is serialized into a single binary blob, which is split into as few
+     * chunks as possible.
+     */
+    void setOccurrenceIndex(OccurrenceIndex index) {
+        byte[] data = index.toBytes();
+        List<DBObject> chunks = new ArrayList<>();
+        for (int offset = 0, chunk = 0; offset < data.length; offset += CHUNK_SIZE, chunk++) {
+            int length = Math.min(CHUNK_SIZE, data.length - offset);
+            byte[] chunkData = new byte[length];
+            System.arraycopy(data, offset, chunkData, 0, length);
+            chunks.add(new BasicDBObject(SNAPSHOT_ID, getString(ID))
+                    .append(CHUNK, chunk)
+                    .append(DATA, chunkData));
+        }
+        if (!chunks.isEmpty()) {
+            occCollection.insert(chunks);
+        }
+        occurrenceIndex = index;
     }
 
 
-    public void addOccurrences(Stream<Occurrence> occurrencesStream) {
-        addOccurrences(occurrencesStream.iterator());
+    /**
+     * Returns the decoded occurrence index of this snapshot, reading it from
+     * the occurrences database if it was not read before.
+     */
+    public OccurrenceIndex getOccurrenceIndex() {
+        OccurrenceIndex index = occurrenceIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = occurrenceIndex;
+                if (index == null) {
+                    index = readOccurrenceIndex();
+                    occurrenceIndex = index;
+                }
+            }
+        }
+        return index;
     }
 
 
-    public void addOccurrences(Iterator<Occurrence> occurrencesIt) {
-        if (!occurrencesIt.hasNext()) {
-            return;
+    private OccurrenceIndex readOccurrenceIndex() {
+        DBCursor cursor = occCollection
+                .find(new BasicDBObject(SNAPSHOT_ID, getString(ID)))
+                .sort(new BasicDBObject(CHUNK, 1));
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try {
+            while (cursor.hasNext()) {
+                byte[] chunkData = (byte[]) cursor.next().get(DATA);
+                data.write(chunkData, 0, chunkData.length);
+            }
+        } finally {
+            cursor.close();
         }
-        BulkWriteOperation builder = occCollection.initializeUnorderedBulkOperation();
-        while (occurrencesIt.hasNext()) {
-            builder.insert(occurrencesIt.next());
-        }
-        builder.execute();
-        builder = null;
+        return OccurrenceIndex.fromBytes(data.toByteArray());
     }
 
 
@@ -96,14 +188,10 @@ public final class Document extends BasicDBObject implements Serializable {
         if (text.isEmpty()) {
             return null;
         }
-        int lowerBound = wordCount - BOUND_INDEX;
-        int upperBound = wordCount + BOUND_INDEX;
-
-        BasicDBObject boundQuery =
-                new BasicDBObject("$gt", lowerBound).append("$lt", upperBound);
-        BasicDBObject queriedObject = (BasicDBObject) occCollection.findOne(
-                new BasicDBObject(Occurrence.TEXT, text).append(Occurrence.WORD_COUNT, boundQuery));
-        return queriedObject != null ? new Occurrence(queriedObject) : null;
+        OccurrenceIndex index = getOccurrenceIndex();
+        int position = index.findPosition(index.getTermId(text), wordCount,
+                OccurrenceIndex.WORD_COUNT_BOUND);
+        return position >= 0 ? index.getOccurrence(position) : null;
     }
 
 
@@ -111,13 +199,12 @@ public final class Document extends BasicDBObject implements Serializable {
         if (occurrencesText.isEmpty()) {
             return null;
         }
-        DBCursor cursor = occCollection.find(new BasicDBObject(Occurrence.TEXT, occurrencesText));
+        OccurrenceIndex index = getOccurrenceIndex();
+        int termId = index.getTermId(occurrencesText);
         List<Occurrence> list = new ArrayList<>();
-        while (cursor.hasNext()) {
-            BasicDBObject obj = (BasicDBObject) cursor.next();
-            list.add(new Occurrence(obj));
+        for (int position : index.getPositions(termId)) {
+            list.add(index.getOccurrence(position));
         }
-        cursor.close();
         return list;
     }
 
@@ -132,17 +219,111 @@ public final class Document extends BasicDBObject implements Serializable {
     }
 
 
+    /**
+     * Returns the hash of the raw content that was fetched for this snapshot.
+     */
+    public String getContentHash() {
+        return getString(CONTENT_HASH);
+    }
+
+
+    /**
+     * Returns the hash of the text that was read from the raw content of this
+     * snapshot, before it was cleaned and parsed.
+     */
+    public String getTextHash() {
+        return getString(TEXT_HASH);
+    }
+
+
+    /**
+     * Returns the similarity fingerprint of the text of this snapshot, or null
+     * if this snapshot was stored without one.
+     */
+    public Long getFingerprint() {
+        Object fingerprint = get(FINGERPRINT);
+        return fingerprint != null ? ((Number) fingerprint).longValue() : null;
+    }
+
+
+    /**
+     * Returns the code of the language that was detected for this snapshot,
+     * or null if this snapshot was stored without one.
+     */
+    public String getLanguage() {
+        return getString(LANGUAGE);
+    }
+
+
+    void setLanguage(String language) {
+        put(LANGUAGE, language);
+    }
+
+
+    /**
+     * Returns the entity tag that the server provided for this snapshot, or
+     * null if none was provided.
+     */
+    public String getETag() {
+        return getString(ETAG);
+    }
+
+
+    /**
+     * Returns the date, in milliseconds since epoch, of the last modification
+     * of this snapshot according to the server, or 0 if none was provided.
+     */
+    public long getLastModified() {
+        return getLong(LAST_MODIFIED, 0);
+    }
+
+
+    /**
+     * Replaces the content hash and the validators of this snapshot with the
+     * ones of a newer response of the same document, which is kept as this
+     * snapshot because its text did not change.
+     */
+    void refreshValidators(String contentHash, String eTag, long lastModified) {
+        if (!Objects.equals(contentHash, getContentHash()) ||
+                !Objects.equals(eTag, getETag()) ||
+                lastModified != getLastModified()) {
+            put(CONTENT_HASH, contentHash);
+            put(ETAG, eTag);
+            put(LAST_MODIFIED, lastModified);
+            validatorsRefreshed = true;
+        }
+    }
+
+
+    /**
+     * Returns true if the content hash or the validators of this snapshot were
+     * refreshed since it was stored, meaning that they must be written back to
+     * the collection.
+     */
+    public boolean hasRefreshedValidators() {
+        return validatorsRefreshed;
+    }
+
+
+    void clearRefreshedValidators() {
+        validatorsRefreshed = false;
+    }
+
+
     /**
      * Converts a cluster of occurrences associated with a document into a String,
      * where each occurrences is separated by a whitespace.
      */
-    @SuppressWarnings("unchecked")
     public String getProcessedContent() {
-        DBCursor cursor = occCollection.find();
-        return StreamSupport.stream(cursor.spliterator(), false)
-                .map(Occurrence::new)
-                .map(Occurrence::toString)
-                .collect(Collectors.joining(" "));
+        OccurrenceIndex index = getOccurrenceIndex();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < index.size(); i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(index.getText(i));
+        }
+        return sb.toString();
     }
 
 
@@ -170,7 +351,8 @@ public final class Document extends BasicDBObject implements Serializable {
 
 
     void destroy() {
-        occCollection.drop();
+        occCollection.remove(new BasicDBObject(SNAPSHOT_ID, getString(ID)));
+        occurrenceIndex = null;
     }
 }
 
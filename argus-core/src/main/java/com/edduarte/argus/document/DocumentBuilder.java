@@ -16,9 +16,11 @@
 
 package com.edduarte.argus.document;
 
+import com.edduarte.argus.fetch.Fetcher;
 import com.edduarte.argus.parser.Parser;
 import com.edduarte.argus.parser.ParserPool;
 import com.edduarte.argus.util.PluginLoader;
+import com.edduarte.argus.util.Stage;
 import com.google.common.base.Stopwatch;
 import com.mongodb.DB;
 import com.optimaize.langdetect.LanguageDetector;
@@ -33,7 +35,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.util.function.Supplier;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
 /**
  * Builder class that loads documents streams and indexes them into a
@@ -43,7 +47,7 @@ import java.util.function.Supplier;
  * the previous assignment.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public final class DocumentBuilder {
@@ -51,9 +55,17 @@ public final class DocumentBuilder {
     private static final Logger logger = LoggerFactory.getLogger(DocumentBuilder.class);
 
     /**
-     * The low-footprint loader of the document, using a lazy stream.
+     * The low-footprint loader of the document, using a lazy stream, which
+     * receives the previous snapshot of the document (if any) so that it can
+     * avoid collecting content that was not modified since then.
      */
-    private final Supplier<DocumentInput> documentLazySupplier;
+    private final Function<Document, DocumentInput> documentLazySupplier;
+
+    /**
+     * The non-blocking loader of the document, which is only available when
+     * the document is fetched asynchronously.
+     */
+    private final Function<Document, CompletableFuture<DocumentInput>> documentAsyncSupplier;
 
     /**
      * The language detector that will assure that the right Stopword filter
@@ -61,6 +73,12 @@ public final class DocumentBuilder {
      */
     private LanguageDetector langDetector;
 
+    /**
+     * The previous snapshot of the document, which is returned instead of a new
+     * snapshot if the fetched content did not change since it was built.
+     */
+    private Document previousSnapshot;
+
     /**
      * Flag that sets usage of stopword filtering.
      */
@@ -77,8 +95,15 @@ public final class DocumentBuilder {
     private boolean ignoreCase = false;
 
 
-    private DocumentBuilder(final Supplier<DocumentInput> documentLazySupplier) {
+    private DocumentBuilder(final Function<Document, DocumentInput> documentLazySupplier) {
+        this(documentLazySupplier, null);
+    }
+
+
+    private DocumentBuilder(final Function<Document, DocumentInput> documentLazySupplier,
+                            final Function<Document, CompletableFuture<DocumentInput>> documentAsyncSupplier) {
         this.documentLazySupplier = documentLazySupplier;
+        this.documentAsyncSupplier = documentAsyncSupplier;
     }
 
 
@@ -88,7 +113,7 @@ public final class DocumentBuilder {
      * format.
      */
     public static DocumentBuilder fromUrl(final String url) {
-        return new DocumentBuilder(() -> {
+        return new DocumentBuilder(previousSnapshot -> {
             try {
                 URL urlToFetch = new URL(url);
 
@@ -97,9 +122,34 @@ public final class DocumentBuilder {
                 connection.setConnectTimeout(5000);
                 connection.setReadTimeout(5000);
 
+                // perform a conditional request using the validators of the
+                // previous snapshot, if the server provided any
+                if (previousSnapshot != null) {
+                    String eTag = previousSnapshot.getETag();
+                    if (eTag != null) {
+                        connection.setRequestProperty("If-None-Match", eTag);
+                    }
+                    long lastModified = previousSnapshot.getLastModified();
+                    if (lastModified > 0) {
+                        connection.setIfModifiedSince(lastModified);
+                    }
+                }
+
+                if (connection.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                    connection.disconnect();
+                    return DocumentInput.notModified(url);
+                }
+
                 InputStream contentStream = new BufferedInputStream(connection.getInputStream());
                 ContentType contentType = new ContentType(connection.getContentType());
-                return new DocumentInput(url, contentStream, contentType.getBaseType());
+                return new DocumentInput(
+                        url,
+                        contentStream,
+                        contentType.getBaseType(),
+                        contentType.getParameter("charset"),
+                        connection.getHeaderField("ETag"),
+                        connection.getLastModified()
+                );
 
             } catch (IOException | ParseException ex) {
                 throw new RuntimeException(ex);
@@ -108,6 +158,33 @@ public final class DocumentBuilder {
     }
 
 
+    /**
+     * Instantiates a loader that collects a document from a specified web url
+     * using the specified asynchronous fetcher, which pools connections and
+     * limits the number of concurrent requests to the url's host.
+     */
+    public static DocumentBuilder fromUrl(final String url, final Fetcher fetcher) {
+        Function<Document, CompletableFuture<DocumentInput>> asyncSupplier = previousSnapshot -> {
+            if (previousSnapshot != null) {
+                return fetcher.fetch(
+                        url,
+                        previousSnapshot.getETag(),
+                        previousSnapshot.getLastModified()
+                );
+            } else {
+                return fetcher.fetch(url);
+            }
+        };
+        return new DocumentBuilder(previousSnapshot -> {
+            try {
+                return asyncSupplier.apply(previousSnapshot).join();
+            } catch (CompletionException ex) {
+                throw new RuntimeException(ex.getCause());
+            }
+        }, asyncSupplier);
+    }
+
+
     /**
      * Instantiates a loader that collects a document from a
      * specified input stream. This constructor is mostly used for testing.
@@ -115,10 +192,13 @@ public final class DocumentBuilder {
     public static DocumentBuilder fromString(final String url,
                                              final String text,
                                              final String type) {
-        return new DocumentBuilder(() -> {
+        return new DocumentBuilder(previousSnapshot -> {
             try {
+                // the text is encoded in UTF-8, regardless of the declared
+                // charset of its type
                 ContentType contentType = new ContentType(type);
-                return new DocumentInput(url, new StringInputStream(text), contentType.getBaseType());
+                return new DocumentInput(url, new StringInputStream(text, "UTF-8"),
+                        contentType.getBaseType(), "UTF-8", null, 0);
 
             } catch (ParseException ex) {
                 throw new RuntimeException(ex);
@@ -133,6 +213,12 @@ public final class DocumentBuilder {
     }
 
 
+    public DocumentBuilder withPreviousSnapshot(Document previousSnapshot) {
+        this.previousSnapshot = previousSnapshot;
+        return this;
+    }
+
+
     public DocumentBuilder withStopwords() {
         this.isStoppingEnabled = true;
         return this;
@@ -171,34 +257,144 @@ public final class DocumentBuilder {
 
         // step 1) Perform a lazy loading of the document, by obtaining its url,
         // content stream and content type.
-        DocumentInput input = documentLazySupplier.get();
+        DocumentInput input;
+        try {
+            input = documentLazySupplier.apply(previousSnapshot);
+        } catch (RuntimeException ex) {
+            logger.error(ex.getMessage(), ex);
+            return null;
+        }
+        String url = input.getUrl();
 
 
-        // step 2) Checks if the input document is supported by the server
-        boolean isSupported = PluginLoader.getCompatibleReader(input.getContentType()) != null;
-        if (!isSupported) {
-            logger.info("Ignored processing document '{}': No compatible readers available for content-type '{}'.",
-                    input.getUrl(),
-                    input.getContentType()
-            );
+        // step 2) Checks if the server reported that the document was not
+        //         modified since the previous snapshot, and if the input
+        //         document is supported by the server, building a processing
+        //         instruction to be executed.
+        if (input.isNotModified()) {
+            logger.info("Skipped processing document '{}': Not modified.", url);
+            return previousSnapshot;
+        }
+        DocumentPipeline pipeline = newPipeline(occurrencesDB, input);
+        if (pipeline == null) {
             return null;
         }
 
 
-        // step 3) Takes a parser from the parser-pool.
-        Parser parser;
+        // step 3) Read the document contents. If they did not change since
+        //         the previous snapshot, then there is nothing left to process.
         try {
-            parser = parserPool.take();
-        } catch (InterruptedException ex) {
+            if (!pipeline.read()) {
+                return previousSnapshot;
+            }
+        } catch (Exception ex) {
             logger.error(ex.getMessage(), ex);
             return null;
         }
 
 
-        // step 4) Build a processing instruction to be executed.
-        //         A pipeline instantiates a new object for each of the
-        //         required modules, improving performance of parallel jobs.
-        DocumentPipeline pipeline = new DocumentPipeline(
+        // step 4) Analyze the document contents with a parser from the
+        //         parser-pool.
+        if (!analyze(pipeline, parserPool)) {
+            return null;
+        }
+
+
+        // step 5) Store the occurrences of the document.
+        Document document = pipeline.persist();
+
+        sw.stop();
+        logger.info("Completed processing document '{}' in {}.", url, sw.toString());
+
+        return document;
+    }
+
+
+    /**
+     * Indexes the document specified in the factory method asynchronously,
+     * where each step of the processing is executed by its own stage: fetching
+     * (unless the document is fetched by a non-blocking loader), reading,
+     * analyzing and persisting. Stages are bounded, so a stage that falls
+     * behind blocks the stage that feeds it, except for the loading of the
+     * document, which never blocks on the reading stage.
+     *
+     * @return a future that completes with the built index of the document
+     * specified in the factory method, with the previous snapshot if the
+     * document did not change, or with null if the document could not be built
+     */
+    public CompletableFuture<Document> buildAsync(DB occurrencesDB,
+                                                  ParserPool parserPool,
+                                                  Stage fetchStage,
+                                                  Stage readStage,
+                                                  Stage analyzeStage,
+                                                  Stage persistStage) {
+        Stopwatch sw = Stopwatch.createStarted();
+
+        CompletableFuture<DocumentInput> loadedInput = documentAsyncSupplier != null ?
+                documentAsyncSupplier.apply(previousSnapshot) :
+                fetchStage.enqueue(() -> documentLazySupplier.apply(previousSnapshot));
+
+        // the input is loaded on threads that must not block, like the threads
+        // of the HTTP client, so it is handed to the read stage without
+        // blocking. The following steps are handed from stage to stage, where
+        // a full stage blocks the stage that feeds it.
+        return loadedInput.thenComposeAsync(input -> {
+            if (input.isNotModified()) {
+                logger.info("Skipped processing document '{}': Not modified.", input.getUrl());
+                return CompletableFuture.completedFuture(previousSnapshot);
+            }
+            DocumentPipeline pipeline = newPipeline(occurrencesDB, input);
+            if (pipeline == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            String url = input.getUrl();
+
+            boolean hasChanged;
+            try {
+                hasChanged = pipeline.read();
+            } catch (Exception ex) {
+                throw new CompletionException(ex);
+            }
+            if (!hasChanged) {
+                return CompletableFuture.completedFuture(previousSnapshot);
+            }
+            return analyzeStage
+                    .submit(() -> analyze(pipeline, parserPool))
+                    .thenCompose(wasAnalyzed -> wasAnalyzed ?
+                            persistStage.submit(pipeline::persist) :
+                            CompletableFuture.completedFuture(null))
+                    .thenApply(document -> {
+                        sw.stop();
+                        logger.info("Completed processing document '{}' in {}.",
+                                url, sw.toString());
+                        return document;
+                    });
+
+        }, readStage.nonBlocking()).exceptionally(ex -> {
+            Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+            logger.error(cause.getMessage(), cause);
+            return null;
+        });
+    }
+
+
+    /**
+     * Creates the processing pipeline of the specified input document, or
+     * returns null if the document is not supported by the server.
+     */
+    private DocumentPipeline newPipeline(DB occurrencesDB, DocumentInput input) {
+        boolean isSupported = PluginLoader.getCompatibleReader(input.getContentType()) != null;
+        if (!isSupported) {
+            logger.info("Ignored processing document '{}': No compatible readers available for content-type '{}'.",
+                    input.getUrl(),
+                    input.getContentType()
+            );
+            return null;
+        }
+
+        // A pipeline instantiates a new object for each of the required
+        // modules, improving performance of parallel jobs.
+        return new DocumentPipeline(
 
                 // the language detection model
                 langDetector,
@@ -209,9 +405,9 @@ public final class DocumentBuilder {
                 // the input document info, including its path and InputStream
                 input,
 
-                // parser that will be used for document parsing and occurrence
-                // detection
-                parser,
+                // the previous snapshot of the document, which is kept if the
+                // read content did not change
+                previousSnapshot,
 
                 // flag that sets that stopwords will be filtered during
                 // tokenization
@@ -225,30 +421,38 @@ public final class DocumentBuilder {
                 // for example, the words 'be' and 'Be' as the same token
                 ignoreCase
         );
+    }
 
 
-        // step 5) Process the document asynchronously.
-        Document document;
+    /**
+     * Analyzes the contents read by the specified pipeline, using a parser
+     * that is taken from the specified parser-pool and that is placed back in
+     * the pool afterwards.
+     */
+    private static boolean analyze(DocumentPipeline pipeline, ParserPool parserPool) {
+        Parser parser;
         try {
-            document = pipeline.call();
-        } catch (Exception ex) {
+            parser = parserPool.take();
+        } catch (InterruptedException ex) {
             logger.error(ex.getMessage(), ex);
-            return null;
+            return false;
         }
 
+        boolean wasAnalyzed;
+        try {
+            pipeline.analyze(parser);
+            wasAnalyzed = true;
+        } catch (Exception ex) {
+            logger.error(ex.getMessage(), ex);
+            wasAnalyzed = false;
+        }
 
-        // step 6) Place the parser back in the parser-pool.
         try {
             parserPool.place(parser);
         } catch (InterruptedException ex) {
             logger.error(ex.getMessage(), ex);
-            return null;
+            return false;
         }
-
-        sw.stop();
-        logger.info("Completed processing document '{}' in {}.",
-                document.getUrl(), sw.toString());
-
-        return document;
+        return wasAnalyzed;
     }
-}
\ No newline at end of file
+}
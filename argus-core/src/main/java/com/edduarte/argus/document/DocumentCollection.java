@@ -33,7 +33,7 @@ import java.util.concurrent.TimeUnit;
  * access to every collected document and term.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public final class DocumentCollection {
@@ -61,6 +61,9 @@ public final class DocumentCollection {
         this.collectionName = collectionName;
         this.documentsDB = documentsDB;
         this.occurrencesDB = occurrencesDB;
+        this.occurrencesDB
+                .getCollection(Document.OCCURRENCES_COLLECTION)
+                .createIndex(new BasicDBObject(Document.SNAPSHOT_ID, 1));
         this.documentsCache = CacheBuilder
                 .newCache(String.class, Document.class)
                 .name(collectionName)
@@ -83,6 +86,26 @@ public final class DocumentCollection {
     }
 
 
+    /**
+     * Writes the refreshed content hash and validators of the specified
+     * document, which is kept as the current snapshot of its url, to the local
+     * database.
+     */
+    public void updateValidators(Document d) {
+        if (d == null || !d.hasRefreshedValidators()) {
+            return;
+        }
+        DBCollection collection = documentsDB.getCollection(collectionName);
+        collection.update(
+                new BasicDBObject(Document.URL, d.getUrl()),
+                new BasicDBObject("$set", new BasicDBObject()
+                        .append(Document.CONTENT_HASH, d.getContentHash())
+                        .append(Document.ETAG, d.getETag())
+                        .append(Document.LAST_MODIFIED, d.getLastModified())));
+        d.clearRefreshedValidators();
+    }
+
+
     /**
      * Removes the specified document from the local database.
      */
@@ -25,7 +25,7 @@ import java.io.InputStream;
  * DocumentPipeline class, during the indexing process.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public class DocumentInput {
@@ -36,11 +36,59 @@ public class DocumentInput {
 
     private String contentType;
 
+    /**
+     * The charset that the server declared along with the content type, or
+     * null if it was not declared.
+     */
+    private String charset;
+
+    /**
+     * The entity tag that the server provided for the content, if any.
+     */
+    private String eTag;
+
+    /**
+     * The date, in milliseconds since epoch, of the last modification of the
+     * content according to the server, or 0 if it was not provided.
+     */
+    private long lastModified;
+
+    /**
+     * Flag that sets that the server reported that the content was not
+     * modified since the previous snapshot, so there is no content to collect.
+     */
+    private boolean notModified;
+
 
     public DocumentInput(String url, InputStream contentStream, String contentType) {
+        this(url, contentStream, contentType, null, null, 0);
+    }
+
+
+    public DocumentInput(String url,
+                         InputStream contentStream,
+                         String contentType,
+                         String charset,
+                         String eTag,
+                         long lastModified) {
         this.url = url;
         this.contentStream = contentStream;
         this.contentType = contentType;
+        this.charset = charset;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+        this.notModified = false;
+    }
+
+
+    /**
+     * Instantiates an input for a document whose content was not modified
+     * since its previous snapshot, and that therefore has no content stream.
+     */
+    public static DocumentInput notModified(String url) {
+        DocumentInput input = new DocumentInput(url, null, null);
+        input.notModified = true;
+        return input;
     }
 
 
@@ -59,10 +107,32 @@ public class DocumentInput {
     }
 
 
+    public String getCharset() {
+        return charset;
+    }
+
+
+    public String getETag() {
+        return eTag;
+    }
+
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+
+    public boolean isNotModified() {
+        return notModified;
+    }
+
+
     public void destroy() {
         url = null;
         contentStream = null;
         contentType = null;
+        charset = null;
+        eTag = null;
     }
 
 
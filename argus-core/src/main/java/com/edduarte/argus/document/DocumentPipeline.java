@@ -16,53 +16,60 @@
 
 package com.edduarte.argus.document;
 
-import com.edduarte.argus.cleaner.AndCleaner;
-import com.edduarte.argus.cleaner.Cleaner;
-import com.edduarte.argus.cleaner.DiacriticCleaner;
-import com.edduarte.argus.cleaner.SpecialCharsCleaner;
+import com.edduarte.argus.analyzer.Analyzer;
+import com.edduarte.argus.analyzer.AnalyzerRegistry;
+import com.edduarte.argus.analyzer.LanguageIdentifier;
 import com.edduarte.argus.parser.Parser;
+import com.edduarte.argus.reader.ContentReader;
 import com.edduarte.argus.reader.Reader;
 import com.edduarte.argus.stemmer.Stemmer;
-import com.edduarte.argus.stopper.FileStopper;
 import com.edduarte.argus.stopper.Stopper;
 import com.edduarte.argus.util.PluginLoader;
-import com.google.common.base.Optional;
+import com.edduarte.argus.util.SimHash;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteStreams;
 import com.mongodb.DB;
 import com.optimaize.langdetect.LanguageDetector;
-import com.optimaize.langdetect.i18n.LdLocale;
-import com.optimaize.langdetect.text.CommonTextObjectFactories;
-import com.optimaize.langdetect.text.TextObject;
-import com.optimaize.langdetect.text.TextObjectFactory;
 import it.unimi.dsi.lang.MutableString;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.InputStream;
+import java.io.ByteArrayInputStream;
 import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.stream.Stream;
 
 /**
  * A processing pipeline that reads, filters and tokenizes a content stream,
  * specifically a document. Every detected token is stored with a group
  * of common occurrences between different documents by using the provided
  * concurrent map structures.
+ * <p>
+ * The pipeline is split into three steps, {@link #read()}, {@link #analyze}
+ * and {@link #persist()}, which must be called in this order but which can be
+ * executed by different threads, so that I/O-bound and CPU-bound work can be
+ * scheduled separately.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
-public class DocumentPipeline implements Callable<Document> {
+public class DocumentPipeline {
 
     private static final Logger logger = LoggerFactory.getLogger(DocumentPipeline.class);
 
+    /**
+     * The maximum number of different bits between the fingerprints of the
+     * text of a snapshot and of the previous snapshot for the language of the
+     * previous snapshot to be reused, instead of being detected again.
+     */
+    private static final int MAX_LANGUAGE_DISTANCE = 12;
+
     private final LanguageDetector langDetector;
 
     private final DB occurrencesDB;
 
     private final DocumentInput documentInput;
 
-    private final Parser parser;
+    private final Document previousSnapshot;
 
     private final boolean isStoppingEnabled;
 
@@ -70,111 +77,149 @@ public class DocumentPipeline implements Callable<Document> {
 
     private final boolean ignoreCase;
 
+    /**
+     * The cleaned content that was read from the input document, which is set
+     * by the read step and consumed by the analyze step.
+     */
+    private MutableString content;
+
+    /**
+     * The document that represents this pipeline processing result, which is
+     * created by the read step.
+     */
+    private Document document;
+
+    /**
+     * The occurrence index of the document, which is built by the analyze step
+     * and stored by the persist step.
+     */
+    private OccurrenceIndex occurrenceIndex;
+
 
     public DocumentPipeline(final LanguageDetector langDetector,
                             final DB occurrencesDB,
                             final DocumentInput documentInput,
-                            final Parser parser,
+                            final Document previousSnapshot,
                             final boolean isStoppingEnabled,
                             final boolean isStemmingEnabled,
                             final boolean ignoreCase) {
         this.occurrencesDB = occurrencesDB;
         this.langDetector = langDetector;
         this.documentInput = documentInput;
-        this.parser = parser;
+        this.previousSnapshot = previousSnapshot;
         this.isStoppingEnabled = isStoppingEnabled;
         this.isStemmingEnabled = isStemmingEnabled;
         this.ignoreCase = ignoreCase;
     }
 
 
-    @Override
-    public Document call() throws Exception {
-        InputStream documentStream = documentInput.getStream();
+    /**
+     * Reads and cleans the contents of the input document, while hashing its
+     * raw content and its read text. If either of them is equal to the one of
+     * the previous snapshot, the document did not change and false is
+     * returned, meaning that the remaining steps must not be executed. The
+     * previous snapshot is then kept with the content hash and the validators
+     * of the input document, so that later requests are validated against
+     * them.
+     */
+    public boolean read() throws Exception {
         String url = documentInput.getUrl();
+        String eTag = documentInput.getETag();
+        long lastModified = documentInput.getLastModified();
+
+        // hashes the raw content while it is being read from the stream. If it
+        // is byte-identical to the content of the previous snapshot, then
+        // there is nothing left to process
+        byte[] rawContent;
+        String contentHash;
+        try (HashingInputStream hashingStream = new HashingInputStream(
+                Document.HASH_FUNCTION, documentInput.getStream())) {
+            rawContent = ByteStreams.toByteArray(hashingStream);
+            contentHash = hashingStream.hash().toString();
+        }
+        if (previousSnapshot != null &&
+                contentHash.equals(previousSnapshot.getContentHash())) {
+            logger.info("Skipped processing document '{}': Content did not change.", url);
+            previousSnapshot.refreshValidators(contentHash, eTag, lastModified);
+            documentInput.destroy();
+            return false;
+        }
 
         // reads and parses contents from input content stream
         Class<? extends Reader> readerClass = PluginLoader
                 .getCompatibleReader(documentInput.getContentType());
         Reader reader = readerClass.newInstance();
-        MutableString content = reader.readDocumentContents(documentStream);
+        MutableString content;
+        try (ContentReader documentReader = ContentReader.open(
+                new ByteArrayInputStream(rawContent), documentInput.getCharset())) {
+            content = reader.readDocumentContents(documentReader);
+        }
         reader = null;
-        documentStream.close();
-        documentStream = null;
+        rawContent = null;
         documentInput.destroy();
 
 
-        // filters the contents by cleaning characters of whole strings
-        // according to each cleaner's implementation
-        Cleaner cleaner = AndCleaner.of(new SpecialCharsCleaner(), new DiacriticCleaner());
-        cleaner.clean(content);
-        cleaner = null;
+        // if the read text is equal to the text of the previous snapshot, then
+        // only non-textual content changed and the previous snapshot is kept
+        String textHash = Document.HASH_FUNCTION.newHasher()
+                .putUnencodedChars(content)
+                .hash()
+                .toString();
+        if (previousSnapshot != null && textHash.equals(previousSnapshot.getTextHash())) {
+            logger.info("Skipped processing document '{}': Text did not change.", url);
+            previousSnapshot.refreshValidators(contentHash, eTag, lastModified);
+            return false;
+        }
 
 
-        String temp = content.toString();
-        temp = temp.replaceAll(" +", " ");
-        temp = temp.trim();
-        content.replace(0, content.length(), temp);
+        // filters the contents by cleaning characters of whole strings,
+        // collapsing spaces and trimming them in place
+        AnalyzerRegistry.getCleaner().clean(content);
 
 
         // creates a document that represents this pipeline processing result.
         // The contents are copied to this object so that it keeps them in its
         // original form, without any transformations that come from cleaning,
         // stopping or stemming.
-        Document document = new Document(occurrencesDB, url, content.toString());
+        this.document = new Document(occurrencesDB, url, content.toString(),
+                contentHash, textHash, SimHash.of(content), eTag, lastModified);
+        this.content = content;
+        return true;
+    }
 
 
-        // infers the document language
-        String languageCode = "en";
-        if (langDetector != null) {
-            TextObjectFactory textObjectFactory = CommonTextObjectFactories.forDetectingOnLargeText();
-            TextObject textObject = textObjectFactory.forText(content);
-            Optional<LdLocale> lang = langDetector.detect(textObject);
-            languageCode = lang.isPresent() ? lang.get().getLanguage() : "en";
-        }
+    /**
+     * Detects the language of the read contents and tokenizes them with the
+     * specified parser, building the occurrence index of the document.
+     */
+    public void analyze(Parser parser) throws Exception {
 
-
-        // sets the parser's stopper according to the detected language
-        // if the detected language is not supported, stopping is ignored
-        Stopper stopper = null;
-        if (isStoppingEnabled) {
-            stopper = new FileStopper(languageCode);
-            if (stopper.isEmpty()) {
-                // if no compatible stopwords were found, use the english stopwords
-                stopper = new FileStopper("en");
+        // infers the document language, which is the language of the previous
+        // snapshot unless its text changed substantially
+        String languageCode = LanguageIdentifier.DEFAULT_LANGUAGE;
+        if (langDetector != null) {
+            languageCode = getPreviousLanguage(document, previousSnapshot);
+            if (languageCode == null) {
+                languageCode = LanguageIdentifier.detect(langDetector, content);
             }
         }
+        document.setLanguage(languageCode);
 
 
-        // sets the parser's stemmer according to the detected language
-        // if the detected language is not supported, stemming is ignored
-        Stemmer stemmer = null;
-        if (isStemmingEnabled) {
-            Class<? extends Stemmer> stemmerClass = PluginLoader.getCompatibleStemmer(languageCode);
-            if (stemmerClass != null) {
-                stemmer = stemmerClass.newInstance();
-            } else {
-                // if no compatible stemmers were found, use the english stemmer
-                stemmerClass = PluginLoader.getCompatibleStemmer("en");
-                if (stemmerClass != null) {
-                    stemmer = stemmerClass.newInstance();
-                }
-            }
-        }
+        // gets the shared analyzer of the detected language, which provides the
+        // parser's stopper and stemmer. If the detected language is not
+        // supported, the english stopwords and stemmer are used instead
+        Analyzer analyzer = AnalyzerRegistry.getInstance().get(languageCode);
+        Stopper stopper = isStoppingEnabled ? analyzer.getStopper() : null;
+        Stemmer stemmer = isStemmingEnabled ? analyzer.newStemmer() : null;
 
 
         // detects tokens from the document and loads them into separate
         // objects in memory
         List<Parser.Result> results = parser.parse(content, stopper, stemmer, ignoreCase);
 
-        if (stopper != null) {
-            stopper.destroy();
-            stopper = null;
-        }
-
-        if (stemmer != null) {
-            stemmer = null;
-        }
+        stopper = null;
+        stemmer = null;
 
 
 //        // calculate the normalization factor (n'lize) for each term in the document
@@ -208,16 +253,46 @@ public class DocumentPipeline implements Callable<Document> {
         content = null;
 
 
-        // create a database collection for this document terms and converts
-        // parser results into Term objects
-
-        Stream<Occurrence> termStream = results.stream()
-                .map(r -> new Occurrence(r.text.toString(), r.wordNum, r.start, r.end - 1));
-        document.addOccurrences(termStream);
+        // converts parser results into a compact occurrence index
+        OccurrenceIndex.Builder indexBuilder = new OccurrenceIndex.Builder();
+        for (Parser.Result r : results) {
+            indexBuilder.add(r.text.toString(), r.wordNum, r.start, r.end - 1);
+        }
+        occurrenceIndex = indexBuilder.build();
+        indexBuilder = null;
 
         results.clear();
         results = null;
+    }
+
+
+    /**
+     * Returns the language of the previous snapshot if the fingerprint of its
+     * text is close to the fingerprint of the text of the specified document,
+     * or null otherwise.
+     */
+    static String getPreviousLanguage(Document document, Document previousSnapshot) {
+        if (previousSnapshot == null) {
+            return null;
+        }
+        String language = previousSnapshot.getLanguage();
+        Long previousFingerprint = previousSnapshot.getFingerprint();
+        if (language == null || previousFingerprint == null) {
+            // stored before languages and fingerprints were stored
+            return null;
+        }
+        int distance = SimHash.distance(document.getFingerprint(), previousFingerprint);
+        return distance <= MAX_LANGUAGE_DISTANCE ? language : null;
+    }
+
 
+    /**
+     * Stores the occurrence index of the document as a single serialized blob
+     * and returns the document.
+     */
+    public Document persist() {
+        document.setOccurrenceIndex(occurrenceIndex);
+        occurrenceIndex = null;
         return document;
     }
 }
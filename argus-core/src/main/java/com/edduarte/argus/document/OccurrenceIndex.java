@@ -0,0 +1,474 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.document;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A compact, in-memory index of every occurrence found in a document snapshot.
+ * Occurrences are kept in the order in which they were parsed, and their texts
+ * are interned into a term dictionary, so that every occurrence is represented
+ * by a term id, a word count and its character-based start and end indexes.
+ * <p>
+ * The index is persisted as a single binary blob, where the term dictionary is
+ * followed by the varint-encoded term ids and the delta-encoded word counts and
+ * character indexes of all occurrences. Since consecutive occurrences are close
+ * to each other, most deltas fit in a single byte.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class OccurrenceIndex {
+
+    /**
+     * The maximum distance between the word count of an occurrence and the
+     * word count that is used to find it, which tolerates the small shifts in
+     * word counts that result from reparsing a difference.
+     */
+    public static final int WORD_COUNT_BOUND = 4;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final OccurrenceIndex EMPTY = new Builder().build();
+
+    /**
+     * The dictionary of distinct occurrence texts, indexed by term id.
+     */
+    private final String[] terms;
+
+    /**
+     * The term id of each occurrence, in parsing order.
+     */
+    private final int[] termIds;
+
+    private final int[] wordCounts;
+
+    private final int[] startIndexes;
+
+    private final int[] endIndexes;
+
+    /**
+     * Map of occurrence texts to their term ids.
+     */
+    private final Object2IntOpenHashMap<String> termIdsByText;
+
+    /**
+     * The positions of the occurrences of each term, indexed by term id, which
+     * are only built when the index is first queried by word count. Since
+     * occurrences are kept in parsing order, the word counts of the positions
+     * in each of these lists are sorted.
+     */
+    private volatile int[][] postings;
+
+
+    private OccurrenceIndex(final String[] terms,
+                            final int[] termIds,
+                            final int[] wordCounts,
+                            final int[] startIndexes,
+                            final int[] endIndexes) {
+        this.terms = terms;
+        this.termIds = termIds;
+        this.wordCounts = wordCounts;
+        this.startIndexes = startIndexes;
+        this.endIndexes = endIndexes;
+        this.termIdsByText = new Object2IntOpenHashMap<>(terms.length);
+        this.termIdsByText.defaultReturnValue(-1);
+        for (int i = 0; i < terms.length; i++) {
+            termIdsByText.put(terms[i], i);
+        }
+    }
+
+
+    public static OccurrenceIndex empty() {
+        return EMPTY;
+    }
+
+
+    /**
+     * Returns the number of occurrences in this index.
+     */
+    public int size() {
+        return termIds.length;
+    }
+
+
+    /**
+     * Returns the number of distinct occurrence texts in this index.
+     */
+    public int termCount() {
+        return terms.length;
+    }
+
+
+    /**
+     * Returns the term id of the specified occurrence text, or -1 if there is
+     * no occurrence with that text in this index.
+     */
+    public int getTermId(String text) {
+        return termIdsByText.getInt(text);
+    }
+
+
+    public String getTerm(int termId) {
+        return terms[termId];
+    }
+
+
+    public int getTermId(int position) {
+        return termIds[position];
+    }
+
+
+    /**
+     * Returns a copy of the term ids of all occurrences, in parsing order.
+     */
+    public int[] getTermIds() {
+        return Arrays.copyOf(termIds, termIds.length);
+    }
+
+
+    public String getText(int position) {
+        return terms[termIds[position]];
+    }
+
+
+    public int getWordCount(int position) {
+        return wordCounts[position];
+    }
+
+
+    public int getStartIndex(int position) {
+        return startIndexes[position];
+    }
+
+
+    public int getEndIndex(int position) {
+        return endIndexes[position];
+    }
+
+
+    public Occurrence getOccurrence(int position) {
+        return new Occurrence(
+                getText(position),
+                wordCounts[position],
+                startIndexes[position],
+                endIndexes[position]
+        );
+    }
+
+
+    /**
+     * Returns the position of the first occurrence of the specified term whose
+     * word count is within the exclusive range {@code (wordCount - bound,
+     * wordCount + bound)}, or -1 if there is no such occurrence.
+     */
+    public int findPosition(int termId, int wordCount, int bound) {
+        if (termId < 0 || termId >= terms.length) {
+            return -1;
+        }
+        int[] positions = getPostings()[termId];
+        int lowerBound = wordCount - bound;
+
+        // binary search for the first position with a word count higher than
+        // the lower bound
+        int low = 0, high = positions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (wordCounts[positions[mid]] > lowerBound) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        if (low < positions.length &&
+                wordCounts[positions[low]] < wordCount + bound) {
+            return positions[low];
+        }
+        return -1;
+    }
+
+
+    /**
+     * Returns the positions of all occurrences of the specified term, in
+     * parsing order.
+     */
+    public int[] getPositions(int termId) {
+        if (termId < 0 || termId >= terms.length) {
+            return new int[0];
+        }
+        return getPostings()[termId];
+    }
+
+
+    private int[][] getPostings() {
+        int[][] p = postings;
+        if (p == null) {
+            synchronized (this) {
+                p = postings;
+                if (p == null) {
+                    IntArrayList[] lists = new IntArrayList[terms.length];
+                    for (int i = 0; i < termIds.length; i++) {
+                        IntArrayList list = lists[termIds[i]];
+                        if (list == null) {
+                            list = new IntArrayList(4);
+                            lists[termIds[i]] = list;
+                        }
+                        list.add(i);
+                    }
+                    p = new int[terms.length][];
+                    for (int i = 0; i < lists.length; i++) {
+                        p[i] = lists[i] != null ? lists[i].toIntArray() : new int[0];
+                    }
+                    postings = p;
+                }
+            }
+        }
+        return p;
+    }
+
+
+    /**
+     * Serializes this index into its compact binary format.
+     */
+    public byte[] toBytes() {
+        Encoder encoder = new Encoder(16 + terms.length * 8 + termIds.length * 4);
+        encoder.writeVarInt(FORMAT_VERSION);
+
+        encoder.writeVarInt(terms.length);
+        for (String term : terms) {
+            byte[] termBytes = term.getBytes(StandardCharsets.UTF_8);
+            encoder.writeVarInt(termBytes.length);
+            encoder.write(termBytes);
+        }
+
+        encoder.writeVarInt(termIds.length);
+        int lastWordCount = 0, lastStartIndex = 0;
+        for (int i = 0; i < termIds.length; i++) {
+            encoder.writeVarInt(termIds[i]);
+            encoder.writeSignedVarInt(wordCounts[i] - lastWordCount);
+            encoder.writeSignedVarInt(startIndexes[i] - lastStartIndex);
+            encoder.writeSignedVarInt(endIndexes[i] - startIndexes[i]);
+            lastWordCount = wordCounts[i];
+            lastStartIndex = startIndexes[i];
+        }
+        return encoder.toByteArray();
+    }
+
+
+    /**
+     * Deserializes an index that was previously serialized with
+     * {@link #toBytes()}.
+     */
+    public static OccurrenceIndex fromBytes(byte[] data) {
+        if (data == null || data.length == 0) {
+            return EMPTY;
+        }
+        Decoder decoder = new Decoder(data);
+        int version = decoder.readVarInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException(
+                    "Unsupported occurrence index format version: " + version);
+        }
+
+        String[] terms = new String[decoder.readVarInt()];
+        for (int i = 0; i < terms.length; i++) {
+            int length = decoder.readVarInt();
+            terms[i] = decoder.readString(length);
+        }
+
+        int size = decoder.readVarInt();
+        int[] termIds = new int[size];
+        int[] wordCounts = new int[size];
+        int[] startIndexes = new int[size];
+        int[] endIndexes = new int[size];
+        int lastWordCount = 0, lastStartIndex = 0;
+        for (int i = 0; i < size; i++) {
+            termIds[i] = decoder.readVarInt();
+            lastWordCount += decoder.readSignedVarInt();
+            lastStartIndex += decoder.readSignedVarInt();
+            wordCounts[i] = lastWordCount;
+            startIndexes[i] = lastStartIndex;
+            endIndexes[i] = lastStartIndex + decoder.readSignedVarInt();
+        }
+
+        return new OccurrenceIndex(terms, termIds, wordCounts, startIndexes, endIndexes);
+    }
+
+
+    /**
+     * Builder that collects occurrences in parsing order and interns their
+     * texts into a term dictionary.
+     */
+    public static final class Builder {
+
+        private final Object2IntOpenHashMap<String> termIdsByText;
+
+        private final List<String> terms;
+
+        private final IntArrayList termIds;
+
+        private final IntArrayList wordCounts;
+
+        private final IntArrayList startIndexes;
+
+        private final IntArrayList endIndexes;
+
+
+        public Builder() {
+            this.termIdsByText = new Object2IntOpenHashMap<>();
+            this.termIdsByText.defaultReturnValue(-1);
+            this.terms = new ArrayList<>();
+            this.termIds = new IntArrayList();
+            this.wordCounts = new IntArrayList();
+            this.startIndexes = new IntArrayList();
+            this.endIndexes = new IntArrayList();
+        }
+
+
+        public Builder add(final String text,
+                           final int wordCount,
+                           final int startIndex,
+                           final int endIndex) {
+            int termId = termIdsByText.getInt(text);
+            if (termId < 0) {
+                termId = terms.size();
+                terms.add(text);
+                termIdsByText.put(text, termId);
+            }
+            termIds.add(termId);
+            wordCounts.add(wordCount);
+            startIndexes.add(startIndex);
+            endIndexes.add(endIndex);
+            return this;
+        }
+
+
+        public Builder add(final Occurrence occurrence) {
+            return add(occurrence.toString(),
+                    occurrence.getWordCount(),
+                    occurrence.getStartIndex(),
+                    occurrence.getEndIndex());
+        }
+
+
+        public OccurrenceIndex build() {
+            return new OccurrenceIndex(
+                    terms.toArray(new String[terms.size()]),
+                    termIds.toIntArray(),
+                    wordCounts.toIntArray(),
+                    startIndexes.toIntArray(),
+                    endIndexes.toIntArray()
+            );
+        }
+    }
+
+
+    private static final class Encoder {
+
+        private byte[] buffer;
+
+        private int length;
+
+
+        private Encoder(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+            this.length = 0;
+        }
+
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, length + extra));
+            }
+        }
+
+
+        private void writeVarInt(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[length++] = (byte) value;
+        }
+
+
+        private void writeSignedVarInt(int value) {
+            // zig-zag encoding, so that small negative deltas stay small
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+
+        private void write(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, length, bytes.length);
+            length += bytes.length;
+        }
+
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+    }
+
+
+    private static final class Decoder {
+
+        private final byte[] buffer;
+
+        private int position;
+
+
+        private Decoder(byte[] buffer) {
+            this.buffer = buffer;
+            this.position = 0;
+        }
+
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+
+        private int readSignedVarInt() {
+            int value = readVarInt();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+
+        private String readString(int length) {
+            String s = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return s;
+        }
+    }
+}
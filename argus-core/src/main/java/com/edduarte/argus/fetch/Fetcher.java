@@ -0,0 +1,309 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.fetch;
+
+import com.edduarte.argus.document.DocumentInput;
+import org.eclipse.jetty.client.ContentExchange;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.RedirectListener;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.mail.internet.ContentType;
+import javax.mail.internet.ParseException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous fetcher of web documents, backed by a non-blocking HTTP client.
+ * Requests are multiplexed over a small number of selector threads and sent
+ * through a pool of persistent (keep-alive) connections.
+ * <p>
+ * Before being sent, every request must be allowed by a {@link HostLimiter},
+ * which caps the rate and the number of concurrent requests to each host, so
+ * that no host is overloaded by the documents watched on it. When a host
+ * reports that it is overloaded (429 or 503), its requests are paused for the
+ * time that it asked for in the 'Retry-After' header.
+ * <p>
+ * Every fetch returns a future that completes with the fetched document input,
+ * so that fetching threads are never blocked while waiting for slow hosts.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class Fetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(Fetcher.class);
+
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    /**
+     * The time that an overloaded host is paused for when it did not specify
+     * one, in milliseconds.
+     */
+    private static final long DEFAULT_PAUSE = 60000;
+
+    /**
+     * The maximum time that an overloaded host is paused for, in milliseconds.
+     */
+    private static final long MAX_PAUSE = 600000;
+
+    private final HttpClient client;
+
+    private final HostLimiter limiter;
+
+    /**
+     * The number of requests that were sent and whose responses are still
+     * pending.
+     */
+    private final AtomicInteger inFlight;
+
+
+    /**
+     * Creates a new fetcher that does not limit the rate of requests to each
+     * host, but only the number of concurrent requests to each host.
+     */
+    public Fetcher(final int maxThreads,
+                   final int timeoutMillis,
+                   final int maxConnectionsPerHost) {
+        this(maxThreads, timeoutMillis, new HostLimiter(0, 1, maxConnectionsPerHost));
+    }
+
+
+    /**
+     * Creates a new fetcher where requests to each host are limited by the
+     * specified limiter.
+     */
+    public Fetcher(final int maxThreads,
+                   final int timeoutMillis,
+                   final HostLimiter limiter) {
+        QueuedThreadPool threadPool = new QueuedThreadPool(maxThreads);
+        threadPool.setName("argus-fetcher");
+        threadPool.setDaemon(true);
+
+        this.client = new HttpClient();
+        this.client.setConnectorType(HttpClient.CONNECTOR_SELECT_CHANNEL);
+        this.client.setThreadPool(threadPool);
+        // concurrent requests to each host are capped by the limiter, which
+        // keeps waiting requests in its own queues instead of the client's
+        this.client.setMaxConnectionsPerAddress(Integer.MAX_VALUE);
+        this.client.setConnectTimeout(timeoutMillis);
+        this.client.setTimeout(timeoutMillis);
+        this.client.setIdleTimeout(30000);
+        this.client.registerListener(RedirectListener.class.getName());
+        this.inFlight = new AtomicInteger(0);
+        this.limiter = limiter;
+    }
+
+
+    public void start() throws Exception {
+        client.start();
+    }
+
+
+    public void stop() {
+        limiter.shutdown();
+        try {
+            client.stop();
+        } catch (Exception ex) {
+            logger.error(ex.getMessage(), ex);
+        }
+    }
+
+
+    /**
+     * Returns the number of requests that were sent and whose responses are
+     * still pending.
+     */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+
+    public HostLimiter getHostLimiter() {
+        return limiter;
+    }
+
+
+    /**
+     * Fetches the document at the specified url.
+     */
+    public CompletableFuture<DocumentInput> fetch(final String url) {
+        return fetch(url, null, 0);
+    }
+
+
+    /**
+     * Fetches the document at the specified url, using the specified entity
+     * tag and last modification date (in milliseconds since epoch) of a
+     * previous fetch to perform a conditional request. If the server reports
+     * that the document was not modified since then, the returned future
+     * completes with a not-modified document input.
+     */
+    public CompletableFuture<DocumentInput> fetch(final String url,
+                                                  final String eTag,
+                                                  final long lastModified) {
+        String host;
+        try {
+            host = new URL(url).getHost().toLowerCase(Locale.ENGLISH);
+        } catch (MalformedURLException ex) {
+            CompletableFuture<DocumentInput> future = new CompletableFuture<>();
+            future.completeExceptionally(ex);
+            return future;
+        }
+
+        return limiter.acquire(host).thenCompose(permit -> {
+            CompletableFuture<DocumentInput> future = send(url, host, eTag, lastModified);
+            future.whenComplete((input, ex) -> limiter.release(host));
+            return future;
+        });
+    }
+
+
+    private CompletableFuture<DocumentInput> send(final String url,
+                                                  final String host,
+                                                  final String eTag,
+                                                  final long lastModified) {
+        CompletableFuture<DocumentInput> future = new CompletableFuture<>();
+
+        ContentExchange exchange = new ContentExchange(true) {
+
+            @Override
+            protected void onResponseComplete() throws IOException {
+                super.onResponseComplete();
+                inFlight.decrementAndGet();
+                int status = getResponseStatus();
+                if (status == HTTP_TOO_MANY_REQUESTS ||
+                        status == HttpURLConnection.HTTP_UNAVAILABLE) {
+                    long pause = getRetryAfter(getResponseFields());
+                    logger.info("Pausing requests to '{}' for {} ms: Server returned {}.",
+                            host, pause, status);
+                    limiter.pause(host, pause);
+                }
+                try {
+                    future.complete(toDocumentInput(url, this));
+                } catch (IOException | ParseException ex) {
+                    future.completeExceptionally(ex);
+                }
+            }
+
+
+            @Override
+            protected void onConnectionFailed(Throwable ex) {
+                super.onConnectionFailed(ex);
+                inFlight.decrementAndGet();
+                future.completeExceptionally(ex);
+            }
+
+
+            @Override
+            protected void onException(Throwable ex) {
+                super.onException(ex);
+                inFlight.decrementAndGet();
+                future.completeExceptionally(ex);
+            }
+
+
+            @Override
+            protected void onExpire() {
+                super.onExpire();
+                inFlight.decrementAndGet();
+                future.completeExceptionally(new IOException(
+                        "Timed out while fetching document '" + url + "'."));
+            }
+        };
+        exchange.setMethod("GET");
+        exchange.setURL(url);
+        if (eTag != null) {
+            exchange.setRequestHeader("If-None-Match", eTag);
+        }
+        if (lastModified > 0) {
+            exchange.setRequestHeader("If-Modified-Since", HttpFields.formatDate(lastModified));
+        }
+
+        inFlight.incrementAndGet();
+        try {
+            client.send(exchange);
+        } catch (IOException ex) {
+            inFlight.decrementAndGet();
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+
+    /**
+     * Returns the time that the server asked to wait before the next request,
+     * in milliseconds, from the 'Retry-After' header of its response.
+     */
+    private static long getRetryAfter(HttpFields fields) {
+        String retryAfter = fields.getStringField("Retry-After");
+        long pause = DEFAULT_PAUSE;
+        if (retryAfter != null) {
+            try {
+                pause = Long.parseLong(retryAfter.trim()) * 1000;
+            } catch (NumberFormatException ex) {
+                // the header is a date instead of a number of seconds
+                long date = fields.getDateField("Retry-After");
+                if (date > 0) {
+                    pause = date - System.currentTimeMillis();
+                }
+            }
+        }
+        return Math.max(0, Math.min(MAX_PAUSE, pause));
+    }
+
+
+    private static DocumentInput toDocumentInput(String url, ContentExchange exchange)
+            throws IOException, ParseException {
+        int status = exchange.getResponseStatus();
+        if (status == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            return DocumentInput.notModified(url);
+        }
+        if (status < 200 || status >= 300) {
+            throw new IOException("Server returned HTTP response code " + status +
+                    " for URL: " + url);
+        }
+
+        HttpFields fields = exchange.getResponseFields();
+        String contentTypeHeader = fields.getStringField("Content-Type");
+        if (contentTypeHeader == null) {
+            throw new IOException("Server returned no content type for URL: " + url);
+        }
+        ContentType contentType = new ContentType(contentTypeHeader);
+        long lastModified = fields.getDateField("Last-Modified");
+        byte[] content = exchange.getResponseContentBytes();
+
+        return new DocumentInput(
+                url,
+                new ByteArrayInputStream(content != null ? content : new byte[0]),
+                contentType.getBaseType(),
+                contentType.getParameter("charset"),
+                fields.getStringField("ETag"),
+                lastModified > 0 ? lastModified : 0
+        );
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.fetch;
+
+import com.edduarte.argus.util.TokenBucket;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Politeness limiter of the requests sent to each host, which caps both the
+ * rate of requests to a host, with a token bucket per host, and the number of
+ * concurrent requests to a host.
+ * <p>
+ * Requests that exceed either limit are queued per host and are granted in
+ * order when the limits allow them, through futures, so no thread is blocked
+ * while waiting. A host can also be paused, such as when it reported that it
+ * is overloaded, in which case none of its requests are granted until then.
+ * Hosts that were idle for long enough are forgotten.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class HostLimiter {
+
+    /**
+     * The interval between evictions of idle hosts, in seconds.
+     */
+    private static final int EVICTION_INTERVAL = 60;
+
+    private final double requestsPerSecond;
+
+    private final int maxBurst;
+
+    private final int maxConcurrentRequests;
+
+    private final Map<String, Host> hosts;
+
+    /**
+     * The executor that grants deferred requests when their hosts allow them.
+     */
+    private final ScheduledExecutorService timer;
+
+
+    /**
+     * Creates a new limiter that allows the specified number of requests per
+     * second to each host, with bursts of the specified number of requests,
+     * and the specified number of concurrent requests to each host. A rate of
+     * 0 only limits the concurrent requests.
+     */
+    public HostLimiter(final double requestsPerSecond,
+                       final int maxBurst,
+                       final int maxConcurrentRequests) {
+        this.requestsPerSecond = requestsPerSecond;
+        this.maxBurst = maxBurst;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.hosts = new ConcurrentHashMap<>();
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "argus-host-limiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.scheduleWithFixedDelay(this::evictIdleHosts,
+                EVICTION_INTERVAL, EVICTION_INTERVAL, TimeUnit.SECONDS);
+    }
+
+
+    /**
+     * Requests permission to send a request to the specified host, returning
+     * a future that completes when the request is allowed. Every completed
+     * permission must be released when its request completes.
+     */
+    public CompletableFuture<Void> acquire(String host) {
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        Host h;
+        do {
+            h = hosts.computeIfAbsent(host, k -> new Host());
+            synchronized (h) {
+                if (!h.isEvicted) {
+                    h.queue.add(new Waiter(permit, System.currentTimeMillis()));
+                    break;
+                }
+            }
+        } while (true);
+        drain(h);
+        return permit;
+    }
+
+
+    /**
+     * Releases a permission to the specified host that was acquired before,
+     * allowing the next queued request to that host.
+     */
+    public void release(String host) {
+        Host h = hosts.get(host);
+        if (h == null) {
+            return;
+        }
+        synchronized (h) {
+            h.active--;
+        }
+        drain(h);
+    }
+
+
+    /**
+     * Pauses all requests to the specified host for the specified time in
+     * milliseconds.
+     */
+    public void pause(String host, long pauseMillis) {
+        do {
+            Host h = hosts.computeIfAbsent(host, k -> new Host());
+            synchronized (h) {
+                if (!h.isEvicted) {
+                    h.pausedUntil = Math.max(h.pausedUntil, System.currentTimeMillis() + pauseMillis);
+                    return;
+                }
+            }
+        } while (true);
+    }
+
+
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+
+    /**
+     * Returns the total number of requests that are waiting for permission.
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (Host h : hosts.values()) {
+            synchronized (h) {
+                depth += h.queue.size();
+            }
+        }
+        return depth;
+    }
+
+
+    /**
+     * Returns the statistics of the specified number of hosts with the most
+     * queued requests.
+     */
+    public List<HostStats> getBusiestHosts(int limit) {
+        List<HostStats> stats = new ArrayList<>();
+        hosts.forEach((host, h) -> {
+            synchronized (h) {
+                stats.add(new HostStats(host, h.queue.size(), h.active,
+                        h.grantedCount, h.totalWaitMillis));
+            }
+        });
+        return stats.stream()
+                .sorted(Comparator.comparingInt(HostStats::getQueueDepth).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+
+    @Override
+    public String toString() {
+        return "hosts[tracked=" + hosts.size() +
+                ", queued=" + getQueueDepth() +
+                ", busiest=" + getBusiestHosts(3) + "]";
+    }
+
+
+    /**
+     * Grants the queued requests of the specified host that are allowed by its
+     * limits, and schedules another attempt if a request is waiting for a
+     * token or for a pause to end.
+     */
+    private void drain(Host h) {
+        List<CompletableFuture<Void>> granted = new ArrayList<>();
+        synchronized (h) {
+            long now = System.currentTimeMillis();
+            while (!h.queue.isEmpty() && h.active < maxConcurrentRequests) {
+                long wait = h.pausedUntil - now;
+                if (wait <= 0 && h.bucket != null) {
+                    wait = h.bucket.tryAcquire();
+                }
+                if (wait > 0) {
+                    if (!h.isDrainScheduled) {
+                        h.isDrainScheduled = true;
+                        scheduleDrain(h, wait);
+                    }
+                    break;
+                }
+
+                Waiter w = h.queue.poll();
+                h.active++;
+                h.grantedCount++;
+                h.totalWaitMillis += now - w.enqueuedMillis;
+                granted.add(w.permit);
+            }
+        }
+
+        // permissions are granted outside of the lock, since the requests
+        // that follow them are sent in this thread
+        granted.forEach(p -> p.complete(null));
+    }
+
+
+    private void scheduleDrain(Host h, long delayMillis) {
+        try {
+            timer.schedule(() -> {
+                synchronized (h) {
+                    h.isDrainScheduled = false;
+                }
+                drain(h);
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            // this limiter was shut down, so the waiting requests are failed
+            List<Waiter> waiters = new ArrayList<>(h.queue);
+            h.queue.clear();
+            waiters.forEach(w -> w.permit.completeExceptionally(ex));
+        }
+    }
+
+
+    private void evictIdleHosts() {
+        long now = System.currentTimeMillis();
+        hosts.entrySet().removeIf(e -> {
+            Host h = e.getValue();
+            synchronized (h) {
+                // hosts that were evicted concurrently with an acquisition are
+                // replaced by new hosts in that acquisition
+                h.isEvicted = h.queue.isEmpty() && h.active == 0 &&
+                        h.pausedUntil < now && (h.bucket == null || h.bucket.isFull());
+                return h.isEvicted;
+            }
+        });
+    }
+
+
+    /**
+     * The limits and the queued requests of a host, which are guarded by the
+     * lock of the host.
+     */
+    private final class Host {
+
+        /**
+         * The rate limit of this host, or null if its rate is not limited.
+         */
+        private final TokenBucket bucket;
+
+        private final Queue<Waiter> queue;
+
+        private int active;
+
+        private long pausedUntil;
+
+        private boolean isDrainScheduled;
+
+        private boolean isEvicted;
+
+        private long grantedCount;
+
+        private long totalWaitMillis;
+
+
+        private Host() {
+            this.bucket = requestsPerSecond > 0 ?
+                    new TokenBucket(requestsPerSecond, maxBurst) :
+                    null;
+            this.queue = new ArrayDeque<>();
+        }
+    }
+
+
+    private static final class Waiter {
+
+        private final CompletableFuture<Void> permit;
+
+        private final long enqueuedMillis;
+
+
+        private Waiter(final CompletableFuture<Void> permit, final long enqueuedMillis) {
+            this.permit = permit;
+            this.enqueuedMillis = enqueuedMillis;
+        }
+    }
+
+
+    /**
+     * The statistics of the requests to a host.
+     */
+    public static final class HostStats {
+
+        private final String host;
+
+        private final int queueDepth;
+
+        private final int activeCount;
+
+        private final long grantedCount;
+
+        private final long totalWaitMillis;
+
+
+        private HostStats(final String host,
+                          final int queueDepth,
+                          final int activeCount,
+                          final long grantedCount,
+                          final long totalWaitMillis) {
+            this.host = host;
+            this.queueDepth = queueDepth;
+            this.activeCount = activeCount;
+            this.grantedCount = grantedCount;
+            this.totalWaitMillis = totalWaitMillis;
+        }
+
+
+        public String getHost() {
+            return host;
+        }
+
+
+        /**
+         * Returns the number of requests to this host that are waiting for
+         * permission.
+         */
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+
+        public int getActiveCount() {
+            return activeCount;
+        }
+
+
+        public long getGrantedCount() {
+            return grantedCount;
+        }
+
+
+        /**
+         * Returns the average time that the granted requests to this host
+         * waited for permission, in milliseconds.
+         */
+        public long getAverageWaitMillis() {
+            return grantedCount > 0 ? totalWaitMillis / grantedCount : 0;
+        }
+
+
+        @Override
+        public String toString() {
+            return host + "[queued=" + queueDepth +
+                    ", active=" + activeCount +
+                    ", avgWait=" + getAverageWaitMillis() + "ms]";
+        }
+    }
+}
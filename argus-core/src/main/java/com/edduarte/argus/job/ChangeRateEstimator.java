@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.job;
+
+/**
+ * Estimates how often a document changes from the outcomes of its detections,
+ * in order to pick the interval with which the document should be detected.
+ * <p>
+ * Changes are assumed to occur randomly at a constant rate (a Poisson process),
+ * so the probability that a detection after an interval of I seconds finds a
+ * change is 1 - e^(-rate * I). This estimator keeps exponentially weighted
+ * averages of that probability and of the interval between detections, and
+ * derives the rate of changes from them. Changes are weighted more than
+ * detections without changes, so that a volatile document is detected more
+ * frequently after only a few changes, while a static document is backed-off
+ * gradually.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+final class ChangeRateEstimator {
+
+    /**
+     * The weight of a detection that found a change.
+     */
+    private static final double CHANGED_WEIGHT = 0.5;
+
+    /**
+     * The weight of a detection that did not find a change.
+     */
+    private static final double UNCHANGED_WEIGHT = 0.2;
+
+    /**
+     * The highest change probability that is considered, since a document
+     * that changed on every detection could change at any higher rate.
+     */
+    private static final double MAX_CHANGE_PROBABILITY = 0.95;
+
+    /**
+     * The averaged probability that a detection finds a change.
+     */
+    private double changeProbability;
+
+    /**
+     * The averaged interval between detections, in seconds.
+     */
+    private double averageInterval;
+
+    /**
+     * The time of the last detection, in milliseconds, or -1 if no detection
+     * was observed yet.
+     */
+    private long lastDetection;
+
+
+    /**
+     * Creates a new estimator for a document that is currently detected with
+     * the specified interval in seconds, assuming that it changes once per
+     * interval until its detections show otherwise.
+     */
+    ChangeRateEstimator(final int initialInterval) {
+        this.changeProbability = 1 - Math.exp(-1);
+        this.averageInterval = initialInterval;
+        this.lastDetection = -1;
+    }
+
+
+    /**
+     * Updates this estimator with a detection that completed at the specified
+     * time in milliseconds. The first detection is only used as the starting
+     * point of the next interval, since it is always seen as a change.
+     */
+    synchronized void observe(boolean changed, long timeMillis) {
+        if (lastDetection >= 0 && timeMillis > lastDetection) {
+            double interval = (timeMillis - lastDetection) / 1000.0;
+            double weight = changed ? CHANGED_WEIGHT : UNCHANGED_WEIGHT;
+            changeProbability += weight * ((changed ? 1 : 0) - changeProbability);
+            averageInterval += weight * (interval - averageInterval);
+        }
+        lastDetection = timeMillis;
+    }
+
+
+    /**
+     * Returns the estimated number of changes per second.
+     */
+    synchronized double getChangeRate() {
+        double p = Math.min(changeProbability, MAX_CHANGE_PROBABILITY);
+        return -Math.log(1 - p) / averageInterval;
+    }
+
+
+    /**
+     * Returns the interval in seconds with which the document should be
+     * detected, which is the estimated time between its changes, bounded by
+     * the specified minimum and maximum intervals.
+     */
+    int getInterval(int minInterval, int maxInterval) {
+        double rate = getChangeRate();
+        if (rate <= 0) {
+            return maxInterval;
+        }
+        double interval = 1 / rate;
+        return (int) Math.max(minInterval, Math.min(maxInterval, Math.round(interval)));
+    }
+}
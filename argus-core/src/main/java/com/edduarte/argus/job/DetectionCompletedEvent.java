@@ -0,0 +1,55 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.job;
+
+/**
+ * The event that is published by a job manager every time a difference
+ * detection run for a document completes, regardless of its result.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class DetectionCompletedEvent {
+
+    private final String documentUrl;
+
+    private final DetectionResult result;
+
+
+    public DetectionCompletedEvent(final String documentUrl,
+                                   final DetectionResult result) {
+        this.documentUrl = documentUrl;
+        this.result = result;
+    }
+
+
+    public String getDocumentUrl() {
+        return documentUrl;
+    }
+
+
+    public DetectionResult getResult() {
+        return result;
+    }
+
+
+    @Override
+    public String toString() {
+        return "DetectionCompletedEvent[" + documentUrl + ", " + result + "]";
+    }
+}
@@ -26,7 +26,7 @@ import org.quartz.UnableToInterruptJobException;
 
 /**
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 @PersistJobDataAfterExecution
@@ -34,10 +34,6 @@ public class DetectionJob implements InterruptableJob {
 
     public static final String PARENT_JOB_MANAGER = "parent_job_manager";
 
-    public static final String FAULT_COUNTER = "fault_counter";
-
-    private static final long FAULT_TOLERANCE = 10;
-
 
     @Override
     public void execute(JobExecutionContext context)
@@ -52,16 +48,10 @@ public class DetectionJob implements InterruptableJob {
         if (manager == null) {
             return;
         }
-        boolean wasSuccessful = manager.callDetectDiffImpl(documentUrl);
 
-        int faultCounter = (int) dataMap.getOrDefault(FAULT_COUNTER, 0);
-        faultCounter = wasSuccessful ? 0 : (faultCounter + 1);
-        dataMap.put(FAULT_COUNTER, faultCounter);
-
-        if (faultCounter >= FAULT_TOLERANCE) {
-            // exceeded fault tolerance, so cancel this job and notify matcher jobs
-            manager.timeoutDetectionJob(documentUrl);
-        }
+        // the detection is performed asynchronously by the detection stages,
+        // so this job does not hold a scheduler thread while it is running
+        manager.callDetectDiffImpl(documentUrl, context.getScheduledFireTime().getTime());
     }
 
 
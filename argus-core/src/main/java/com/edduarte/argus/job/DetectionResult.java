@@ -0,0 +1,32 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.job;
+
+/**
+ * The outcome of a difference detection run for a document.
+ * A document that was 'changed' has a new snapshot and new differences that
+ * must be matched, a document that was 'unchanged' kept its previous snapshot
+ * and its previous differences, and a document that 'failed' could not be
+ * fetched or processed.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public enum DetectionResult {
+    changed, unchanged, failed
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.job;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Spreads the detections of documents over time, so that documents with the
+ * same interval are not all detected at once.
+ * <p>
+ * Every document has a phase within its interval and a period that is
+ * slightly longer than its interval, both derived from the hash of its url.
+ * Since these are deterministic, the detections of a document keep their
+ * place in time across restarts, and the detections of many documents are
+ * spread evenly over their interval.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+final class DetectionSchedule {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    /**
+     * The maximum fraction of the interval of a document that is added to its
+     * period.
+     */
+    private static final double MAX_PERIOD_JITTER = 0.05;
+
+
+    private DetectionSchedule() {
+    }
+
+
+    /**
+     * Returns the first time, in milliseconds, at or after the specified time
+     * that matches the phase of the specified document for the specified
+     * interval in seconds.
+     */
+    static long getNextStart(String documentUrl, int interval, long nowMillis) {
+        long intervalMillis = interval * 1000L;
+        if (intervalMillis <= 0) {
+            return nowMillis;
+        }
+        long phaseMillis = (long) (fraction(documentUrl, false) * intervalMillis);
+        return nowMillis + Math.floorMod(phaseMillis - nowMillis, intervalMillis);
+    }
+
+
+    /**
+     * Returns the period in seconds with which the specified document should
+     * be detected for the specified interval, which is never shorter than the
+     * interval.
+     */
+    static int getPeriod(String documentUrl, int interval) {
+        return interval + (int) (fraction(documentUrl, true) * MAX_PERIOD_JITTER * interval);
+    }
+
+
+    /**
+     * Returns a fraction in [0, 1) that is uniformly distributed over the urls
+     * of documents, where the low and high halves of the hash of the url
+     * provide two independent fractions.
+     */
+    private static double fraction(String documentUrl, boolean high) {
+        long hash = HASH_FUNCTION.hashString(documentUrl, StandardCharsets.UTF_8).asLong();
+        long bits = high ? hash >>> 32 : hash & 0xffffffffL;
+        return bits / (double) (1L << 32);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.job;
+
+import com.edduarte.argus.rest.SubscribeRequest;
+
+import java.util.List;
+
+/**
+ * The storage and scheduling backend of a job manager, which keeps the
+ * subscriptions of every watched document and periodically triggers the
+ * detection of each document.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public interface JobBackend {
+
+    /**
+     * Starts this backend, which from then on triggers the detections of the
+     * scheduled documents through the specified job manager.
+     */
+    void start(JobManager manager) throws Exception;
+
+    /**
+     * Schedules the detection of the specified document, starting at the next
+     * time that matches the phase of the document for the specified interval
+     * in seconds (see {@link DetectionSchedule}) and repeating with that
+     * interval. Returns false if the document was already scheduled or if it
+     * could not be scheduled.
+     */
+    boolean scheduleDetection(String documentUrl, int interval);
+
+    /**
+     * Changes the interval of the detection of the specified document, where
+     * the next detection keeps its time and only the following ones are
+     * affected by the new interval.
+     */
+    void rescheduleDetection(String documentUrl, int interval);
+
+    /**
+     * Returns the interval of the detection of the specified document in
+     * seconds, or -1 if the document is not scheduled.
+     */
+    int getDetectionInterval(String documentUrl);
+
+    /**
+     * Cancels the detection of the specified document.
+     */
+    void cancelDetection(String documentUrl);
+
+    /**
+     * Stores the specified subscription. Returns false if its client was
+     * already subscribed to its document or if it could not be stored.
+     */
+    boolean addSubscription(SubscribeRequest subscription);
+
+    /**
+     * Removes the subscription of the specified client to the specified
+     * document, returning true if it existed.
+     */
+    boolean removeSubscription(String documentUrl, String clientUrl);
+
+    /**
+     * Returns all subscriptions to the specified document.
+     */
+    List<SubscribeRequest> getSubscriptions(String documentUrl);
+
+    void shutdown();
+}
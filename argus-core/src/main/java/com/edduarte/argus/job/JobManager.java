@@ -20,29 +20,36 @@ import com.edduarte.argus.diff.Difference;
 import com.edduarte.argus.diff.DifferenceMatcher;
 import com.edduarte.argus.keyword.Keyword;
 import com.edduarte.argus.keyword.KeywordSerializer;
+import com.edduarte.argus.notify.NotificationDispatcher;
 import com.edduarte.argus.rest.SubscribeRequest;
 import com.edduarte.argus.util.Constants;
-import com.google.gson.Gson;
+import com.edduarte.argus.util.Stage;
+import com.edduarte.argus.util.TokenBucket;
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.AsyncEventBus;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 import com.google.gson.GsonBuilder;
-import org.quartz.*;
+import org.quartz.Scheduler;
 import org.quartz.impl.DirectSchedulerFactory;
 import org.quartz.impl.StdSchedulerFactory;
-import org.quartz.impl.matchers.GroupMatcher;
 import org.quartz.simpl.SimpleThreadPool;
 import org.quartz.spi.JobStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.util.Calendar;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.3
+ * @version 1.5.0
  * @since 1.0.0
  */
 public class JobManager {
@@ -53,33 +60,128 @@ public class JobManager {
 
     private static final Map<String, JobManager> activeManagers = new HashMap<>();
 
+    /**
+     * The number of consecutive failed detections after which a detection job
+     * is timed-out.
+     */
+    private static final int FAULT_TOLERANCE = 10;
+
+    private static final int MATCH_STAGE_THREADS = 4;
+
+    private static final int MATCH_STAGE_CAPACITY = 1000;
+
+    /**
+     * The factor by which the detection interval of a document that rarely
+     * changes can exceed the smallest interval requested by its clients.
+     */
+    private static final int MAX_BACKOFF = 16;
+
     private final String managerName;
 
     private final JobManagerHandler handler;
 
-    private final int detectionInterval;
-
-    private Scheduler scheduler;
+    /**
+     * The minimum interval between detections of the same document, in
+     * seconds, regardless of the intervals requested by its clients.
+     */
+    private final int minDetectionInterval;
+
+    /**
+     * The stage where differences are matched with keywords and where clients
+     * are notified of the matched differences.
+     */
+    private final Stage matchStage;
+
+    /**
+     * The bus where the completion of every detection is published, and whose
+     * subscribers are invoked in the match stage.
+     */
+    private final EventBus detectionEvents;
+
+    /**
+     * The number of consecutive failed detections of each document.
+     */
+    private final Map<String, Integer> faultCounters;
+
+    /**
+     * The urls of the documents that are currently being detected, which are
+     * not detected again until their current detection completes.
+     */
+    private final Set<String> runningDetections;
+
+    /**
+     * The estimated change rate of each document, which adapts its detection
+     * interval to how often it actually changes.
+     */
+    private final Map<String, ChangeRateEstimator> changeRates;
+
+    /**
+     * The executor where detections that exceeded the fetch-rate limit are
+     * deferred until the limit allows them.
+     */
+    private final ScheduledExecutorService deferredDetections;
+
+    private final SchedulingMetrics schedulingMetrics;
+
+    /**
+     * The limit of detections started per second by this manager, or null if
+     * detections are not limited.
+     */
+    private volatile TokenBucket fetchLimiter;
+
+    /**
+     * The dispatcher of the notifications that are posted to clients, which
+     * never blocks the threads that match differences.
+     */
+    private NotificationDispatcher dispatcher;
+
+    /**
+     * The backend where subscriptions are stored and where detections are
+     * scheduled.
+     */
+    private JobBackend backend;
 
 
     private JobManager(final String managerName,
-                       int detectionInterval,
+                       int minDetectionInterval,
                        final JobManagerHandler handler) {
         this.managerName = managerName;
         this.handler = handler;
-        this.detectionInterval = detectionInterval;
+        this.minDetectionInterval = minDetectionInterval;
+        this.matchStage = new Stage("match", MATCH_STAGE_THREADS, MATCH_STAGE_CAPACITY);
+        // detections complete on threads that must not block, like the
+        // threads of the HTTP client, so their events are enqueued in the
+        // match stage without blocking
+        this.detectionEvents = new AsyncEventBus(matchStage.nonBlocking(), (ex, context) ->
+                logger.error(ex.getMessage(), ex));
+        this.detectionEvents.register(this);
+        this.faultCounters = new ConcurrentHashMap<>();
+        this.runningDetections = ConcurrentHashMap.newKeySet();
+        this.changeRates = new ConcurrentHashMap<>();
+        this.deferredDetections = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "argus-deferred-detections");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.schedulingMetrics = new SchedulingMetrics();
+        this.dispatcher = new NotificationDispatcher();
     }
 
 
+    /**
+     * Creates a new job manager, where every document is detected with the
+     * smallest interval requested by its clients, but never more frequently
+     * than the specified minimum interval in seconds.
+     */
     public static JobManager create(final String managerName,
-                                    final int detectionInterval,
+                                    final int minDetectionInterval,
                                     final JobManagerHandler handler) {
         JobManager existingManager = get(managerName);
         if (existingManager != null) {
             existingManager.stop();
         }
 
-        JobManager newManager = new JobManager(managerName, detectionInterval, handler);
+        JobManager newManager = new JobManager(managerName, minDetectionInterval, handler);
         activeManagers.put(managerName, newManager);
         return newManager;
     }
@@ -90,15 +192,19 @@ public class JobManager {
     }
 
 
-    public void initialize() throws SchedulerException {
+    /**
+     * Initializes this manager with a Quartz backend, configured by the
+     * 'quartz.properties' file.
+     */
+    public void initialize() throws Exception {
         StdSchedulerFactory factory = new StdSchedulerFactory();
-        scheduler = factory.getScheduler();
+        Scheduler scheduler = factory.getScheduler();
         factory = null;
-        scheduler.start();
+        initialize(new QuartzJobBackend(scheduler));
     }
 
 
-    public void initialize(JobStore jobStore, int maxThreads) throws SchedulerException {
+    public void initialize(JobStore jobStore, int maxThreads) throws Exception {
         DirectSchedulerFactory factory = DirectSchedulerFactory.getInstance();
         factory.createScheduler(
                 SCHEDULER_NAME,
@@ -106,202 +212,387 @@ public class JobManager {
                 new SimpleThreadPool(maxThreads, 5),
                 jobStore
         );
-        scheduler = factory.getScheduler(SCHEDULER_NAME);
+        Scheduler scheduler = factory.getScheduler(SCHEDULER_NAME);
         factory = null;
-        scheduler.start();
+        initialize(new QuartzJobBackend(scheduler));
     }
 
 
-    public boolean createJob(final SubscribeRequest request) {
+    /**
+     * Limits the detections started by this manager to the specified number
+     * per second, with bursts of up to one second of detections. Detections
+     * that exceed the limit are deferred instead of dropped. A rate of 0
+     * removes the limit.
+     */
+    public void setMaxFetchRate(double fetchesPerSecond) {
+        this.fetchLimiter = fetchesPerSecond > 0 ?
+                new TokenBucket(fetchesPerSecond, Math.max(1, (int) fetchesPerSecond)) :
+                null;
+    }
 
-        String documentUrl = request.getDocumentUrl();
-        String clientUrl = request.getClientUrl();
 
-        try {
-            // attempt creating a new DiffDetectorJob
-            JobDetail detectionJob = JobBuilder.newJob(DetectionJob.class)
-                    .withIdentity(documentUrl, "detection" + documentUrl)
-                    .usingJobData(DetectionJob.PARENT_JOB_MANAGER, managerName)
-                    .usingJobData(DetectionJob.FAULT_COUNTER, 0)
-                    .build();
-
-            Trigger detectionTrigger = TriggerBuilder.newTrigger()
-                    .withIdentity(documentUrl, "detection" + documentUrl)
-                    .withSchedule(SimpleScheduleBuilder.simpleSchedule()
-                            .withIntervalInSeconds(detectionInterval)
-                            .repeatForever())
-                    .build();
-
-            try {
-                scheduler.scheduleJob(detectionJob, detectionTrigger);
-                logger.info("Started detection job for '{}'.", documentUrl);
-            } catch (ObjectAlreadyExistsException ignored) {
-                // there is already a job monitoring the request url, so ignore this
-            }
+    /**
+     * Replaces the default dispatcher of this manager, which has no
+     * persistent outbox, with the specified one. This must be invoked before
+     * this manager is initialized.
+     */
+    public void setNotificationDispatcher(NotificationDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
 
-            String keywordJson = new Gson().toJson(request.getKeywords());
-
-            JobDetail matchingJob = JobBuilder.newJob(MatchingJob.class)
-                    .withIdentity(clientUrl, "matching" + documentUrl)
-                    .usingJobData(MatchingJob.PARENT_JOB_MANAGER, managerName)
-                    .usingJobData(MatchingJob.REQUEST_URL, documentUrl)
-                    .usingJobData(MatchingJob.KEYWORDS, keywordJson)
-                    .usingJobData(MatchingJob.IGNORE_ADDED, request.getIgnoreAdded())
-                    .usingJobData(MatchingJob.IGNORE_REMOVED, request.getIgnoreRemoved())
-                    .usingJobData(MatchingJob.HAS_NEW_DIFFS, false)
-                    .build();
-
-            GregorianCalendar cal = new GregorianCalendar();
-            cal.add(Calendar.SECOND, request.getInterval());
-
-            Trigger matchingTrigger = TriggerBuilder.newTrigger()
-                    .withIdentity(clientUrl, "matching" + documentUrl)
-                    .startAt(cal.getTime())
-                    .withSchedule(SimpleScheduleBuilder.simpleSchedule()
-                            .withIntervalInSeconds(request.getInterval())
-                            .repeatForever())
-                    .build();
-
-            try {
-                scheduler.scheduleJob(matchingJob, matchingTrigger);
-            } catch (ObjectAlreadyExistsException ex) {
-                return false;
-            }
 
-        } catch (SchedulerException ex) {
-            logger.error(ex.getMessage(), ex);
+    public void initialize(JobBackend backend) throws Exception {
+        dispatcher.start();
+        this.backend = backend;
+        backend.start(this);
+    }
+
+
+    public boolean createJob(final SubscribeRequest request) {
+        String documentUrl = request.getDocumentUrl();
+
+        // attempt creating a new detection job, with a period that is jittered
+        // per document so that documents with the same interval drift apart
+        int interval = DetectionSchedule.getPeriod(documentUrl,
+                Math.max(minDetectionInterval, request.getInterval()));
+        if (backend.scheduleDetection(documentUrl, interval)) {
+            logger.info("Started detection job for '{}'.", documentUrl);
         }
 
+        if (!backend.addSubscription(request)) {
+            return false;
+        }
+
+        updateDetectionInterval(documentUrl);
         return true;
     }
 
 
     void timeoutDetectionJob(String documentUrl) {
-        try {
-            Set<JobKey> keys = scheduler.getJobKeys(GroupMatcher.groupEquals("matching" + documentUrl));
-            for (JobKey k : keys) {
-                String clientUrl = k.getName();
-                sendTimeoutResponse(documentUrl, clientUrl);
-                scheduler.interrupt(k);
-                scheduler.deleteJob(k);
-            }
-
-            JobKey detectJobKey = new JobKey(documentUrl, "detection" + documentUrl);
-            scheduler.interrupt(detectJobKey);
-            scheduler.deleteJob(detectJobKey);
-            handler.removeExistingDifferences(documentUrl);
-            logger.info("Timed-out detection job for '{}'.", documentUrl);
-        } catch (SchedulerException ex) {
-            logger.error(ex.getMessage(), ex);
+        for (SubscribeRequest s : backend.getSubscriptions(documentUrl)) {
+            sendTimeoutResponse(documentUrl, s);
+            backend.removeSubscription(documentUrl, s.getClientUrl());
         }
+
+        backend.cancelDetection(documentUrl);
+        forgetDocument(documentUrl);
+        logger.info("Timed-out detection job for '{}'.", documentUrl);
     }
 
 
     public boolean cancelMatchingJob(String documentUrl, final String clientUrl) {
-        JobKey matchingJobKey = new JobKey(clientUrl, "matching" + documentUrl);
-        return cancelMatchingJobAux(documentUrl, matchingJobKey);
+        boolean wasDeleted = backend.removeSubscription(documentUrl, clientUrl);
+
+        if (wasDeleted) {
+            // check if there are more match jobs for the same request url
+            if (backend.getSubscriptions(documentUrl).isEmpty()) {
+                // no more matching jobs for this document! cancel the
+                // detection job
+                backend.cancelDetection(documentUrl);
+                forgetDocument(documentUrl);
+                logger.info("Canceled detection job for '{}'.", documentUrl);
+
+            } else {
+                // the canceled client could have been the one that
+                // requested the smallest interval
+                updateDetectionInterval(documentUrl);
+            }
+        }
+
+        return wasDeleted;
     }
 
-    private boolean cancelMatchingJobAux(String documentUrl, JobKey jobKey) {
-        try {
-            scheduler.interrupt(jobKey);
-            boolean wasDeleted = scheduler.deleteJob(jobKey);
-
-            if (wasDeleted) {
-                // check if there are more match jobs for the same request url
-                Set<JobKey> keys = scheduler.getJobKeys(GroupMatcher.groupEquals("matching" + documentUrl));
-                if (keys.isEmpty()) {
-                    // no more matching jobs for this document! interrupt the
-                    // DiffDetectJob
-                    JobKey detectJobKey = new JobKey(documentUrl, "detection" + documentUrl);
-                    scheduler.interrupt(detectJobKey);
-                    scheduler.deleteJob(detectJobKey);
-                    handler.removeExistingDifferences(documentUrl);
-                    logger.info("Canceled detection job for '{}'.", documentUrl);
-                }
-            }
 
-            return wasDeleted;
+    private void forgetDocument(String documentUrl) {
+        faultCounters.remove(documentUrl);
+        changeRates.remove(documentUrl);
+        handler.removeExistingDifferences(documentUrl);
+    }
 
-        } catch (SchedulerException ex) {
-            logger.error(ex.getMessage(), ex);
+
+    /**
+     * Reschedules the detection job of the specified document to run with the
+     * interval that matches its estimated change rate, bounded by the smallest
+     * interval requested by its clients and by a multiple of it, if that
+     * interval changed.
+     */
+    private void updateDetectionInterval(String documentUrl) {
+        int currentInterval = backend.getDetectionInterval(documentUrl);
+        if (currentInterval <= 0) {
+            // the detection job was canceled in the meantime
+            return;
         }
-        return false;
+
+        int minInterval = backend.getSubscriptions(documentUrl).stream()
+                .mapToInt(SubscribeRequest::getInterval)
+                .filter(i -> i > 0)
+                .min()
+                .orElse(minDetectionInterval);
+        minInterval = Math.max(minDetectionInterval, minInterval);
+        int maxInterval = minInterval * MAX_BACKOFF;
+
+        int interval = minInterval;
+        ChangeRateEstimator estimator = changeRates.get(documentUrl);
+        if (estimator != null) {
+            interval = estimator.getInterval(minInterval, maxInterval);
+        }
+        boolean isMinInterval = interval == minInterval;
+
+        // every interval is jittered, including the bounds, so the intervals
+        // of the backend are compared to jittered intervals only
+        interval = DetectionSchedule.getPeriod(documentUrl, interval);
+        minInterval = DetectionSchedule.getPeriod(documentUrl, minInterval);
+        maxInterval = DetectionSchedule.getPeriod(documentUrl, maxInterval);
+
+        if (interval == currentInterval) {
+            return;
+        }
+        if (!isMinInterval &&
+                currentInterval >= minInterval && currentInterval <= maxInterval &&
+                Math.abs(interval - currentInterval) * 10 < currentInterval) {
+            // avoid rescheduling on every detection for estimates that differ
+            // by less than 10% from the current interval
+            return;
+        }
+
+        backend.rescheduleDetection(documentUrl, interval);
+        logger.info("Changed detection interval for '{}' to {} seconds.",
+                documentUrl, interval);
     }
 
 
     public void stop() {
-        try {
-            scheduler.shutdown();
-        } catch (SchedulerException ex) {
-            logger.error(ex.getMessage(), ex);
+        if (backend != null) {
+            backend.shutdown();
         }
+        deferredDetections.shutdownNow();
+        matchStage.shutdown();
+        dispatcher.stop();
     }
 
 
-    final boolean callDetectDiffImpl(String documentUrl) {
-        boolean wasSuccessful = handler.detectDifferences(documentUrl);
+    String getName() {
+        return managerName;
+    }
 
-        // notify all matching jobs of that url that there are new differences to match
-        if (wasSuccessful) {
-            try {
-                Set<JobKey> keys = scheduler.getJobKeys(GroupMatcher.groupEquals("matching" + documentUrl));
-                for (JobKey k : keys) {
-                    JobDetail jobDetail = scheduler.getJobDetail(k);
-                    List<? extends Trigger> triggerList = scheduler.getTriggersOfJob(k);
-                    if (!triggerList.isEmpty()) {
-                        Trigger trigger = triggerList.get(0);
 
-                        // update job to say that he has new diffs
-                        JobDataMap dataMap = jobDetail.getJobDataMap();
-                        dataMap.put(MatchingJob.HAS_NEW_DIFFS, true);
+    public Stage getMatchStage() {
+        return matchStage;
+    }
 
-                        attemptRefreshJob(jobDetail, trigger, 10);
 
-                    } else {
-                        // invalid state, where there is still an active job
-                        // without triggers
-                        // unschedule it!
-                        cancelMatchingJobAux(documentUrl, k);
-                    }
-                }
-            } catch (SchedulerException ex) {
+    public NotificationDispatcher getNotificationDispatcher() {
+        return dispatcher;
+    }
+
+
+    public SchedulingMetrics getSchedulingMetrics() {
+        return schedulingMetrics;
+    }
+
+
+    /**
+     * Detects the specified document, which was scheduled to be detected at
+     * the specified time in milliseconds. If the fetch-rate limit was reached,
+     * the detection is deferred until the limit allows it, and further
+     * detections of the same document are skipped until then.
+     */
+    final void callDetectDiffImpl(String documentUrl, long scheduledMillis) {
+        if (!runningDetections.add(documentUrl)) {
+            logger.info("Skipped detection for '{}': Previous detection is still running.",
+                    documentUrl);
+            return;
+        }
+
+        TokenBucket limiter = fetchLimiter;
+        long delay = limiter != null ? limiter.reserve() : 0;
+        if (delay <= 0) {
+            startDetection(documentUrl, scheduledMillis);
+            return;
+        }
+
+        schedulingMetrics.recordDeferred();
+        try {
+            deferredDetections.schedule(() -> startDetection(documentUrl, scheduledMillis),
+                    delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            // this manager was stopped
+            runningDetections.remove(documentUrl);
+        }
+    }
+
+
+    private void startDetection(String documentUrl, long scheduledMillis) {
+        schedulingMetrics.recordStarted(System.currentTimeMillis() - scheduledMillis);
+
+        CompletableFuture<DetectionResult> detection;
+        try {
+            detection = handler.detectDifferences(documentUrl);
+        } catch (RuntimeException ex) {
+            // a detection that could not be started is handled like any other
+            // failed detection, so that the document does not stay running
+            logger.error(ex.getMessage(), ex);
+            detection = CompletableFuture.completedFuture(DetectionResult.failed);
+        }
+
+        detection.whenComplete((result, ex) -> {
+            runningDetections.remove(documentUrl);
+            if (ex != null) {
                 logger.error(ex.getMessage(), ex);
+                result = DetectionResult.failed;
             }
+
+            // publish the completion of the detection, so that the matching
+            // jobs of that url are matched if the document changed; this
+            // callback may run on a thread of the HTTP client, so everything
+            // else is handled by the subscribers in the match stage
+            detectionEvents.post(new DetectionCompletedEvent(documentUrl, result));
+        });
+    }
+
+
+    /**
+     * Counts the consecutive failed detections of a document, and times out
+     * its detection job once they exceed the fault tolerance. This is invoked
+     * in the match stage.
+     */
+    @Subscribe
+    @AllowConcurrentEvents
+    public void countFaults(DetectionCompletedEvent event) {
+        String documentUrl = event.getDocumentUrl();
+        if (event.getResult() != DetectionResult.failed) {
+            faultCounters.remove(documentUrl);
+
+        } else if (faultCounters.merge(documentUrl, 1, Integer::sum) >= FAULT_TOLERANCE) {
+            // exceeded fault tolerance, so cancel this job and notify matcher jobs
+            timeoutDetectionJob(documentUrl);
+        }
+    }
+
+
+    /**
+     * Matches the new differences of a changed document with the keywords of
+     * all of its clients, and notifies each client of its matched
+     * differences. This is invoked in the match stage.
+     */
+    @Subscribe
+    @AllowConcurrentEvents
+    public void onDetectionCompleted(DetectionCompletedEvent event) {
+        if (event.getResult() == DetectionResult.changed) {
+            matchAndNotify(event.getDocumentUrl(), null);
+        }
+    }
+
+
+    /**
+     * Updates the estimated change rate of a detected document and adapts its
+     * detection interval to it. This is invoked in the match stage.
+     */
+    @Subscribe
+    @AllowConcurrentEvents
+    public void adaptDetectionInterval(DetectionCompletedEvent event) {
+        String documentUrl = event.getDocumentUrl();
+        DetectionResult result = event.getResult();
+        if (result == DetectionResult.failed) {
+            // the next detection will cover the interval of this one
+            return;
         }
 
-        return wasSuccessful;
+        int currentInterval = backend.getDetectionInterval(documentUrl);
+        if (currentInterval <= 0) {
+            return;
+        }
+
+        changeRates.computeIfAbsent(documentUrl, k -> new ChangeRateEstimator(currentInterval))
+                .observe(result == DetectionResult.changed, System.currentTimeMillis());
+        updateDetectionInterval(documentUrl);
     }
 
 
-    private void attemptRefreshJob(JobDetail jobDetail, Trigger trigger, int tries) {
-        if (tries > 0) {
-            try {
-                scheduler.unscheduleJob(trigger.getKey());
-                scheduler.scheduleJob(jobDetail, trigger);
-            } catch (SchedulerException ignored) {
-                // could not refresh job because the it did not unschedule properly
-                int newCount = tries - 1;
-                logger.info("Error while refreshing job, attempting " + newCount + " more times.");
-                attemptRefreshJob(jobDetail, trigger, newCount);
+    /**
+     * Matches the existing differences of the specified document with the
+     * keywords of the specified client and notifies the client of the
+     * matched differences, in the match stage.
+     */
+    final void callMatchImpl(final String documentUrl, final String clientUrl) {
+        matchStage.submit(() -> {
+            matchAndNotify(documentUrl, clientUrl);
+            return null;
+        }).exceptionally(ex -> {
+            logger.error(ex.getMessage(), ex);
+            return null;
+        });
+    }
+
+
+    /**
+     * Loads the existing differences of the specified document once and
+     * matches them with the keywords of all of its clients in a single pass,
+     * notifying each client of its matched differences. If a client url is
+     * specified, only that client is matched and notified.
+     */
+    private void matchAndNotify(String documentUrl, String clientUrl) {
+        List<SubscribeRequest> requests = backend.getSubscriptions(documentUrl).stream()
+                .filter(s -> clientUrl == null || clientUrl.equals(s.getClientUrl()))
+                .collect(Collectors.toList());
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        List<Difference> diffs = handler.getExistingDifferences(documentUrl);
+        MatchingPass pass = MatchingPass.run(diffs, getSubscriptions(requests));
+        for (SubscribeRequest s : requests) {
+            Set<DifferenceMatcher.Result> results = pass.getResults(s.getClientUrl());
+            if (results != null && !results.isEmpty()) {
+                responseOk(documentUrl, s, results);
             }
         }
     }
 
 
-    final List<Difference> callGetDiffsImpl(String url) {
-        return handler.getExistingDifferences(url);
+    /**
+     * Builds the keywords of each of the specified requests. Keywords that
+     * could not be built are left out of the subscription of their client
+     * only, so that they do not fail the matching pass of every client.
+     */
+    private List<MatchingPass.Subscription> getSubscriptions(List<SubscribeRequest> requests) {
+        List<MatchingPass.Subscription> subscriptions = new ArrayList<>();
+        for (SubscribeRequest s : requests) {
+            List<Keyword> keywords = new ArrayList<>();
+            for (String keywordInput : s.getKeywords()) {
+                Keyword keyword = buildKeyword(keywordInput);
+                if (keyword != null) {
+                    keywords.add(keyword);
+                } else {
+                    logger.warn("Ignored keyword '{}' of client '{}' for '{}': Keyword could not be built.",
+                            keywordInput, s.getClientUrl(), s.getDocumentUrl());
+                }
+            }
+
+            subscriptions.add(new MatchingPass.Subscription(
+                    s.getClientUrl(),
+                    keywords,
+                    s.getIgnoreAdded(),
+                    s.getIgnoreRemoved()
+            ));
+        }
+        return subscriptions;
     }
 
 
-    final Keyword callBuildKeyword(String keywordInput) {
-        return handler.buildKeyword(keywordInput);
+    private Keyword buildKeyword(String keywordInput) {
+        try {
+            return handler.buildKeyword(keywordInput);
+        } catch (RuntimeException ex) {
+            logger.error(ex.getMessage(), ex);
+            return null;
+        }
     }
 
 
-    final boolean responseOk(final String documentUrl,
-                             final String clientUrl,
-                             final Set<DifferenceMatcher.Result> diffs) {
+    final void responseOk(final String documentUrl,
+                          final SubscribeRequest request,
+                          final Set<DifferenceMatcher.Result> diffs) {
         Map<String, Object> jsonResponseMap = new LinkedHashMap<>();
         jsonResponseMap.put("status", "ok");
         jsonResponseMap.put("url", documentUrl);
@@ -309,12 +600,12 @@ public class JobManager {
         GsonBuilder gsonBuilder = new GsonBuilder();
         gsonBuilder.registerTypeAdapter(Keyword.class, new KeywordSerializer());
         String input = gsonBuilder.create().toJson(jsonResponseMap);
-        return sendResponse(clientUrl, input);
+        sendNotification(request, input);
     }
 
 
-    final boolean sendTimeoutResponse(final String documentUrl,
-                                      final String clientUrl) {
+    final void sendTimeoutResponse(final String documentUrl,
+                                   final SubscribeRequest request) {
         Map<String, Object> jsonResponseMap = new LinkedHashMap<>();
         jsonResponseMap.put("status", "timeout");
         jsonResponseMap.put("url", documentUrl);
@@ -323,30 +614,19 @@ public class JobManager {
         GsonBuilder gsonBuilder = new GsonBuilder();
         gsonBuilder.registerTypeAdapter(Keyword.class, new KeywordSerializer());
         String input = gsonBuilder.create().toJson(jsonResponseMap);
-        return sendResponse(clientUrl, input);
+        sendNotification(request, input);
     }
 
 
-    private boolean sendResponse(final String clientUrl, final String input) {
-        try {
-            URL targetUrl = new URL(clientUrl);
-
-            HttpURLConnection httpConnection = (HttpURLConnection) targetUrl.openConnection();
-            httpConnection.setDoOutput(true);
-            httpConnection.setRequestMethod("POST");
-            httpConnection.setRequestProperty("Content-Type", "application/json");
-
-            OutputStream outputStream = httpConnection.getOutputStream();
-            outputStream.write(input.getBytes());
-            outputStream.flush();
-
-            int responseCode = httpConnection.getResponseCode();
-            httpConnection.disconnect();
-            return responseCode == 200;
-
-        } catch (IOException ex) {
-            logger.error(ex.getMessage(), ex);
+    /**
+     * Dispatches the specified JSON message to the client of the specified
+     * request, either right away or in a batch, as requested by the client.
+     */
+    private void sendNotification(SubscribeRequest request, String input) {
+        if (request.getBatch()) {
+            dispatcher.dispatchBatched(request.getClientUrl(), input, request.getCompress());
+        } else {
+            dispatcher.dispatch(request.getClientUrl(), input, request.getCompress());
         }
-        return false;
     }
 }
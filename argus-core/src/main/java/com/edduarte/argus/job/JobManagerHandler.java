@@ -20,10 +20,11 @@ import com.edduarte.argus.diff.Difference;
 import com.edduarte.argus.keyword.Keyword;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public interface JobManagerHandler {
@@ -32,9 +33,13 @@ public interface JobManagerHandler {
      * Indexes the specified document and detects differences between an older
      * snapshot and the new one. Once differences are collected, saves the resulting
      * index of all occurrences of the new snapshot for future query and comparison
-     * jobs.
+     * jobs. If the document did not change since the older snapshot, the older
+     * snapshot and its differences are kept.
+     * <p>
+     * The detection is performed asynchronously, and the returned future
+     * completes with the result of the detection.
      */
-    boolean detectDifferences(String url);
+    CompletableFuture<DetectionResult> detectDifferences(String url);
 
     /**
      * Collects the existing differences that were stored in the database.
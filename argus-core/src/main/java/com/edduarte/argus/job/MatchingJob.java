@@ -16,48 +16,59 @@
 
 package com.edduarte.argus.job;
 
-import com.edduarte.argus.diff.Difference;
-import com.edduarte.argus.diff.DifferenceMatcher;
-import com.edduarte.argus.keyword.Keyword;
-import com.google.gson.Gson;
 import org.quartz.InterruptableJob;
 import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.quartz.JobKey;
-import org.quartz.PersistJobDataAfterExecution;
 import org.quartz.UnableToInterruptJobException;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-
 /**
+ * A job that holds the keywords and settings of a client subscribed to a
+ * document. Matching jobs are stored durably without triggers, and are
+ * matched by their job manager every time a detection of their document
+ * completes with new differences. Executing a matching job directly notifies
+ * its client of the existing differences of the document.
+ *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
-@PersistJobDataAfterExecution
 public class MatchingJob implements InterruptableJob {
 
+    /**
+     * The prefix of the group of the matching jobs of each document, which is
+     * followed by the url of the document.
+     */
+    public static final String GROUP_PREFIX = "matching";
+
     public static final String PARENT_JOB_MANAGER = "parent_job_manager";
 
     public final static String REQUEST_URL = "request_url";
 
     public final static String KEYWORDS = "keywords";
 
-    public final static String HAS_NEW_DIFFS = "has_new_diffs";
+    public final static String INTERVAL = "interval";
 
     public final static String IGNORE_ADDED = "ignore_added";
 
     public final static String IGNORE_REMOVED = "ignore_removed";
 
+    public final static String BATCH = "batch";
+
+    public final static String COMPRESS = "compress";
+
 
     @Override
     public void execute(JobExecutionContext context)
             throws JobExecutionException {
 
+        if (context.getTrigger().getKey().getGroup().startsWith(GROUP_PREFIX)) {
+            // a repeating trigger of an older version that was not unscheduled
+            // yet, which must not notify the client of the same differences
+            return;
+        }
+
         JobKey key = context.getJobDetail().getKey();
         String responseUrl = key.getName();
         JobDataMap dataMap = context.getJobDetail().getJobDataMap();
@@ -70,27 +81,8 @@ public class MatchingJob implements InterruptableJob {
 
         String requestUrl = dataMap.getString(REQUEST_URL);
 
-        List<String> keywords = new Gson().fromJson(dataMap.getString(KEYWORDS), ArrayList.class);
-        boolean hasNewDifferences = dataMap.getBoolean(HAS_NEW_DIFFS);
-        boolean ignoreAdded = dataMap.getBoolean(IGNORE_ADDED);
-        boolean ignoreRemoved = dataMap.getBoolean(IGNORE_REMOVED);
-
-        if (hasNewDifferences) {
-            dataMap.put(HAS_NEW_DIFFS, false);
-
-            // build keywords
-            List<Keyword> kws = keywords.stream()
-                    .map(manager::callBuildKeyword)
-                    .collect(Collectors.toList());
-
-            // match them
-            List<Difference> diffs = manager.callGetDiffsImpl(requestUrl);
-            DifferenceMatcher matcher = new DifferenceMatcher(kws, diffs, ignoreAdded, ignoreRemoved);
-            Set<DifferenceMatcher.Result> results = matcher.call();
-            if (!results.isEmpty()) {
-                manager.responseOk(requestUrl, responseUrl, results);
-            }
-        }
+        // match the differences and notify the client in the match stage
+        manager.callMatchImpl(requestUrl, responseUrl);
     }
 
 
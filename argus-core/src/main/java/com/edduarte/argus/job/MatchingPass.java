@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.job;
+
+import com.edduarte.argus.diff.Difference;
+import com.edduarte.argus.diff.DifferenceAction;
+import com.edduarte.argus.diff.DifferenceMatcher;
+import com.edduarte.argus.keyword.Keyword;
+import com.edduarte.argus.keyword.KeywordIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The result of matching the differences of a single detection of a document
+ * with the keywords of every client that is subscribed to it. The keywords of
+ * all clients are compiled into one {@link KeywordIndex}, so the differences
+ * are matched once per detection, and the matched differences are then fanned
+ * out to each client according to its keywords and settings.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+final class MatchingPass {
+
+    private final Map<String, Set<DifferenceMatcher.Result>> clientResults;
+
+
+    private MatchingPass(final Map<String, Set<DifferenceMatcher.Result>> clientResults) {
+        this.clientResults = clientResults;
+    }
+
+
+    /**
+     * Matches the specified differences with the keywords of all of the
+     * specified subscriptions.
+     */
+    static MatchingPass run(final List<Difference> differences,
+                            final List<Subscription> subscriptions) {
+        // keywords that are shared by multiple clients are only indexed once
+        Map<Keyword, List<Subscription>> subscribersByKeyword = new LinkedHashMap<>();
+        for (Subscription s : subscriptions) {
+            for (Keyword k : s.keywords) {
+                subscribersByKeyword.computeIfAbsent(k, key -> new ArrayList<>()).add(s);
+            }
+        }
+
+        Map<String, Set<DifferenceMatcher.Result>> clientResults = new HashMap<>();
+        subscriptions.forEach(s -> clientResults.put(s.clientUrl, new LinkedHashSet<>()));
+
+        KeywordIndex index = KeywordIndex.of(subscribersByKeyword.keySet());
+        Set<DifferenceMatcher.Result> results =
+                new DifferenceMatcher(index, differences, false, false).call();
+
+        for (DifferenceMatcher.Result r : results) {
+            for (Subscription s : subscribersByKeyword.get(r.keyword)) {
+                if (s.isReported(r.action)) {
+                    clientResults.get(s.clientUrl).add(r);
+                }
+            }
+        }
+
+        return new MatchingPass(clientResults);
+    }
+
+
+    /**
+     * Returns the urls of all of the clients that were matched by this pass.
+     */
+    Set<String> getClientUrls() {
+        return Collections.unmodifiableSet(clientResults.keySet());
+    }
+
+
+    /**
+     * Returns the matched differences for the specified client, or null if the
+     * client was not subscribed to the document when this pass was run.
+     */
+    Set<DifferenceMatcher.Result> getResults(String clientUrl) {
+        Set<DifferenceMatcher.Result> results = clientResults.get(clientUrl);
+        return results != null ? Collections.unmodifiableSet(results) : null;
+    }
+
+
+    /**
+     * The keywords and settings of a single client subscribed to a document.
+     */
+    static final class Subscription {
+
+        private final String clientUrl;
+
+        private final List<Keyword> keywords;
+
+        private final boolean ignoreAdded;
+
+        private final boolean ignoreRemoved;
+
+
+        Subscription(final String clientUrl,
+                     final List<Keyword> keywords,
+                     final boolean ignoreAdded,
+                     final boolean ignoreRemoved) {
+            this.clientUrl = clientUrl;
+            this.keywords = keywords;
+            this.ignoreAdded = ignoreAdded;
+            this.ignoreRemoved = ignoreRemoved;
+        }
+
+
+        private boolean isReported(DifferenceAction action) {
+            return (action == DifferenceAction.inserted && !ignoreAdded) ||
+                    (action == DifferenceAction.deleted && !ignoreRemoved);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.job;
+
+import com.edduarte.argus.rest.SubscribeRequest;
+import com.google.gson.Gson;
+import org.quartz.*;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A job backend that stores every subscription as a durable matching job and
+ * every watched document as a repeating detection job in a Quartz scheduler,
+ * where the jobs of each document are grouped by its url.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class QuartzJobBackend implements JobBackend {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuartzJobBackend.class);
+
+    private final Scheduler scheduler;
+
+    private String managerName;
+
+
+    public QuartzJobBackend(final Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+
+    @Override
+    public void start(JobManager manager) throws SchedulerException {
+        this.managerName = manager.getName();
+        unscheduleMatchingJobs();
+        scheduler.start();
+    }
+
+
+    /**
+     * Removes the repeating triggers of the matching jobs that were stored by
+     * older versions, which would otherwise notify their clients of the same
+     * differences on every interval. These jobs are stored durably first, so
+     * that they are not deleted along with their last trigger.
+     */
+    private void unscheduleMatchingJobs() throws SchedulerException {
+        for (String group : scheduler.getJobGroupNames()) {
+            if (!group.startsWith(MatchingJob.GROUP_PREFIX)) {
+                continue;
+            }
+            for (JobKey key : scheduler.getJobKeys(GroupMatcher.jobGroupEquals(group))) {
+                List<? extends Trigger> triggers = scheduler.getTriggersOfJob(key);
+                if (triggers.isEmpty()) {
+                    continue;
+                }
+                JobDetail jobDetail = scheduler.getJobDetail(key);
+                if (!jobDetail.isDurable()) {
+                    scheduler.addJob(jobDetail.getJobBuilder().storeDurably().build(), true);
+                }
+                for (Trigger trigger : triggers) {
+                    scheduler.unscheduleJob(trigger.getKey());
+                }
+                logger.info("Unscheduled the repeating matching job of client '{}' for '{}'.",
+                        key.getName(), group.substring(MatchingJob.GROUP_PREFIX.length()));
+            }
+        }
+    }
+
+
+    @Override
+    public boolean scheduleDetection(String documentUrl, int interval) {
+        JobDetail detectionJob = JobBuilder.newJob(DetectionJob.class)
+                .withIdentity(documentUrl, "detection" + documentUrl)
+                .usingJobData(DetectionJob.PARENT_JOB_MANAGER, managerName)
+                .build();
+
+        try {
+            Date startTime = new Date(DetectionSchedule.getNextStart(
+                    documentUrl, interval, System.currentTimeMillis()));
+            scheduler.scheduleJob(detectionJob, newDetectionTrigger(documentUrl, interval, startTime));
+            return true;
+        } catch (ObjectAlreadyExistsException ignored) {
+            // there is already a job monitoring the request url, so ignore this
+        } catch (SchedulerException ex) {
+            logger.error(ex.getMessage(), ex);
+        }
+        return false;
+    }
+
+
+    @Override
+    public void rescheduleDetection(String documentUrl, int interval) {
+        try {
+            TriggerKey triggerKey = new TriggerKey(documentUrl, "detection" + documentUrl);
+            Trigger trigger = scheduler.getTrigger(triggerKey);
+            if (trigger != null) {
+                // the pending detection is kept, unless the new interval would
+                // start the next detection earlier
+                long latestStart = System.currentTimeMillis() + interval * 1000L;
+                Date nextFireTime = trigger.getNextFireTime();
+                Date startTime = nextFireTime != null && nextFireTime.getTime() < latestStart ?
+                        nextFireTime : new Date(latestStart);
+                scheduler.rescheduleJob(triggerKey, newDetectionTrigger(
+                        documentUrl, interval, startTime));
+            }
+        } catch (SchedulerException ex) {
+            logger.error(ex.getMessage(), ex);
+        }
+    }
+
+
+    @Override
+    public int getDetectionInterval(String documentUrl) {
+        try {
+            TriggerKey triggerKey = new TriggerKey(documentUrl, "detection" + documentUrl);
+            Trigger trigger = scheduler.getTrigger(triggerKey);
+            if (trigger instanceof SimpleTrigger) {
+                return (int) (((SimpleTrigger) trigger).getRepeatInterval() / 1000);
+            }
+        } catch (SchedulerException ex) {
+            logger.error(ex.getMessage(), ex);
+        }
+        return -1;
+    }
+
+
+    @Override
+    public void cancelDetection(String documentUrl) {
+        try {
+            JobKey detectJobKey = new JobKey(documentUrl, "detection" + documentUrl);
+            scheduler.interrupt(detectJobKey);
+            scheduler.deleteJob(detectJobKey);
+        } catch (SchedulerException ex) {
+            logger.error(ex.getMessage(), ex);
+        }
+    }
+
+
+    @Override
+    public boolean addSubscription(SubscribeRequest subscription) {
+        String documentUrl = subscription.getDocumentUrl();
+        String keywordJson = new Gson().toJson(subscription.getKeywords());
+
+        // matching jobs are not scheduled, but rather stored durably so
+        // that they are matched every time that their detection completes
+        JobDetail matchingJob = JobBuilder.newJob(MatchingJob.class)
+                .withIdentity(subscription.getClientUrl(), MatchingJob.GROUP_PREFIX + documentUrl)
+                .usingJobData(MatchingJob.PARENT_JOB_MANAGER, managerName)
+                .usingJobData(MatchingJob.REQUEST_URL, documentUrl)
+                .usingJobData(MatchingJob.KEYWORDS, keywordJson)
+                .usingJobData(MatchingJob.INTERVAL, subscription.getInterval())
+                .usingJobData(MatchingJob.IGNORE_ADDED, subscription.getIgnoreAdded())
+                .usingJobData(MatchingJob.IGNORE_REMOVED, subscription.getIgnoreRemoved())
+                .usingJobData(MatchingJob.BATCH, subscription.getBatch())
+                .usingJobData(MatchingJob.COMPRESS, subscription.getCompress())
+                .storeDurably()
+                .build();
+
+        try {
+            scheduler.addJob(matchingJob, false);
+            return true;
+        } catch (ObjectAlreadyExistsException ignored) {
+            // the client is already subscribed to this document
+        } catch (SchedulerException ex) {
+            logger.error(ex.getMessage(), ex);
+        }
+        return false;
+    }
+
+
+    @Override
+    public boolean removeSubscription(String documentUrl, String clientUrl) {
+        try {
+            JobKey matchingJobKey = new JobKey(clientUrl, MatchingJob.GROUP_PREFIX + documentUrl);
+            scheduler.interrupt(matchingJobKey);
+            return scheduler.deleteJob(matchingJobKey);
+        } catch (SchedulerException ex) {
+            logger.error(ex.getMessage(), ex);
+        }
+        return false;
+    }
+
+
+    @Override
+    public List<SubscribeRequest> getSubscriptions(String documentUrl) {
+        List<SubscribeRequest> subscriptions = new ArrayList<>();
+        Gson gson = new Gson();
+
+        try {
+            Set<JobKey> keys = scheduler.getJobKeys(GroupMatcher.groupEquals(MatchingJob.GROUP_PREFIX + documentUrl));
+            for (JobKey k : keys) {
+                JobDetail jobDetail = scheduler.getJobDetail(k);
+                if (jobDetail == null) {
+                    // the client unsubscribed in the meantime
+                    continue;
+                }
+
+                JobDataMap dataMap = jobDetail.getJobDataMap();
+                List<String> keywords = gson.fromJson(
+                        dataMap.getString(MatchingJob.KEYWORDS), ArrayList.class);
+                int interval = dataMap.containsKey(MatchingJob.INTERVAL) ?
+                        dataMap.getInt(MatchingJob.INTERVAL) : 0;
+                boolean batch = dataMap.containsKey(MatchingJob.BATCH) &&
+                        dataMap.getBoolean(MatchingJob.BATCH);
+                boolean compress = dataMap.containsKey(MatchingJob.COMPRESS) &&
+                        dataMap.getBoolean(MatchingJob.COMPRESS);
+
+                subscriptions.add(new SubscribeRequest(
+                        documentUrl,
+                        k.getName(),
+                        keywords,
+                        interval,
+                        dataMap.getBoolean(MatchingJob.IGNORE_ADDED),
+                        dataMap.getBoolean(MatchingJob.IGNORE_REMOVED),
+                        batch,
+                        compress
+                ));
+            }
+        } catch (SchedulerException ex) {
+            logger.error(ex.getMessage(), ex);
+        }
+
+        return subscriptions;
+    }
+
+
+    @Override
+    public void shutdown() {
+        try {
+            scheduler.shutdown();
+        } catch (SchedulerException ex) {
+            logger.error(ex.getMessage(), ex);
+        }
+    }
+
+
+    private static Trigger newDetectionTrigger(String documentUrl, int interval, Date startTime) {
+        return TriggerBuilder.newTrigger()
+                .withIdentity(documentUrl, "detection" + documentUrl)
+                .startAt(startTime)
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInSeconds(interval)
+                        .repeatForever()
+                        // triggers that misfired while the scheduler was down
+                        // keep their phase instead of all firing at once
+                        .withMisfireHandlingInstructionNextWithRemainingCount())
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.job;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Counters of the detections started by a job manager, and of their
+ * scheduling lag, which is the time between the moment a detection was
+ * scheduled for and the moment it actually started.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class SchedulingMetrics {
+
+    private final AtomicLong startedCount;
+
+    private final AtomicLong deferredCount;
+
+    private final AtomicLong totalLagMillis;
+
+    private final LongAccumulator maxLagMillis;
+
+    private volatile long lastLagMillis;
+
+
+    SchedulingMetrics() {
+        this.startedCount = new AtomicLong();
+        this.deferredCount = new AtomicLong();
+        this.totalLagMillis = new AtomicLong();
+        this.maxLagMillis = new LongAccumulator(Math::max, 0);
+    }
+
+
+    void recordStarted(long lagMillis) {
+        lagMillis = Math.max(0, lagMillis);
+        startedCount.incrementAndGet();
+        totalLagMillis.addAndGet(lagMillis);
+        maxLagMillis.accumulate(lagMillis);
+        lastLagMillis = lagMillis;
+    }
+
+
+    void recordDeferred() {
+        deferredCount.incrementAndGet();
+    }
+
+
+    public long getStartedCount() {
+        return startedCount.get();
+    }
+
+
+    /**
+     * Returns the number of detections that were deferred by the fetch-rate
+     * limit.
+     */
+    public long getDeferredCount() {
+        return deferredCount.get();
+    }
+
+
+    public long getAverageLagMillis() {
+        long count = startedCount.get();
+        return count > 0 ? totalLagMillis.get() / count : 0;
+    }
+
+
+    public long getMaxLagMillis() {
+        return maxLagMillis.get();
+    }
+
+
+    /**
+     * Returns the scheduling lag of the last started detection.
+     */
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+
+
+    @Override
+    public String toString() {
+        return "scheduling[started=" + getStartedCount() +
+                ", deferred=" + getDeferredCount() +
+                ", lag=" + getLastLagMillis() + "ms" +
+                ", avgLag=" + getAverageLagMillis() + "ms" +
+                ", maxLag=" + getMaxLagMillis() + "ms]";
+    }
+}
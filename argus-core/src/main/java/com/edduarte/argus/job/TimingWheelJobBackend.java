@@ -0,0 +1,439 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.job;
+
+import com.edduarte.argus.rest.SubscribeRequest;
+import com.edduarte.argus.util.TimingWheel;
+import com.google.common.base.Stopwatch;
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.DB;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
+import com.mongodb.MongoException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A job backend that keeps every watched document and its subscriptions in
+ * memory, in a compact table indexed by document url, and that schedules
+ * detections in a {@link TimingWheel}, so that scheduling and cancelling the
+ * detection of a document takes constant time regardless of the number of
+ * watched documents.
+ * <p>
+ * Since nothing is stored in the database when detections are triggered, the
+ * table is checkpointed periodically to a MongoDB collection, where only the
+ * documents that were changed since the last checkpoint are written. On
+ * start, the table is recovered from that collection in a single scan, and
+ * every recovered document is detected at its phase.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class TimingWheelJobBackend implements JobBackend {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimingWheelJobBackend.class);
+
+    private static final String CHECKPOINT_COLLECTION = "argus_watches";
+
+    private static final long TICK_MILLIS = 1000;
+
+    /**
+     * The interval between checkpoints, in seconds.
+     */
+    private static final int CHECKPOINT_INTERVAL = 60;
+
+    private final DBCollection checkpointCollection;
+
+    /**
+     * The lock that guards the wheel, the watches table and the set of changed
+     * documents, which are only accessed while holding it.
+     */
+    private final Object lock;
+
+    private final TimingWheel<Watch> wheel;
+
+    private final Map<String, Watch> watches;
+
+    /**
+     * The urls of the documents that were changed since the last checkpoint.
+     */
+    private final Set<String> changedUrls;
+
+    private ScheduledExecutorService ticker;
+
+    private JobManager manager;
+
+
+    public TimingWheelJobBackend(final DB jobsDB) {
+        this.checkpointCollection = jobsDB.getCollection(CHECKPOINT_COLLECTION);
+        this.lock = new Object();
+        this.wheel = new TimingWheel<>(TICK_MILLIS, System.currentTimeMillis());
+        this.watches = new HashMap<>();
+        this.changedUrls = new HashSet<>();
+    }
+
+
+    @Override
+    public void start(JobManager manager) {
+        this.manager = manager;
+        recover();
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "argus-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        ticker.scheduleWithFixedDelay(this::checkpoint,
+                CHECKPOINT_INTERVAL, CHECKPOINT_INTERVAL, TimeUnit.SECONDS);
+    }
+
+
+    @Override
+    public boolean scheduleDetection(String documentUrl, int interval) {
+        synchronized (lock) {
+            Watch watch = watches.computeIfAbsent(documentUrl, Watch::new);
+            if (watch.isScheduled()) {
+                return false;
+            }
+            watch.interval = interval;
+            watch.nextDetection = DetectionSchedule.getNextStart(
+                    documentUrl, interval, System.currentTimeMillis());
+            watch.timeout = wheel.schedule(watch, watch.nextDetection);
+            changedUrls.add(documentUrl);
+            return true;
+        }
+    }
+
+
+    @Override
+    public void rescheduleDetection(String documentUrl, int interval) {
+        synchronized (lock) {
+            Watch watch = watches.get(documentUrl);
+            if (watch != null && watch.isScheduled()) {
+                // the interval is applied when the next detection is triggered,
+                // unless it would start the next detection earlier
+                watch.interval = interval;
+                long latestDetection = System.currentTimeMillis() + interval * 1000L;
+                if (latestDetection < watch.nextDetection) {
+                    wheel.cancel(watch.timeout);
+                    watch.nextDetection = latestDetection;
+                    watch.timeout = wheel.schedule(watch, watch.nextDetection);
+                }
+                changedUrls.add(documentUrl);
+            }
+        }
+    }
+
+
+    @Override
+    public int getDetectionInterval(String documentUrl) {
+        synchronized (lock) {
+            Watch watch = watches.get(documentUrl);
+            return watch != null && watch.isScheduled() ? watch.interval : -1;
+        }
+    }
+
+
+    @Override
+    public void cancelDetection(String documentUrl) {
+        synchronized (lock) {
+            Watch watch = watches.get(documentUrl);
+            if (watch != null && watch.isScheduled()) {
+                wheel.cancel(watch.timeout);
+                watch.timeout = null;
+                watch.interval = 0;
+                if (watch.subscriptions.isEmpty()) {
+                    watches.remove(documentUrl);
+                }
+                changedUrls.add(documentUrl);
+            }
+        }
+    }
+
+
+    @Override
+    public boolean addSubscription(SubscribeRequest subscription) {
+        String documentUrl = subscription.getDocumentUrl();
+        String clientUrl = subscription.getClientUrl();
+
+        synchronized (lock) {
+            Watch watch = watches.computeIfAbsent(documentUrl, Watch::new);
+            for (SubscribeRequest s : watch.subscriptions) {
+                if (s.getClientUrl().equals(clientUrl)) {
+                    return false;
+                }
+            }
+            watch.subscriptions.add(subscription);
+            changedUrls.add(documentUrl);
+            return true;
+        }
+    }
+
+
+    @Override
+    public boolean removeSubscription(String documentUrl, String clientUrl) {
+        synchronized (lock) {
+            Watch watch = watches.get(documentUrl);
+            if (watch == null ||
+                    !watch.subscriptions.removeIf(s -> s.getClientUrl().equals(clientUrl))) {
+                return false;
+            }
+            if (watch.subscriptions.isEmpty() && !watch.isScheduled()) {
+                watches.remove(documentUrl);
+            }
+            changedUrls.add(documentUrl);
+            return true;
+        }
+    }
+
+
+    @Override
+    public List<SubscribeRequest> getSubscriptions(String documentUrl) {
+        synchronized (lock) {
+            Watch watch = watches.get(documentUrl);
+            return watch != null ? new ArrayList<>(watch.subscriptions) : Collections.emptyList();
+        }
+    }
+
+
+    @Override
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.shutdown();
+        }
+        checkpoint();
+    }
+
+
+    /**
+     * Returns the number of watched documents.
+     */
+    public int size() {
+        synchronized (lock) {
+            return watches.size();
+        }
+    }
+
+
+    /**
+     * Advances the wheel up to the current time and triggers the detection of
+     * every document that is due, after scheduling its next detection.
+     */
+    private void tick() {
+        try {
+            List<Watch> due = new ArrayList<>();
+            long[] scheduledTimes;
+            synchronized (lock) {
+                long now = System.currentTimeMillis();
+                wheel.advance(now, due::add);
+                scheduledTimes = new long[due.size()];
+                for (int i = 0; i < due.size(); i++) {
+                    Watch watch = due.get(i);
+                    scheduledTimes[i] = watch.nextDetection;
+                    watch.nextDetection += watch.interval * 1000L;
+                    if (watch.nextDetection <= now) {
+                        // missed detections are skipped instead of piling up
+                        watch.nextDetection = now + watch.interval * 1000L;
+                    }
+                    watch.timeout = wheel.schedule(watch, watch.nextDetection);
+                }
+            }
+
+            for (int i = 0; i < due.size(); i++) {
+                manager.callDetectDiffImpl(due.get(i).documentUrl, scheduledTimes[i]);
+            }
+        } catch (Exception ex) {
+            // an exception would cancel every following tick
+            logger.error(ex.getMessage(), ex);
+        }
+    }
+
+
+    /**
+     * Writes every document that was changed since the last checkpoint to the
+     * checkpoint collection, and removes the documents that are no longer
+     * watched from it.
+     */
+    private void checkpoint() {
+        List<DBObject> upserts = new ArrayList<>();
+        List<String> removals = new ArrayList<>();
+        Set<String> checkpointedUrls;
+        synchronized (lock) {
+            for (String url : changedUrls) {
+                Watch watch = watches.get(url);
+                if (watch != null) {
+                    upserts.add(watch.toDBObject());
+                } else {
+                    removals.add(url);
+                }
+            }
+            checkpointedUrls = new HashSet<>(changedUrls);
+            changedUrls.clear();
+        }
+
+        if (checkpointedUrls.isEmpty()) {
+            return;
+        }
+
+        try {
+            Stopwatch sw = Stopwatch.createStarted();
+            BulkWriteOperation bulkOp = checkpointCollection.initializeUnorderedBulkOperation();
+            for (DBObject o : upserts) {
+                bulkOp.find(new BasicDBObject("_id", o.get("_id"))).upsert().replaceOne(o);
+            }
+            for (String url : removals) {
+                bulkOp.find(new BasicDBObject("_id", url)).removeOne();
+            }
+            bulkOp.execute();
+            logger.info("Checkpointed {} watched documents in {}", checkpointedUrls.size(), sw.toString());
+
+        } catch (MongoException ex) {
+            logger.error(ex.getMessage(), ex);
+            // retry the failed documents on the next checkpoint
+            synchronized (lock) {
+                changedUrls.addAll(checkpointedUrls);
+            }
+        }
+    }
+
+
+    /**
+     * Loads every watched document from the checkpoint collection, scheduling
+     * its next detection at its phase, so that the recovered documents are not
+     * all detected at once.
+     */
+    private void recover() {
+        Stopwatch sw = Stopwatch.createStarted();
+        long now = System.currentTimeMillis();
+        int count = 0;
+
+        DBCursor cursor = checkpointCollection.find();
+        try {
+            synchronized (lock) {
+                for (DBObject o : cursor) {
+                    Watch watch = Watch.fromDBObject(o);
+                    watches.put(watch.documentUrl, watch);
+                    if (watch.interval > 0) {
+                        watch.nextDetection = DetectionSchedule.getNextStart(
+                                watch.documentUrl, watch.interval, now);
+                        watch.timeout = wheel.schedule(watch, watch.nextDetection);
+                    }
+                    count++;
+                }
+            }
+        } catch (MongoException ex) {
+            logger.error(ex.getMessage(), ex);
+        } finally {
+            cursor.close();
+        }
+
+        logger.info("Recovered {} watched documents in {}", count, sw.toString());
+    }
+
+
+    /**
+     * A watched document, with its detection schedule and its subscriptions.
+     */
+    private static final class Watch {
+
+        private final String documentUrl;
+
+        private final List<SubscribeRequest> subscriptions;
+
+        /**
+         * The interval between detections in seconds, or 0 if the detection of
+         * this document is not scheduled.
+         */
+        private int interval;
+
+        private long nextDetection;
+
+        private TimingWheel.Timeout<Watch> timeout;
+
+
+        private Watch(final String documentUrl) {
+            this.documentUrl = documentUrl;
+            this.subscriptions = new ArrayList<>(1);
+        }
+
+
+        private boolean isScheduled() {
+            return timeout != null;
+        }
+
+
+        private DBObject toDBObject() {
+            BasicDBList subscriptionList = new BasicDBList();
+            for (SubscribeRequest s : subscriptions) {
+                BasicDBList keywordList = new BasicDBList();
+                keywordList.addAll(s.getKeywords());
+                subscriptionList.add(new BasicDBObject("client", s.getClientUrl())
+                        .append("keywords", keywordList)
+                        .append("interval", s.getInterval())
+                        .append("ignoreAdded", s.getIgnoreAdded())
+                        .append("ignoreRemoved", s.getIgnoreRemoved())
+                        .append("batch", s.getBatch())
+                        .append("compress", s.getCompress()));
+            }
+            return new BasicDBObject("_id", documentUrl)
+                    .append("interval", interval)
+                    .append("subscriptions", subscriptionList);
+        }
+
+
+        private static Watch fromDBObject(DBObject o) {
+            Watch watch = new Watch((String) o.get("_id"));
+            watch.interval = ((Number) o.get("interval")).intValue();
+
+            BasicDBList subscriptionList = (BasicDBList) o.get("subscriptions");
+            for (Object item : subscriptionList) {
+                DBObject s = (DBObject) item;
+                List<String> keywords = new ArrayList<>();
+                for (Object k : (BasicDBList) s.get("keywords")) {
+                    keywords.add(k.toString());
+                }
+                watch.subscriptions.add(new SubscribeRequest(
+                        watch.documentUrl,
+                        (String) s.get("client"),
+                        keywords,
+                        ((Number) s.get("interval")).intValue(),
+                        (Boolean) s.get("ignoreAdded"),
+                        (Boolean) s.get("ignoreRemoved"),
+                        Boolean.TRUE.equals(s.get("batch")),
+                        Boolean.TRUE.equals(s.get("compress"))
+                ));
+            }
+            return watch;
+        }
+    }
+}
@@ -27,7 +27,7 @@ import java.util.stream.Stream;
  * between two snapshots of a Document.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public final class Keyword extends BasicDBObject {
@@ -40,10 +40,24 @@ public final class Keyword extends BasicDBObject {
      */
     private final Collection<String> texts;
 
+    /**
+     * The language that was detected for this keyword, which determined the
+     * stopwords and stemmer that were used to build its texts.
+     */
+    private final String language;
+
 
     Keyword(final String originalInput, final Collection<String> texts) {
+        this(originalInput, texts, null);
+    }
+
+
+    Keyword(final String originalInput,
+            final Collection<String> texts,
+            final String language) {
         this.originalInput = originalInput;
         this.texts = texts;
+        this.language = language;
     }
 
 
@@ -55,6 +69,15 @@ public final class Keyword extends BasicDBObject {
     }
 
 
+    /**
+     * Returns the language that was detected for this keyword, or null if it
+     * was built without language detection.
+     */
+    public String getLanguage() {
+        return language;
+    }
+
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -28,7 +28,7 @@ import org.slf4j.LoggerFactory;
  * {@link Keyword} structure.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public final class KeywordBuilder {
@@ -61,6 +61,12 @@ public final class KeywordBuilder {
 
     private int slop;
 
+    /**
+     * The cache where the built keyword is stored, and from where it is
+     * returned if it was built before with the same settings.
+     */
+    private KeywordCache cache;
+
 
     private KeywordBuilder(final String keywordInput) {
         this.keywordInput = keywordInput;
@@ -81,6 +87,12 @@ public final class KeywordBuilder {
     }
 
 
+    public KeywordBuilder withCache(final KeywordCache cache) {
+        this.cache = cache;
+        return this;
+    }
+
+
     public KeywordBuilder withSlop(final int slop) {
         this.slop = slop;
         return this;
@@ -106,6 +118,27 @@ public final class KeywordBuilder {
 
 
     public Keyword build(ParserPool parserPool) {
+        if (cache != null) {
+            return cache.get(cacheKey(), () -> buildInternal(parserPool));
+        }
+        return buildInternal(parserPool);
+    }
+
+
+    /**
+     * Returns a key that identifies the keyword built by this builder, which
+     * depends on the input text and on the settings that affect its texts.
+     */
+    private String cacheKey() {
+        return (langDetector != null ? "L" : "-") +
+                (isStoppingEnabled ? "S" : "-") +
+                (isStemmingEnabled ? "T" : "-") +
+                (ignoreCase ? "I" : "-") +
+                keywordInput;
+    }
+
+
+    private Keyword buildInternal(ParserPool parserPool) {
         Stopwatch sw = Stopwatch.createStarted();
 
         // step 3) Takes a parser from the parser-pool.
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.keyword;
+
+import com.edduarte.argus.analyzer.Analyzer;
+import com.edduarte.argus.analyzer.AnalyzerRegistry;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A cache of compiled keywords, grouped by their input text and by the
+ * analysis settings that they were built with, so that the keywords of a
+ * subscription are only cleaned, language-detected, stopped and stemmed once.
+ * <p>
+ * A cached keyword is built again when the analyzer of its language changes
+ * (for example, when its stopword file is modified), and keywords built with
+ * different settings are cached separately. Since looking up the analyzer
+ * checks its stopword file, each keyword is only checked again after a
+ * minimum interval. The cache holds a maximum number of keywords, evicting
+ * the least recently used ones, so keywords of subscriptions that were
+ * removed do not remain cached indefinitely.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class KeywordCache {
+
+    private static final int DEFAULT_MAX_SIZE = 10000;
+
+    private static final long DEFAULT_CHECK_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final AnalyzerRegistry analyzerRegistry;
+
+    private final long checkIntervalMillis;
+
+    private final Map<String, Entry> keywords;
+
+
+    public KeywordCache() {
+        this(AnalyzerRegistry.getInstance());
+    }
+
+
+    public KeywordCache(final AnalyzerRegistry analyzerRegistry) {
+        this(analyzerRegistry, DEFAULT_MAX_SIZE, DEFAULT_CHECK_INTERVAL_MILLIS);
+    }
+
+
+    public KeywordCache(final AnalyzerRegistry analyzerRegistry,
+                        final int maxSize,
+                        final long checkIntervalMillis) {
+        this.analyzerRegistry = analyzerRegistry;
+        this.checkIntervalMillis = checkIntervalMillis;
+        this.keywords = Collections.synchronizedMap(
+                new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                        return size() > maxSize;
+                    }
+                });
+    }
+
+
+    /**
+     * Returns the cached keyword with the specified key, building it with the
+     * specified supplier if it was not cached before or if the analyzer of its
+     * language changed since it was built. Keywords that could not be built
+     * are not cached.
+     * <p>
+     * The supplier is called outside of the cache's lock, so the same keyword
+     * may be built concurrently by more than one thread.
+     */
+    Keyword get(String key, Supplier<Keyword> builder) {
+        Entry entry = keywords.get(key);
+        if (entry != null && entry.isValid()) {
+            return entry.keyword;
+        }
+
+        Keyword keyword = builder.get();
+        if (keyword != null) {
+            keywords.put(key, new Entry(keyword));
+        }
+        return keyword;
+    }
+
+
+    /**
+     * Returns the number of cached keywords.
+     */
+    public int size() {
+        return keywords.size();
+    }
+
+
+    /**
+     * Removes all cached keywords, forcing them to be built again on their
+     * next use.
+     */
+    public void clear() {
+        keywords.clear();
+    }
+
+
+    private final class Entry {
+
+        private final Keyword keyword;
+
+        /**
+         * The analyzer of the keyword's language when the keyword was cached,
+         * which is replaced in the registry when its stopwords change.
+         */
+        private final Analyzer analyzer;
+
+        /**
+         * The time, in milliseconds, when the analyzer was last checked.
+         */
+        private volatile long checkedAt;
+
+
+        private Entry(final Keyword keyword) {
+            this.keyword = keyword;
+            this.analyzer = keyword.getLanguage() != null ?
+                    analyzerRegistry.get(keyword.getLanguage()) : null;
+            this.checkedAt = System.currentTimeMillis();
+        }
+
+
+        private boolean isValid() {
+            if (analyzer == null) {
+                return true;
+            }
+            long now = System.currentTimeMillis();
+            if (now - checkedAt < checkIntervalMillis) {
+                return true;
+            }
+            if (analyzer != analyzerRegistry.get(analyzer.getLanguage())) {
+                return false;
+            }
+            checkedAt = now;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.keyword;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable, inverted index of a group of keywords, mapping each term to
+ * the keywords that contain it. Every term of a keyword is assigned a bit of
+ * that keyword's bitset of required terms, so that a {@link Scanner} can
+ * track which keywords had all of their terms seen in a single pass over a
+ * sequence of terms, regardless of the number of indexed keywords.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class KeywordIndex {
+
+    private final List<Keyword> keywords;
+
+    /**
+     * The postings of each term, stored as pairs of keyword ids and of the bit
+     * that was assigned to the term in the bitset of that keyword.
+     */
+    private final Map<String, int[]> postings;
+
+    /**
+     * The number of distinct terms of each keyword.
+     */
+    private final int[] termCounts;
+
+    /**
+     * The offset of the first word of the bitset of each keyword, in the
+     * word array of a scanner.
+     */
+    private final int[] bitsetOffsets;
+
+    private final int bitsetLength;
+
+
+    private KeywordIndex(final List<Keyword> keywords,
+                         final Map<String, int[]> postings,
+                         final int[] termCounts,
+                         final int[] bitsetOffsets,
+                         final int bitsetLength) {
+        this.keywords = keywords;
+        this.postings = postings;
+        this.termCounts = termCounts;
+        this.bitsetOffsets = bitsetOffsets;
+        this.bitsetLength = bitsetLength;
+    }
+
+
+    /**
+     * Compiles an index of the specified keywords.
+     */
+    public static KeywordIndex of(Collection<Keyword> keywords) {
+        List<Keyword> keywordList = Collections.unmodifiableList(new ArrayList<>(keywords));
+        int numKeywords = keywordList.size();
+        int[] termCounts = new int[numKeywords];
+        int[] bitsetOffsets = new int[numKeywords];
+        Map<String, int[]> postings = new HashMap<>();
+
+        int bitsetLength = 0;
+        for (int k = 0; k < numKeywords; k++) {
+            Set<String> terms = new LinkedHashSet<>();
+            keywordList.get(k).textStream().forEach(terms::add);
+
+            int bit = 0;
+            for (String term : terms) {
+                int[] termPostings = postings.get(term);
+                if (termPostings == null) {
+                    termPostings = new int[]{k, bit};
+                } else {
+                    int length = termPostings.length;
+                    termPostings = Arrays.copyOf(termPostings, length + 2);
+                    termPostings[length] = k;
+                    termPostings[length + 1] = bit;
+                }
+                postings.put(term, termPostings);
+                bit++;
+            }
+
+            termCounts[k] = bit;
+            bitsetOffsets[k] = bitsetLength;
+            bitsetLength += (bit + 63) >>> 6;
+        }
+
+        return new KeywordIndex(keywordList, postings, termCounts, bitsetOffsets, bitsetLength);
+    }
+
+
+    /**
+     * Returns the number of indexed keywords.
+     */
+    public int size() {
+        return keywords.size();
+    }
+
+
+    public boolean isEmpty() {
+        return keywords.isEmpty();
+    }
+
+
+    /**
+     * Returns the keyword with the specified id, which corresponds to its
+     * position in the collection that this index was compiled from.
+     */
+    public Keyword getKeyword(int keywordId) {
+        return keywords.get(keywordId);
+    }
+
+
+    public List<Keyword> getKeywords() {
+        return keywords;
+    }
+
+
+    /**
+     * Creates a new scanner over this index. Scanners are not thread-safe, so
+     * every concurrent pass must use its own scanner.
+     */
+    public Scanner newScanner() {
+        return new Scanner();
+    }
+
+
+    /**
+     * The mutable state of a single pass over a sequence of terms, which
+     * tracks the terms that were seen of each keyword since the last reset.
+     */
+    public final class Scanner {
+
+        private final long[] seen;
+
+        private final int[] remaining;
+
+        /**
+         * The ids of the keywords that had at least one of its terms seen
+         * since the last reset, so that resetting is proportional to the
+         * number of touched keywords instead of the number of keywords.
+         */
+        private final int[] touched;
+
+        private int touchedCount;
+
+
+        private Scanner() {
+            this.seen = new long[bitsetLength];
+            this.remaining = termCounts.clone();
+            this.touched = new int[termCounts.length];
+            this.touchedCount = 0;
+        }
+
+
+        /**
+         * Marks the specified term as seen and reports the ids of every keyword
+         * that contains the term and that had all of its terms seen since the
+         * last reset.
+         */
+        public void accept(String term, IntConsumer matchedKeywords) {
+            int[] termPostings = postings.get(term);
+            if (termPostings == null) {
+                return;
+            }
+
+            for (int i = 0; i < termPostings.length; i += 2) {
+                int k = termPostings[i];
+                int bit = termPostings[i + 1];
+                int word = bitsetOffsets[k] + (bit >>> 6);
+                long mask = 1L << bit;
+
+                if ((seen[word] & mask) == 0) {
+                    if (remaining[k] == termCounts[k]) {
+                        touched[touchedCount++] = k;
+                    }
+                    seen[word] |= mask;
+                    remaining[k]--;
+                }
+                if (remaining[k] == 0) {
+                    matchedKeywords.accept(k);
+                }
+            }
+        }
+
+
+        /**
+         * Forgets all of the terms that were seen by this scanner.
+         */
+        public void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                int k = touched[i];
+                int from = bitsetOffsets[k];
+                int to = from + ((termCounts[k] + 63) >>> 6);
+                Arrays.fill(seen, from, to, 0L);
+                remaining[k] = termCounts[k];
+            }
+            touchedCount = 0;
+        }
+    }
+}
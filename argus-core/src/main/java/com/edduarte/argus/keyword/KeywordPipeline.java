@@ -16,21 +16,13 @@
 
 package com.edduarte.argus.keyword;
 
-import com.edduarte.argus.cleaner.AndCleaner;
-import com.edduarte.argus.cleaner.Cleaner;
-import com.edduarte.argus.cleaner.DiacriticCleaner;
-import com.edduarte.argus.cleaner.SpecialCharsCleaner;
+import com.edduarte.argus.analyzer.Analyzer;
+import com.edduarte.argus.analyzer.AnalyzerRegistry;
+import com.edduarte.argus.analyzer.LanguageIdentifier;
 import com.edduarte.argus.parser.Parser;
 import com.edduarte.argus.stemmer.Stemmer;
-import com.edduarte.argus.stopper.FileStopper;
 import com.edduarte.argus.stopper.Stopper;
-import com.edduarte.argus.util.PluginLoader;
-import com.google.common.base.Optional;
 import com.optimaize.langdetect.LanguageDetector;
-import com.optimaize.langdetect.i18n.LdLocale;
-import com.optimaize.langdetect.text.CommonTextObjectFactories;
-import com.optimaize.langdetect.text.TextObject;
-import com.optimaize.langdetect.text.TextObjectFactory;
 import it.unimi.dsi.lang.MutableString;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,7 +37,7 @@ import java.util.concurrent.Callable;
  * specifically a query.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public class KeywordPipeline implements Callable<Keyword> {
@@ -87,48 +79,21 @@ public class KeywordPipeline implements Callable<Keyword> {
 
         // filters the contents by cleaning characters of whole strings
         // according to each cleaner's implementation
-        Cleaner cleaner = AndCleaner.of(new SpecialCharsCleaner(), new DiacriticCleaner());
-        cleaner.clean(content);
-        cleaner = null;
+        AnalyzerRegistry.getCleaner().clean(content);
 
 
         // infers the document language
-        String languageCode = "en";
-        if (langDetector != null) {
-            TextObjectFactory textObjectFactory = CommonTextObjectFactories.forDetectingOnLargeText();
-            TextObject textObject = textObjectFactory.forText(content);
-            Optional<LdLocale> lang = langDetector.detect(textObject);
-            languageCode = lang.isPresent() ? lang.get().getLanguage() : "en";
-        }
-
-
-        // sets the parser's stopper according to the detected language
-        // if the detected language is not supported, stopping is ignored
-        Stopper stopper = null;
-        if (isStoppingEnabled) {
-            stopper = new FileStopper(languageCode);
-            if (stopper.isEmpty()) {
-                // if no compatible stopwords were found, use the english stopwords
-                stopper = new FileStopper("en");
-            }
-        }
+        String languageCode = langDetector != null ?
+                LanguageIdentifier.detect(langDetector, content) :
+                LanguageIdentifier.DEFAULT_LANGUAGE;
 
 
-        // sets the parser's stemmer according to the detected language
-        // if the detected language is not supported, stemming is ignored
-        Stemmer stemmer = null;
-        if (isStemmingEnabled) {
-            Class<? extends Stemmer> stemmerClass = PluginLoader.getCompatibleStemmer(languageCode);
-            if (stemmerClass != null) {
-                stemmer = stemmerClass.newInstance();
-            } else {
-                // if no compatible stemmers were found, use the english stemmer
-                stemmerClass = PluginLoader.getCompatibleStemmer("en");
-                if (stemmerClass != null) {
-                    stemmer = stemmerClass.newInstance();
-                }
-            }
-        }
+        // gets the shared analyzer of the detected language, which provides the
+        // parser's stopper and stemmer. If the detected language is not
+        // supported, the english stopwords and stemmer are used instead
+        Analyzer analyzer = AnalyzerRegistry.getInstance().get(languageCode);
+        Stopper stopper = isStoppingEnabled ? analyzer.getStopper() : null;
+        Stemmer stemmer = isStemmingEnabled ? analyzer.newStemmer() : null;
 
 
         // detects tokens from the document and loads them into separate
@@ -136,13 +101,8 @@ public class KeywordPipeline implements Callable<Keyword> {
         List<Parser.Result> results = parser.parse(content, stopper, stemmer, ignoreCase);
         content.delete(0, content.length());
 
-        if (stopper != null) {
-            stopper.destroy();
-        }
-
-        if (stemmer != null) {
-            stemmer = null;
-        }
+        stopper = null;
+        stemmer = null;
 
 
         // create a temporary in-memory term structure and converts parser results
@@ -157,6 +117,6 @@ public class KeywordPipeline implements Callable<Keyword> {
 
 
         // adds the terms to the keyword object
-        return new Keyword(queryInput, terms);
+        return new Keyword(queryInput, terms, languageCode);
     }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.notify;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import org.bson.types.ObjectId;
+
+/**
+ * A JSON message to be posted to a client url, along with its delivery state,
+ * which is stored in the outbox of a notification dispatcher until the message
+ * is delivered or gives up.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+final class Notification {
+
+    static final String ID = "_id";
+
+    static final String CLIENT_URL = "client";
+
+    static final String BODY = "body";
+
+    static final String ATTEMPTS = "attempts";
+
+    static final String NEXT_ATTEMPT = "next";
+
+    static final String CREATED = "created";
+
+    static final String COMPRESSED = "gzip";
+
+    private final ObjectId id;
+
+    private final String clientUrl;
+
+    private final String body;
+
+    /**
+     * Flag that sets that the body is gzip-compressed when it is sent.
+     */
+    private final boolean isCompressed;
+
+    /**
+     * The time when this notification was created, in milliseconds.
+     */
+    private final long created;
+
+    /**
+     * The number of failed attempts to deliver this notification.
+     */
+    private int attempts;
+
+    /**
+     * The time of the next attempt to deliver this notification, in
+     * milliseconds.
+     */
+    private long nextAttempt;
+
+
+    Notification(final String clientUrl, final String body, final boolean isCompressed) {
+        this(new ObjectId(), clientUrl, body, isCompressed, System.currentTimeMillis(), 0,
+                System.currentTimeMillis());
+    }
+
+
+    private Notification(final ObjectId id,
+                         final String clientUrl,
+                         final String body,
+                         final boolean isCompressed,
+                         final long created,
+                         final int attempts,
+                         final long nextAttempt) {
+        this.id = id;
+        this.clientUrl = clientUrl;
+        this.body = body;
+        this.isCompressed = isCompressed;
+        this.created = created;
+        this.attempts = attempts;
+        this.nextAttempt = nextAttempt;
+    }
+
+
+    static Notification fromDBObject(DBObject o) {
+        return new Notification(
+                (ObjectId) o.get(ID),
+                (String) o.get(CLIENT_URL),
+                (String) o.get(BODY),
+                Boolean.TRUE.equals(o.get(COMPRESSED)),
+                ((Number) o.get(CREATED)).longValue(),
+                ((Number) o.get(ATTEMPTS)).intValue(),
+                ((Number) o.get(NEXT_ATTEMPT)).longValue()
+        );
+    }
+
+
+    DBObject toDBObject() {
+        return new BasicDBObject(ID, id)
+                .append(CLIENT_URL, clientUrl)
+                .append(BODY, body)
+                .append(COMPRESSED, isCompressed)
+                .append(CREATED, created)
+                .append(ATTEMPTS, attempts)
+                .append(NEXT_ATTEMPT, nextAttempt);
+    }
+
+
+    ObjectId getId() {
+        return id;
+    }
+
+
+    String getClientUrl() {
+        return clientUrl;
+    }
+
+
+    String getBody() {
+        return body;
+    }
+
+
+    boolean isCompressed() {
+        return isCompressed;
+    }
+
+
+    long getCreated() {
+        return created;
+    }
+
+
+    int getAttempts() {
+        return attempts;
+    }
+
+
+    long getNextAttempt() {
+        return nextAttempt;
+    }
+
+
+    /**
+     * Records a failed attempt, after which this notification is attempted
+     * again at the specified time in milliseconds.
+     */
+    void failedAttempt(long nextAttempt) {
+        this.attempts++;
+        this.nextAttempt = nextAttempt;
+    }
+}
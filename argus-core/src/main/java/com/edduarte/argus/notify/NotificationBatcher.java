@@ -0,0 +1,160 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.notify;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the notifications to the same client into batches, where every
+ * batch is dispatched as a single notification with a JSON array of the
+ * coalesced notifications, either when its window elapsed since its first
+ * notification or when it reached the maximum batch size.
+ * <p>
+ * Batches are held in memory only, so the notifications of batches that were
+ * not dispatched yet are lost if the server crashes.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+final class NotificationBatcher {
+
+    private final NotificationDispatcher dispatcher;
+
+    private final ScheduledExecutorService executor;
+
+    private final long windowMillis;
+
+    private final int maxBatchSize;
+
+    /**
+     * The open batches, by client url and compression, which are guarded by
+     * the lock of this batcher.
+     */
+    private final Map<String, Batch> batches;
+
+
+    NotificationBatcher(final NotificationDispatcher dispatcher,
+                        final ScheduledExecutorService executor,
+                        final long windowMillis,
+                        final int maxBatchSize) {
+        this.dispatcher = dispatcher;
+        this.executor = executor;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.batches = new HashMap<>();
+    }
+
+
+    /**
+     * Adds the specified JSON message to the open batch of the specified
+     * client, opening a new batch if there is none.
+     */
+    void add(String clientUrl, String body, boolean isCompressed) {
+        String key = (isCompressed ? "gzip:" : "plain:") + clientUrl;
+        Batch full = null;
+        boolean isNew = false;
+        Batch batch;
+
+        synchronized (this) {
+            batch = batches.get(key);
+            if (batch == null) {
+                batch = new Batch(clientUrl, isCompressed);
+                batches.put(key, batch);
+                isNew = true;
+            }
+            batch.bodies.add(body);
+            if (batch.bodies.size() >= maxBatchSize) {
+                batches.remove(key);
+                full = batch;
+            }
+        }
+
+        if (full != null) {
+            dispatch(full);
+        } else if (isNew) {
+            Batch scheduled = batch;
+            try {
+                executor.schedule(() -> flush(key, scheduled), windowMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ex) {
+                // the dispatcher was stopped, so the batch is dispatched now
+                flush(key, scheduled);
+            }
+        }
+    }
+
+
+    /**
+     * Dispatches every open batch.
+     */
+    void flushAll() {
+        List<Batch> open;
+        synchronized (this) {
+            open = new ArrayList<>(batches.values());
+            batches.clear();
+        }
+        open.forEach(this::dispatch);
+    }
+
+
+    private void flush(String key, Batch batch) {
+        synchronized (this) {
+            if (batches.get(key) != batch) {
+                // already dispatched when it reached the maximum batch size
+                return;
+            }
+            batches.remove(key);
+        }
+        dispatch(batch);
+    }
+
+
+    private void dispatch(Batch batch) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < batch.bodies.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(batch.bodies.get(i));
+        }
+        sb.append(']');
+        dispatcher.dispatch(batch.clientUrl, sb.toString(), batch.isCompressed);
+    }
+
+
+    private static final class Batch {
+
+        private final String clientUrl;
+
+        private final boolean isCompressed;
+
+        private final List<String> bodies;
+
+
+        private Batch(final String clientUrl, final boolean isCompressed) {
+            this.clientUrl = clientUrl;
+            this.isCompressed = isCompressed;
+            this.bodies = new ArrayList<>();
+        }
+    }
+}
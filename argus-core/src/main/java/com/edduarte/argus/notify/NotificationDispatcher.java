@@ -0,0 +1,606 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.notify;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DB;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
+import com.mongodb.MongoException;
+import org.bson.types.ObjectId;
+import org.eclipse.jetty.client.ContentExchange;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.io.ByteArrayBuffer;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Asynchronous dispatcher of the notifications that are posted to clients,
+ * backed by a non-blocking HTTP client with a pool of persistent (keep-alive)
+ * connections to each client host, and with connection and response timeouts.
+ * <p>
+ * Dispatched notifications are stored in a persistent outbox until they are
+ * delivered, so that they are delivered again after a crash, and are held in
+ * memory up to a maximum number of notifications. Notifications that do not
+ * fit in memory are only kept in the outbox, from where they are loaded when
+ * there is room for them again. Failed deliveries are retried with
+ * exponential backoff until the retry budget of the notification is spent,
+ * after which the notification is discarded.
+ * <p>
+ * Dispatching a notification never waits for its client, so slow or
+ * unavailable clients never hold on to the threads that dispatch them.
+ * <p>
+ * Clients can opt in to receive their notifications in batches, where the
+ * notifications to the same client within a short window are coalesced into a
+ * single JSON array, and to receive gzip-compressed notifications.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private static final String OUTBOX_COLLECTION = "argus_outbox";
+
+    /**
+     * The maximum number of delivery attempts of each notification.
+     */
+    private static final int MAX_ATTEMPTS = 8;
+
+    /**
+     * The delay before the first retry of a notification, in milliseconds,
+     * which is doubled on every following retry.
+     */
+    private static final long BASE_BACKOFF = 1000;
+
+    /**
+     * The maximum delay between retries of a notification, in milliseconds.
+     */
+    private static final long MAX_BACKOFF = 600000;
+
+    /**
+     * The interval between loads of the notifications in the outbox that did
+     * not fit in memory, in seconds.
+     */
+    private static final int SWEEP_INTERVAL = 30;
+
+    /**
+     * The time that batched notifications are held before being dispatched,
+     * in milliseconds.
+     */
+    private static final long BATCH_WINDOW = 5000;
+
+    /**
+     * The maximum number of notifications in a batch, after which the batch is
+     * dispatched without waiting for the rest of its window.
+     */
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private static final int DEFAULT_CAPACITY = 10000;
+
+    private static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
+    private static final int DEFAULT_CONNECTIONS_PER_HOST = 4;
+
+    private static final int DEFAULT_TIMEOUT = 10000;
+
+    private final HttpClient client;
+
+    /**
+     * The persistent outbox, or null if notifications are only kept in memory.
+     */
+    private final DBCollection outbox;
+
+    private final int capacity;
+
+    private final int maxInFlight;
+
+    /**
+     * The notifications held in memory, which are either ready, being sent or
+     * waiting for a retry.
+     */
+    private final Map<ObjectId, Notification> pending;
+
+    private final Queue<Notification> ready;
+
+    private final AtomicInteger inFlight;
+
+    /**
+     * The executor where retries are scheduled and where the outbox is
+     * updated, so that client threads never wait on the database.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Flag that sets that the outbox has notifications that are not held in
+     * memory, which is set on start to recover the notifications of a
+     * previous run.
+     */
+    private final AtomicBoolean hasOverflowed;
+
+    private final NotificationBatcher batcher;
+
+    private final AtomicLong deliveredCount;
+
+    private final AtomicLong retriedCount;
+
+    private final AtomicLong failedCount;
+
+    private final AtomicLong droppedCount;
+
+    private final AtomicLong totalLatencyMillis;
+
+
+    /**
+     * Creates a new dispatcher that stores its outbox in the specified
+     * database, and that holds up to the specified number of notifications in
+     * memory, where up to the specified number are sent concurrently.
+     */
+    public NotificationDispatcher(final DB jobsDB,
+                                  final int capacity,
+                                  final int maxInFlight,
+                                  final int maxConnectionsPerHost,
+                                  final int timeoutMillis) {
+        QueuedThreadPool threadPool = new QueuedThreadPool(maxConnectionsPerHost + 2);
+        threadPool.setName("argus-notifier-client");
+        threadPool.setDaemon(true);
+
+        this.client = new HttpClient();
+        this.client.setConnectorType(HttpClient.CONNECTOR_SELECT_CHANNEL);
+        this.client.setThreadPool(threadPool);
+        this.client.setMaxConnectionsPerAddress(maxConnectionsPerHost);
+        this.client.setConnectTimeout(timeoutMillis);
+        this.client.setTimeout(timeoutMillis);
+        this.client.setIdleTimeout(30000);
+
+        this.outbox = jobsDB != null ? jobsDB.getCollection(OUTBOX_COLLECTION) : null;
+        this.capacity = capacity;
+        this.maxInFlight = maxInFlight;
+        this.pending = new ConcurrentHashMap<>();
+        this.ready = new ConcurrentLinkedQueue<>();
+        this.inFlight = new AtomicInteger(0);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "argus-notifier");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.hasOverflowed = new AtomicBoolean(outbox != null);
+        this.batcher = new NotificationBatcher(this, executor, BATCH_WINDOW, MAX_BATCH_SIZE);
+        this.deliveredCount = new AtomicLong();
+        this.retriedCount = new AtomicLong();
+        this.failedCount = new AtomicLong();
+        this.droppedCount = new AtomicLong();
+        this.totalLatencyMillis = new AtomicLong();
+    }
+
+
+    /**
+     * Creates a new dispatcher with the default limits, that stores its outbox
+     * in the specified database.
+     */
+    public NotificationDispatcher(final DB jobsDB) {
+        this(jobsDB, DEFAULT_CAPACITY, DEFAULT_MAX_IN_FLIGHT,
+                DEFAULT_CONNECTIONS_PER_HOST, DEFAULT_TIMEOUT);
+    }
+
+
+    /**
+     * Creates a new dispatcher with the default limits and without a
+     * persistent outbox, where the notifications that do not fit in memory are
+     * dropped.
+     */
+    public NotificationDispatcher() {
+        this(null);
+    }
+
+
+    /**
+     * Starts this dispatcher, which loads the notifications that were left in
+     * the outbox by a previous run.
+     */
+    public void start() throws Exception {
+        client.start();
+        if (outbox != null) {
+            outbox.createIndex(new BasicDBObject(Notification.NEXT_ATTEMPT, 1));
+            executor.scheduleWithFixedDelay(this::sweep, 0, SWEEP_INTERVAL, TimeUnit.SECONDS);
+        }
+    }
+
+
+    public void stop() {
+        // open batches are dispatched to the outbox, to be delivered on the
+        // next run if they are not delivered before the client is stopped
+        batcher.flushAll();
+        executor.shutdownNow();
+        try {
+            client.stop();
+        } catch (Exception ex) {
+            logger.error(ex.getMessage(), ex);
+        }
+    }
+
+
+    /**
+     * Dispatches the specified JSON message to the specified client url,
+     * returning immediately.
+     */
+    public void dispatch(final String clientUrl, final String body) {
+        dispatch(clientUrl, body, false);
+    }
+
+
+    /**
+     * Dispatches the specified JSON message to the specified client url,
+     * returning immediately, where the message is gzip-compressed if
+     * specified.
+     */
+    public void dispatch(final String clientUrl, final String body, final boolean isCompressed) {
+        Notification n = new Notification(clientUrl, body, isCompressed);
+        if (outbox != null) {
+            try {
+                outbox.insert(n.toDBObject());
+            } catch (MongoException ex) {
+                // the notification is still delivered, but not after a crash
+                logger.error(ex.getMessage(), ex);
+            }
+        }
+
+        if (pending.size() >= capacity) {
+            if (outbox != null) {
+                // loaded from the outbox when there is room for it
+                hasOverflowed.set(true);
+            } else {
+                droppedCount.incrementAndGet();
+                logger.error("Dropped notification to '{}': Too many pending notifications.",
+                        clientUrl);
+            }
+            return;
+        }
+
+        if (pending.putIfAbsent(n.getId(), n) == null) {
+            // otherwise, it was already loaded from the outbox by a sweep
+            ready.add(n);
+            pump();
+        }
+    }
+
+
+    /**
+     * Adds the specified JSON message to the batch of the specified client
+     * url, returning immediately, where the batch is dispatched as a JSON
+     * array after a short window or once it is full.
+     */
+    public void dispatchBatched(final String clientUrl,
+                                final String body,
+                                final boolean isCompressed) {
+        batcher.add(clientUrl, body, isCompressed);
+    }
+
+
+    /**
+     * Returns the number of notifications that are held in memory.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+
+    /**
+     * Returns the number of failed delivery attempts that were retried.
+     */
+    public long getRetriedCount() {
+        return retriedCount.get();
+    }
+
+
+    /**
+     * Returns the number of notifications that were discarded after spending
+     * their retry budget or after being rejected by their clients.
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+
+    /**
+     * Returns the number of notifications that were dropped because they did
+     * not fit in memory and there is no outbox.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+
+    /**
+     * Returns the average time between the dispatch and the delivery of the
+     * delivered notifications, in milliseconds.
+     */
+    public long getAverageLatencyMillis() {
+        long count = deliveredCount.get();
+        return count > 0 ? totalLatencyMillis.get() / count : 0;
+    }
+
+
+    @Override
+    public String toString() {
+        return "notifications[pending=" + getPendingCount() + "/" + capacity +
+                ", inFlight=" + getInFlightCount() +
+                ", delivered=" + getDeliveredCount() +
+                ", retried=" + getRetriedCount() +
+                ", failed=" + getFailedCount() +
+                ", dropped=" + getDroppedCount() +
+                ", avgLatency=" + getAverageLatencyMillis() + "ms]";
+    }
+
+
+    /**
+     * Sends ready notifications while there are less than the maximum number
+     * of notifications being sent.
+     */
+    private void pump() {
+        while (!ready.isEmpty()) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return;
+            }
+            if (!inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Notification n = ready.poll();
+            if (n == null) {
+                inFlight.decrementAndGet();
+                return;
+            }
+            send(n);
+        }
+    }
+
+
+    private void send(Notification n) {
+        ContentExchange exchange = new ContentExchange(false) {
+
+            @Override
+            protected void onResponseComplete() throws IOException {
+                super.onResponseComplete();
+                onComplete(n, getResponseStatus());
+            }
+
+
+            @Override
+            protected void onConnectionFailed(Throwable ex) {
+                super.onConnectionFailed(ex);
+                onFailure(n, ex.toString());
+            }
+
+
+            @Override
+            protected void onException(Throwable ex) {
+                super.onException(ex);
+                onFailure(n, ex.toString());
+            }
+
+
+            @Override
+            protected void onExpire() {
+                super.onExpire();
+                onFailure(n, "Timed out");
+            }
+        };
+        exchange.setMethod("POST");
+        exchange.setURL(n.getClientUrl());
+        exchange.setRequestContentType("application/json");
+
+        try {
+            byte[] content = n.getBody().getBytes(StandardCharsets.UTF_8);
+            if (n.isCompressed()) {
+                content = gzip(content);
+                exchange.setRequestHeader("Content-Encoding", "gzip");
+            }
+            exchange.setRequestContent(new ByteArrayBuffer(content));
+            client.send(exchange);
+        } catch (IOException | RuntimeException ex) {
+            onFailure(n, ex.toString());
+        }
+    }
+
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+
+    private void onComplete(Notification n, int status) {
+        inFlight.decrementAndGet();
+        if (status >= 200 && status < 300) {
+            deliveredCount.incrementAndGet();
+            totalLatencyMillis.addAndGet(System.currentTimeMillis() - n.getCreated());
+            discard(n);
+
+        } else if (status >= 500 || status == 408 || status == 429) {
+            retry(n, "Client returned HTTP response code " + status);
+
+        } else {
+            // the client rejected the notification, so retrying will not help
+            failedCount.incrementAndGet();
+            logger.error("Discarded notification to '{}': Client returned HTTP response code {}.",
+                    n.getClientUrl(), status);
+            discard(n);
+        }
+        pump();
+    }
+
+
+    private void onFailure(Notification n, String reason) {
+        inFlight.decrementAndGet();
+        retry(n, reason);
+        pump();
+    }
+
+
+    /**
+     * Schedules another delivery attempt of the specified notification with
+     * exponential backoff and jitter, or discards it if its retry budget was
+     * spent.
+     */
+    private void retry(Notification n, String reason) {
+        if (n.getAttempts() + 1 >= MAX_ATTEMPTS) {
+            failedCount.incrementAndGet();
+            logger.error("Discarded notification to '{}' after {} attempts: {}.",
+                    n.getClientUrl(), MAX_ATTEMPTS, reason);
+            discard(n);
+            return;
+        }
+
+        long backoff = Math.min(MAX_BACKOFF, BASE_BACKOFF << n.getAttempts());
+        backoff = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        n.failedAttempt(System.currentTimeMillis() + backoff);
+        retriedCount.incrementAndGet();
+        logger.info("Retrying notification to '{}' in {} ms: {}.",
+                n.getClientUrl(), backoff, reason);
+
+        try {
+            executor.execute(() -> updateOutbox(n));
+            executor.schedule(() -> {
+                ready.add(n);
+                pump();
+            }, backoff, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            // this dispatcher was stopped, so the notification is left in the
+            // outbox for the next run
+            pending.remove(n.getId());
+        }
+    }
+
+
+    /**
+     * Removes the specified notification from the outbox and from memory, in
+     * this order, so that it is never loaded again from the outbox.
+     */
+    private void discard(Notification n) {
+        try {
+            executor.execute(() -> {
+                if (outbox != null) {
+                    try {
+                        outbox.remove(new BasicDBObject(Notification.ID, n.getId()));
+                    } catch (MongoException ex) {
+                        logger.error(ex.getMessage(), ex);
+                    }
+                }
+                pending.remove(n.getId());
+            });
+        } catch (RejectedExecutionException ex) {
+            pending.remove(n.getId());
+        }
+    }
+
+
+    private void updateOutbox(Notification n) {
+        if (outbox == null) {
+            return;
+        }
+        try {
+            outbox.update(new BasicDBObject(Notification.ID, n.getId()), n.toDBObject());
+        } catch (MongoException ex) {
+            logger.error(ex.getMessage(), ex);
+        }
+    }
+
+
+    /**
+     * Loads the notifications in the outbox that are not held in memory, up to
+     * the available room in memory, in order of their next attempt.
+     */
+    private void sweep() {
+        if (!hasOverflowed.getAndSet(false)) {
+            return;
+        }
+
+        int room = capacity - pending.size();
+        if (room <= 0) {
+            hasOverflowed.set(true);
+            return;
+        }
+
+        int loaded = 0;
+        long now = System.currentTimeMillis();
+        DBCursor cursor = outbox.find()
+                .sort(new BasicDBObject(Notification.NEXT_ATTEMPT, 1));
+        try {
+            for (DBObject o : cursor) {
+                if (loaded >= room) {
+                    // the remaining notifications are loaded on the next sweep
+                    hasOverflowed.set(true);
+                    break;
+                }
+
+                Notification n = Notification.fromDBObject(o);
+                if (pending.putIfAbsent(n.getId(), n) != null) {
+                    continue;
+                }
+                loaded++;
+                executor.schedule(() -> {
+                    ready.add(n);
+                    pump();
+                }, Math.max(0, n.getNextAttempt() - now), TimeUnit.MILLISECONDS);
+            }
+        } catch (MongoException ex) {
+            logger.error(ex.getMessage(), ex);
+            hasOverflowed.set(true);
+        } finally {
+            cursor.close();
+        }
+
+        if (loaded > 0) {
+            logger.info("Loaded {} notifications from the outbox.", loaded);
+        }
+    }
+}
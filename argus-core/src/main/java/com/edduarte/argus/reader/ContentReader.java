@@ -0,0 +1,344 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.reader;
+
+import it.unimi.dsi.lang.MutableString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A character source that decodes the raw content of a document in bulk,
+ * which is the source that {@link Reader} classes read documents from.
+ * <p>
+ * The charset of the content is set by its byte-order mark, which is skipped,
+ * or otherwise by the charset declared along with the content type of the
+ * document, or otherwise by the charset declared in a meta tag or in the XML
+ * declaration at the start of the content, defaulting to UTF-8. Malformed
+ * input is replaced instead of failing the read.
+ * <p>
+ * Byte buffers, character buffers and decoders are pooled and reused by
+ * consecutive reads, so a read allocates no buffers once the pools are warm.
+ * Closing this source returns its buffers to the pools.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class ContentReader extends java.io.Reader {
+
+    private static final int BUFFER_SIZE = 16384;
+
+    /**
+     * The maximum number of idle buffers of each kind, and of idle decoders of
+     * each charset, that are kept for reuse.
+     */
+    private static final int POOL_SIZE = 32;
+
+    /**
+     * The number of bytes at the start of the content where a charset
+     * declaration is looked for.
+     */
+    private static final int PREFIX_SIZE = 1024;
+
+    private static final BlockingQueue<byte[]> byteBuffers = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private static final BlockingQueue<char[]> charBuffers = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private static final ConcurrentMap<Charset, BlockingQueue<CharsetDecoder>> decoders =
+            new ConcurrentHashMap<>();
+
+    private final InputStream in;
+
+    private final Charset charset;
+
+    private CharsetDecoder decoder;
+
+    private byte[] bytes;
+
+    /**
+     * The bytes that were read from the stream and were not decoded yet.
+     */
+    private ByteBuffer input;
+
+    /**
+     * A character that was decoded but that did not fit in the buffer of the
+     * previous read, which happens when a surrogate pair is read one
+     * character at a time.
+     */
+    private final CharBuffer spill;
+
+    private boolean isEndOfInput;
+
+    private boolean isFlushed;
+
+
+    private ContentReader(InputStream in,
+                          Charset charset,
+                          byte[] bytes,
+                          ByteBuffer input,
+                          boolean isEndOfInput) {
+        this.in = in;
+        this.charset = charset;
+        this.decoder = borrowDecoder(charset);
+        this.bytes = bytes;
+        this.input = input;
+        this.spill = CharBuffer.allocate(2);
+        this.spill.flip();
+        this.isEndOfInput = isEndOfInput;
+        this.isFlushed = false;
+    }
+
+
+    /**
+     * Opens a character source over the specified raw content, where the
+     * charset that was declared along with the content type of the content
+     * is used if it is not null and no byte-order mark is found.
+     */
+    public static ContentReader open(InputStream in, String declaredCharset) throws IOException {
+        byte[] bytes = byteBuffers.poll();
+        if (bytes == null) {
+            bytes = new byte[BUFFER_SIZE];
+        }
+
+        // the prefix is read into the buffer that is used for decoding, so
+        // that it does not need to be read again
+        int length = 0;
+        boolean isEndOfInput = false;
+        while (length < PREFIX_SIZE) {
+            int n = in.read(bytes, length, bytes.length - length);
+            if (n == -1) {
+                isEndOfInput = true;
+                break;
+            }
+            length += n;
+        }
+
+        ByteBuffer input = ByteBuffer.wrap(bytes, 0, length);
+        Charset charset = getByteOrderMarkCharset(bytes, length);
+        if (charset != null) {
+            input.position(charset == StandardCharsets.UTF_8 ? 3 : 2);
+        } else {
+            charset = forName(declaredCharset);
+            if (charset == null) {
+                charset = forName(getPrefixCharset(bytes, Math.min(length, PREFIX_SIZE)));
+            }
+            if (charset == null) {
+                charset = StandardCharsets.UTF_8;
+            }
+        }
+
+        return new ContentReader(in, charset, bytes, input, isEndOfInput);
+    }
+
+
+    /**
+     * Appends every remaining character of the specified source to the
+     * specified string, in chunks of the size of a pooled buffer.
+     */
+    public static void readFully(java.io.Reader reader, MutableString output) throws IOException {
+        char[] chunk = charBuffers.poll();
+        if (chunk == null) {
+            chunk = new char[BUFFER_SIZE];
+        }
+        try {
+            for (int n; (n = reader.read(chunk, 0, chunk.length)) != -1; ) {
+                output.append(chunk, 0, n);
+            }
+        } finally {
+            charBuffers.offer(chunk);
+        }
+    }
+
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        if (decoder == null) {
+            throw new IOException("Stream closed");
+        }
+        if (length == 0) {
+            return 0;
+        }
+
+        CharBuffer output = CharBuffer.wrap(buffer, offset, length);
+        while (spill.hasRemaining() && output.hasRemaining()) {
+            output.put(spill.get());
+        }
+
+        while (output.position() == offset) {
+            if (isFlushed) {
+                return -1;
+            }
+
+            CoderResult result = decoder.decode(input, output, isEndOfInput);
+            if (result.isOverflow()) {
+                if (output.position() == offset) {
+                    // a surrogate pair does not fit in a single character
+                    decodeSpill(output);
+                }
+            } else if (isEndOfInput) {
+                decoder.flush(output);
+                isFlushed = true;
+            } else {
+                fill();
+            }
+        }
+        return output.position() - offset;
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        if (decoder == null) {
+            return;
+        }
+        returnDecoder(charset, decoder);
+        byteBuffers.offer(bytes);
+        decoder = null;
+        bytes = null;
+        input = null;
+        in.close();
+    }
+
+
+    /**
+     * Reads more bytes from the stream, after the bytes that were not decoded
+     * yet.
+     */
+    private void fill() throws IOException {
+        input.compact();
+        int n = in.read(bytes, input.position(), input.remaining());
+        if (n == -1) {
+            isEndOfInput = true;
+        } else {
+            input.position(input.position() + n);
+        }
+        input.flip();
+    }
+
+
+    private void decodeSpill(CharBuffer output) {
+        spill.clear();
+        decoder.decode(input, spill, isEndOfInput);
+        spill.flip();
+        output.put(spill.get());
+    }
+
+
+    private static CharsetDecoder borrowDecoder(Charset charset) {
+        BlockingQueue<CharsetDecoder> pool = decoders.get(charset);
+        CharsetDecoder decoder = pool != null ? pool.poll() : null;
+        if (decoder == null) {
+            decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        return decoder.reset();
+    }
+
+
+    private static void returnDecoder(Charset charset, CharsetDecoder decoder) {
+        decoders.computeIfAbsent(charset, k -> new ArrayBlockingQueue<>(POOL_SIZE))
+                .offer(decoder);
+    }
+
+
+    private static Charset getByteOrderMarkCharset(byte[] bytes, int length) {
+        if (length >= 3 && (bytes[0] & 0xff) == 0xef && (bytes[1] & 0xff) == 0xbb &&
+                (bytes[2] & 0xff) == 0xbf) {
+            return StandardCharsets.UTF_8;
+        }
+        if (length >= 2 && (bytes[0] & 0xff) == 0xfe && (bytes[1] & 0xff) == 0xff) {
+            return StandardCharsets.UTF_16BE;
+        }
+        if (length >= 2 && (bytes[0] & 0xff) == 0xff && (bytes[1] & 0xff) == 0xfe) {
+            return StandardCharsets.UTF_16LE;
+        }
+        return null;
+    }
+
+
+    /**
+     * Returns the charset declared in a meta tag or in the XML declaration
+     * within the specified prefix of the content, or null if there is none.
+     */
+    private static String getPrefixCharset(byte[] bytes, int length) {
+        String head = new String(bytes, 0, length, StandardCharsets.ISO_8859_1).toLowerCase();
+        if (head.startsWith("<?xml")) {
+            String encoding = getAttributeValue(head, head.indexOf("encoding="));
+            if (encoding != null) {
+                return encoding;
+            }
+        }
+
+        int meta = head.indexOf("<meta");
+        return meta >= 0 ? getAttributeValue(head, head.indexOf("charset=", meta)) : null;
+    }
+
+
+    private static String getAttributeValue(String text, int i) {
+        if (i < 0) {
+            return null;
+        }
+        i = text.indexOf('=', i) + 1;
+        while (i < text.length() && (text.charAt(i) == '"' || text.charAt(i) == '\'' ||
+                text.charAt(i) == ' ')) {
+            i++;
+        }
+        int start = i;
+        while (i < text.length() && (Character.isLetterOrDigit(text.charAt(i)) ||
+                text.charAt(i) == '-' || text.charAt(i) == '_' || text.charAt(i) == ':' ||
+                text.charAt(i) == '.')) {
+            i++;
+        }
+        return i > start ? text.substring(start, i) : null;
+    }
+
+
+    /**
+     * Returns the charset with the specified name, or null if the name is null
+     * or if the charset is not supported.
+     */
+    private static Charset forName(String charsetName) {
+        if (charsetName == null) {
+            return null;
+        }
+        try {
+            charsetName = charsetName.trim();
+            return Charset.isSupported(charsetName) ? Charset.forName(charsetName) : null;
+        } catch (IllegalCharsetNameException ex) {
+            return null;
+        }
+    }
+}
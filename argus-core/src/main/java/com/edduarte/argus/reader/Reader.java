@@ -23,17 +23,32 @@ import java.io.IOException;
 import java.io.InputStream;
 
 /**
- * Indexing module that reads an {@link java.io.InputStream} of a document in a
+ * Indexing module that reads the decoded characters of a document in a
  * specific format / extension, and provides the most optimized state of its textual
  * content according to that extension.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public interface Reader {
 
-    MutableString readDocumentContents(InputStream documentStream) throws IOException;
+    /**
+     * Reads the textual content of a document from the specified character
+     * source, which is already decoded and buffered.
+     */
+    MutableString readDocumentContents(java.io.Reader documentReader) throws IOException;
+
+    /**
+     * Reads the textual content of a document from the specified raw content,
+     * which is decoded with the charset of its byte-order mark or of its
+     * declaration, defaulting to UTF-8.
+     */
+    default MutableString readDocumentContents(InputStream documentStream) throws IOException {
+        try (ContentReader documentReader = ContentReader.open(documentStream, null)) {
+            return readDocumentContents(documentReader);
+        }
+    }
 
     ImmutableSet<String> getSupportedContentTypes();
 }
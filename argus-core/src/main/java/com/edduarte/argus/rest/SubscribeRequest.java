@@ -27,7 +27,7 @@ import java.util.List;
  * This request is consumed by the 'watch' method in the RESTResource class.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.3
+ * @version 1.5.0
  * @since 1.0.0
  */
 public class SubscribeRequest implements Serializable {
@@ -39,6 +39,10 @@ public class SubscribeRequest implements Serializable {
 
     private static final boolean DEFAULT_IGNORE_REMOVED = false;
 
+    private static final boolean DEFAULT_BATCH = false;
+
+    private static final boolean DEFAULT_COMPRESS = false;
+
     @JsonProperty
     private String documentUrl; // mandatory field
 
@@ -67,6 +71,19 @@ public class SubscribeRequest implements Serializable {
     @JsonProperty
     private boolean ignoreRemoved;
 
+    /**
+     * Flag that sets that the notifications to the client are coalesced with
+     * other notifications to the same client and delivered in batches.
+     */
+    @JsonProperty
+    private boolean batch;
+
+    /**
+     * Flag that sets that the notifications to the client are gzip-compressed.
+     */
+    @JsonProperty
+    private boolean compress;
+
 
     /**
      * Used by GSON.
@@ -75,6 +92,8 @@ public class SubscribeRequest implements Serializable {
         this.interval = DEFAULT_INTERVAL;
         this.ignoreAdded = DEFAULT_IGNORE_ADDED;
         this.ignoreRemoved = DEFAULT_IGNORE_REMOVED;
+        this.batch = DEFAULT_BATCH;
+        this.compress = DEFAULT_COMPRESS;
     }
 
 
@@ -87,12 +106,27 @@ public class SubscribeRequest implements Serializable {
                             final int interval,
                             final boolean ignoreAdded,
                             final boolean ignoreRemoved) {
+        this(documentUrl, clientUrl, keywords, interval, ignoreAdded, ignoreRemoved,
+                DEFAULT_BATCH, DEFAULT_COMPRESS);
+    }
+
+
+    public SubscribeRequest(final String documentUrl,
+                            final String clientUrl,
+                            final List<String> keywords,
+                            final int interval,
+                            final boolean ignoreAdded,
+                            final boolean ignoreRemoved,
+                            final boolean batch,
+                            final boolean compress) {
         this.documentUrl = documentUrl;
         this.clientUrl = clientUrl;
         this.keywords = keywords;
         this.interval = interval;
         this.ignoreAdded = ignoreAdded;
         this.ignoreRemoved = ignoreRemoved;
+        this.batch = batch;
+        this.compress = compress;
     }
 
 
@@ -126,6 +160,16 @@ public class SubscribeRequest implements Serializable {
     }
 
 
+    public boolean getBatch() {
+        return batch;
+    }
+
+
+    public boolean getCompress() {
+        return compress;
+    }
+
+
     @Override
     public String toString() {
         Gson gson = new Gson();
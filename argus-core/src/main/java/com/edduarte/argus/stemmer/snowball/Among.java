@@ -16,8 +16,16 @@
 
 package com.edduarte.argus.stemmer.snowball;
 
-import java.lang.reflect.Method;
-
+import java.util.function.Predicate;
+
+/**
+ * This class was modified from its original version (available at
+ * http://snowball.tartarus.org) to refer to the routine of an entry through a
+ * direct method reference instead of a reflected method, so that matching an
+ * entry never goes through reflection. The routine is invoked on the stemmer
+ * that is performing the lookup, which must be an instance of the class that
+ * declared the table of this entry.
+ */
 public class Among {
 
     public final int s_size; /* search string */
@@ -28,28 +36,27 @@ public class Among {
 
     public final int result; /* result of the lookup */
 
-    public final Method method; /* method to use if substring matches */
+    public final Predicate<SnowballStemmer> method; /* routine to call if substring matches */
 
-    public final SnowballStemmer methodobject; /* object to invoke method on */
 
+    public Among(String s, int substring_i, int result) {
+        this.s_size = s.length();
+        this.s = s.toCharArray();
+        this.substring_i = substring_i;
+        this.result = result;
+        this.method = null;
+    }
 
-    public Among(String s, int substring_i, int result,
-                 String methodname, SnowballStemmer methodobject) {
 
+    @SuppressWarnings("unchecked")
+    public <T extends SnowballStemmer> Among(String s, int substring_i, int result,
+                                             Predicate<T> method) {
         this.s_size = s.length();
         this.s = s.toCharArray();
         this.substring_i = substring_i;
         this.result = result;
-        this.methodobject = methodobject;
-        if (methodname.length() == 0) {
-            this.method = null;
-        } else {
-            try {
-                this.method = methodobject.getClass().
-                        getDeclaredMethod(methodname, new Class[0]);
-            } catch (NoSuchMethodException e) {
-                throw new RuntimeException(e);
-            }
-        }
+        // tables are only looked up by stemmers of the class that declared them,
+        // so the routine is always invoked on an instance of T
+        this.method = (Predicate<SnowballStemmer>) method;
     }
 }
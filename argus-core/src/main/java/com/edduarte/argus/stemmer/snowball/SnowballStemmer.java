@@ -19,13 +19,13 @@ package com.edduarte.argus.stemmer.snowball;
 import com.edduarte.argus.stemmer.Stemmer;
 import it.unimi.dsi.lang.MutableString;
 
-import java.lang.reflect.InvocationTargetException;
-
 /**
  * This class was modified from its original version (available at
  * http://snowball.tartarus.org) to handle MutableStrings instead of StringBuffers,
  * since mutable strings perform byte allocation instead of instantiating new
  * immutable string each time a modification is performed (as the Java String does).
+ * Routines of among tables are called through method references instead of
+ * reflection, on the stemmer that is performing the lookup.
  */
 public abstract class SnowballStemmer implements Stemmer {
 
@@ -255,18 +255,7 @@ public abstract class SnowballStemmer implements Stemmer {
             if (common_i >= w.s_size) {
                 cursor = c + w.s_size;
                 if (w.method == null) return w.result;
-                boolean res;
-                try {
-                    Object resobj = w.method.invoke(w.methodobject,
-                            new Object[0]);
-                    res = resobj.toString().equals("true");
-                } catch (InvocationTargetException e) {
-                    res = false;
-                    // FIXME - debug message
-                } catch (IllegalAccessException e) {
-                    res = false;
-                    // FIXME - debug message
-                }
+                boolean res = w.method.test(this);
                 cursor = c + w.s_size;
                 if (res) return w.result;
             }
@@ -323,19 +312,7 @@ public abstract class SnowballStemmer implements Stemmer {
             if (common_i >= w.s_size) {
                 cursor = c - w.s_size;
                 if (w.method == null) return w.result;
-
-                boolean res;
-                try {
-                    Object resobj = w.method.invoke(w.methodobject,
-                            new Object[0]);
-                    res = resobj.toString().equals("true");
-                } catch (InvocationTargetException e) {
-                    res = false;
-                    // FIXME - debug message
-                } catch (IllegalAccessException e) {
-                    res = false;
-                    // FIXME - debug message
-                }
+                boolean res = w.method.test(this);
                 cursor = c - w.s_size;
                 if (res) return w.result;
             }
@@ -29,11 +29,9 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Module that checks if the received textual state of a occurrence corresponds
@@ -42,28 +40,32 @@ import java.util.stream.Collectors;
  * The file's contents are read by line, including every word in each line as a
  * stopword. When the pipe character '|' is detected, the remaining text from
  * the line is ignored.
+ * <p>
+ * Once loaded, the stopwords of a FileStopper are immutable, so a single
+ * instance can be shared by concurrent pipelines.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public class FileStopper implements Stopper {
 
     private static final Logger logger = LoggerFactory.getLogger(FileStopper.class);
 
-    private Set<MutableString> stopwords;
+    private final Set<MutableString> stopwords;
 
 
     public FileStopper(String language) {
-        boolean loadSuccessful = load(language);
-        if (!loadSuccessful) {
-            this.stopwords = ImmutableSet.of();
-        }
+        this(new File(Constants.STOPWORDS_DIR, language + ".txt"));
+    }
+
+
+    public FileStopper(File stopwordsFile) {
+        this.stopwords = load(stopwordsFile);
     }
 
 
-    private boolean load(String language) {
-        File stopwordsFile = new File(Constants.STOPWORDS_DIR, language + ".txt");
+    private static Set<MutableString> load(File stopwordsFile) {
         if (stopwordsFile.exists()) {
             try (InputStream is = new FileInputStream(stopwordsFile);
                  Parser parser = new SimpleParser()) {
@@ -90,25 +92,20 @@ public class FileStopper implements Stopper {
                             return;
                         }
 
-                        Set<MutableString> stopwordsAtLine = parser
-                                .parse(stopwordLine)
-                                .parallelStream()
-                                .map(sw -> sw.text)
-                                .collect(Collectors.toSet());
-                        stopwordsAux.addAll(stopwordsAtLine);
+                        for (Parser.Result r : parser.parse(stopwordLine)) {
+                            stopwordsAux.add(r.text);
+                        }
                     }
                 });
 
-                stopwords = ImmutableSet.copyOf(stopwordsAux);
-                return true;
+                return ImmutableSet.copyOf(stopwordsAux);
 
             } catch (IOException e) {
                 logger.error("There was a problem loading the stopword file.", e);
-                stopwords = Collections.emptySet();
             }
         }
 
-        return false;
+        return ImmutableSet.of();
     }
 
 
@@ -126,6 +123,7 @@ public class FileStopper implements Stopper {
 
     @Override
     public void destroy() {
-        stopwords = null;
+        // the stopwords are immutable and may be shared by other pipelines,
+        // so they are left for the garbage collector to reclaim
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.util;
+
+/**
+ * A 64-bit similarity fingerprint of a text, where every word of the text
+ * votes on every bit of the fingerprint with the bits of its hash. Unlike a
+ * cryptographic hash, texts that share most of their words have fingerprints
+ * that differ in few bits, so the number of different bits between two
+ * fingerprints estimates how much a text changed.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class SimHash {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+
+    private SimHash() {
+    }
+
+
+    /**
+     * Returns the fingerprint of the specified text, where words are
+     * separated by whitespace and compared ignoring case.
+     */
+    public static long of(CharSequence text) {
+        int[] votes = new int[64];
+        long hash = FNV_OFFSET_BASIS;
+        boolean isInWord = false;
+        for (int i = 0, length = text.length(); i <= length; i++) {
+            char c = i < length ? text.charAt(i) : ' ';
+            if (Character.isWhitespace(c)) {
+                if (isInWord) {
+                    vote(votes, mix(hash));
+                    hash = FNV_OFFSET_BASIS;
+                    isInWord = false;
+                }
+            } else {
+                hash = (hash ^ Character.toLowerCase(c)) * FNV_PRIME;
+                isInWord = true;
+            }
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+
+    /**
+     * Returns the number of different bits between the specified
+     * fingerprints, from 0 for texts with the same words to 64.
+     */
+    public static int distance(long fingerprint1, long fingerprint2) {
+        return Long.bitCount(fingerprint1 ^ fingerprint2);
+    }
+
+
+    private static void vote(int[] votes, long wordHash) {
+        for (int bit = 0; bit < 64; bit++) {
+            votes[bit] += ((wordHash >>> bit) & 1) == 1 ? 1 : -1;
+        }
+    }
+
+
+    /**
+     * Spreads the bits of a word hash, since the bits of similar words are
+     * otherwise too correlated to vote independently.
+     */
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
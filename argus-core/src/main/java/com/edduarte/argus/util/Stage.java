@@ -0,0 +1,273 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.util;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A processing stage with its own thread pool and bounded task queue, where
+ * tasks submitted to a full stage block the submitting thread until there is
+ * room in the queue. When stages are chained, this provides backpressure from
+ * slower stages to the stages that feed them, instead of letting tasks pile up
+ * in memory.
+ * <p>
+ * Stages are also executors, so they can be used by any component that
+ * dispatches its work to an executor.
+ * <p>
+ * Threads that must never block, like the threads of an HTTP client or of a
+ * timer, enqueue their tasks instead of submitting them. Enqueued tasks that
+ * do not fit in the queue wait in an unbounded overflow list, which is moved
+ * into the queue by the threads of the stage as soon as there is room in it.
+ * Because of that, tasks must only be enqueued when their number is bounded
+ * elsewhere, like by the number of documents that are being detected.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class Stage implements Executor {
+
+    private final String name;
+
+    private final int queueCapacity;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * The enqueued tasks that did not fit in the queue of this stage.
+     */
+    private final Queue<Runnable> overflow;
+
+    /**
+     * The number of tasks of this stage that completed with an exception.
+     */
+    private final AtomicLong failedCount;
+
+
+    public Stage(final String name, final int threads, final int queueCapacity) {
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        this.failedCount = new AtomicLong(0);
+        this.overflow = new ConcurrentLinkedQueue<>();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new StageThreadFactory(name),
+                (task, executor) -> {
+                    // blocks until there is room in the queue
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException(
+                                "Stage '" + name + "' was shutdown.");
+                    }
+                    try {
+                        executor.getQueue().put(task);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException(ex);
+                    }
+                }
+        ) {
+            @Override
+            protected void afterExecute(Runnable task, Throwable ex) {
+                drainOverflow();
+            }
+        };
+
+        // enqueued tasks are added directly to the queue, so the threads that
+        // take them must already be running
+        this.executor.prestartAllCoreThreads();
+    }
+
+
+    /**
+     * Submits the specified task to be executed by this stage, blocking if the
+     * queue of this stage is full, and returns a future that completes with the
+     * result of the task.
+     */
+    public <T> CompletableFuture<T> submit(final Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(newTask(task, future));
+        } catch (RejectedExecutionException ex) {
+            failedCount.incrementAndGet();
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+
+    /**
+     * Enqueues the specified task to be executed by this stage without ever
+     * blocking, and returns a future that completes with the result of the
+     * task. If the queue of this stage is full, the task waits in the overflow
+     * list of this stage until there is room in the queue.
+     */
+    public <T> CompletableFuture<T> enqueue(final Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (executor.isShutdown()) {
+            failedCount.incrementAndGet();
+            future.completeExceptionally(new RejectedExecutionException(
+                    "Stage '" + name + "' was shutdown."));
+            return future;
+        }
+
+        Runnable runnable = newTask(task, future);
+        if (!overflow.isEmpty() || !executor.getQueue().offer(runnable)) {
+            // the stage threads may have emptied the queue before the task
+            // was added to the overflow list, so it is drained here as well
+            overflow.add(runnable);
+            drainOverflow();
+        }
+        return future;
+    }
+
+
+    /**
+     * Returns an executor that enqueues its tasks in this stage without ever
+     * blocking, to be used by asynchronous callbacks that run on threads that
+     * must not block.
+     */
+    public Executor nonBlocking() {
+        return task -> enqueue(Executors.callable(task));
+    }
+
+
+    /**
+     * Executes the specified task in this stage, blocking if the queue of this
+     * stage is full.
+     */
+    @Override
+    public void execute(final Runnable task) {
+        submit(Executors.callable(task));
+    }
+
+
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * Returns the number of tasks that are waiting in the queue of this stage,
+     * including enqueued tasks that did not fit in it.
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size() + overflow.size();
+    }
+
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+
+    /**
+     * Returns the number of tasks that are being executed by this stage.
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+
+    public long getCompletedCount() {
+        return executor.getCompletedTaskCount();
+    }
+
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+
+    private <T> Runnable newTask(Callable<T> task, CompletableFuture<T> future) {
+        return () -> {
+            try {
+                future.complete(task.call());
+            } catch (Throwable ex) {
+                failedCount.incrementAndGet();
+                future.completeExceptionally(ex);
+            }
+        };
+    }
+
+
+    /**
+     * Moves as many tasks from the overflow list to the queue of this stage as
+     * there is room for in it, in the order in which they were enqueued.
+     */
+    private void drainOverflow() {
+        if (overflow.isEmpty()) {
+            return;
+        }
+        synchronized (overflow) {
+            Runnable next;
+            while ((next = overflow.peek()) != null && executor.getQueue().offer(next)) {
+                overflow.poll();
+            }
+        }
+    }
+
+
+    @Override
+    public String toString() {
+        return name + "[queued=" + getQueueDepth() + "/" + queueCapacity +
+                ", active=" + getActiveCount() +
+                ", completed=" + getCompletedCount() +
+                ", failed=" + getFailedCount() + "]";
+    }
+
+
+    private static final class StageThreadFactory implements ThreadFactory {
+
+        private final String name;
+
+        private final AtomicInteger threadCount;
+
+
+        private StageThreadFactory(String name) {
+            this.name = name;
+            this.threadCount = new AtomicInteger(1);
+        }
+
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "argus-" + name + "-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.util;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel, where scheduling and cancelling a timeout take
+ * constant time regardless of the number of scheduled timeouts.
+ * <p>
+ * Time is divided into ticks of a fixed duration, and the wheel is made of
+ * several levels of 256 slots each, where every slot of a level spans all of
+ * the slots of the level below it. Timeouts are placed in the lowest level that
+ * covers their deadline, and when the lowest level completes a rotation, the
+ * timeouts of the next slot of the level above it are cascaded down. With 4
+ * levels, deadlines of up to 2^32 ticks ahead are supported, and timeouts
+ * further ahead are kept in the highest level until they are close enough.
+ * <p>
+ * Timing wheels are not thread-safe, so all accesses must be synchronized
+ * externally.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class TimingWheel<T> {
+
+    private static final int LEVELS = 4;
+
+    private static final int SLOT_BITS = 8;
+
+    private static final int SLOTS = 1 << SLOT_BITS;
+
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private static final long MAX_TICKS = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickMillis;
+
+    private final long startMillis;
+
+    /**
+     * The slots of every level, where each slot is the sentinel of a circular
+     * doubly-linked list of timeouts.
+     */
+    private final Timeout<T>[][] slots;
+
+    /**
+     * The last tick that was processed by this wheel.
+     */
+    private long currentTick;
+
+    private int size;
+
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(final long tickMillis, final long startMillis) {
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.slots = new Timeout[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int i = 0; i < SLOTS; i++) {
+                Timeout<T> sentinel = new Timeout<>(null, 0);
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+                slots[level][i] = sentinel;
+            }
+        }
+        this.currentTick = 0;
+        this.size = 0;
+    }
+
+
+    /**
+     * Schedules the specified value to expire at the specified time, in
+     * milliseconds. Deadlines that already passed expire on the next tick.
+     */
+    public Timeout<T> schedule(T value, long deadlineMillis) {
+        long deadlineTick = (deadlineMillis - startMillis + tickMillis - 1) / tickMillis;
+        Timeout<T> timeout = new Timeout<>(value, deadlineTick);
+        place(timeout, currentTick + 1);
+        size++;
+        return timeout;
+    }
+
+
+    /**
+     * Cancels the specified timeout, returning true if it was still scheduled.
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (!timeout.isScheduled()) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+
+    /**
+     * Processes every tick up to the specified time, in milliseconds, passing
+     * the value of every timeout that expired in the meantime to the specified
+     * consumer, in order of expiration.
+     */
+    public void advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // cascade the timeouts of the next slot of every level whose
+            // lower level completed a rotation
+            for (int level = 1; level < LEVELS; level++) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                    break;
+                }
+                int index = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+                Timeout<T> t = detach(slots[level][index]);
+                while (t != null) {
+                    Timeout<T> next = t.next;
+                    place(t, currentTick);
+                    t = next;
+                }
+            }
+
+            Timeout<T> t = detach(slots[0][(int) (currentTick & SLOT_MASK)]);
+            while (t != null) {
+                Timeout<T> next = t.next;
+                t.next = null;
+                size--;
+                expired.accept(t.value);
+                t = next;
+            }
+        }
+    }
+
+
+    /**
+     * Returns the number of scheduled timeouts.
+     */
+    public int size() {
+        return size;
+    }
+
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+
+    /**
+     * Returns the time, in milliseconds, up to which this wheel was advanced.
+     */
+    public long getCurrentMillis() {
+        return startMillis + currentTick * tickMillis;
+    }
+
+
+    private void place(Timeout<T> timeout, long minTick) {
+        long deadlineTick = Math.max(timeout.deadlineTick, minTick);
+        long delta = deadlineTick - currentTick;
+        if (delta >= MAX_TICKS) {
+            // kept in the highest level until it is close enough
+            deadlineTick = currentTick + MAX_TICKS - 1;
+            delta = MAX_TICKS - 1;
+        }
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int index = (int) ((deadlineTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        Timeout<T> sentinel = slots[level][index];
+        timeout.prev = sentinel.prev;
+        timeout.next = sentinel;
+        sentinel.prev.next = timeout;
+        sentinel.prev = timeout;
+    }
+
+
+    /**
+     * Removes all timeouts from the slot with the specified sentinel, and
+     * returns the first of them, chained through their next references.
+     */
+    private Timeout<T> detach(Timeout<T> sentinel) {
+        if (sentinel.next == sentinel) {
+            return null;
+        }
+        Timeout<T> first = sentinel.next;
+        sentinel.prev.next = null;
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+        for (Timeout<T> t = first; t != null; t = t.next) {
+            t.prev = null;
+        }
+        return first;
+    }
+
+
+    private static <T> void unlink(Timeout<T> timeout) {
+        timeout.prev.next = timeout.next;
+        timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+
+    /**
+     * A value scheduled in a timing wheel.
+     */
+    public static final class Timeout<T> {
+
+        private final T value;
+
+        private final long deadlineTick;
+
+        private Timeout<T> prev;
+
+        private Timeout<T> next;
+
+
+        private Timeout(final T value, final long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+
+        public T getValue() {
+            return value;
+        }
+
+
+        /**
+         * Checks if this timeout is still waiting to expire.
+         */
+        public boolean isScheduled() {
+            return prev != null;
+        }
+    }
+}
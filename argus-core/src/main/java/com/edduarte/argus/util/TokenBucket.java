@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.util;
+
+/**
+ * A token bucket that limits the rate of an operation, where tokens are added
+ * at a constant rate up to a maximum burst, and every operation takes a token.
+ * <p>
+ * Instead of blocking until a token is available, callers either reserve a
+ * token and are told how long to defer their operation, so that reservations
+ * are served in order and the rate of operations never exceeds the rate of
+ * the bucket, or try to take a token and are told how long to wait before
+ * trying again.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public final class TokenBucket {
+
+    private final double tokensPerMilli;
+
+    private final double maxTokens;
+
+    /**
+     * The available tokens, which is negative when there are reservations
+     * waiting for tokens.
+     */
+    private double tokens;
+
+    private long lastRefillMillis;
+
+
+    /**
+     * Creates a new full bucket with the specified rate, in tokens per
+     * second, and the specified maximum burst of tokens.
+     */
+    public TokenBucket(final double tokensPerSecond, final int maxBurst) {
+        if (tokensPerSecond <= 0 || maxBurst < 1) {
+            throw new IllegalArgumentException("The rate and burst of a token bucket must be positive.");
+        }
+        this.tokensPerMilli = tokensPerSecond / 1000;
+        this.maxTokens = maxBurst;
+        this.tokens = maxBurst;
+        this.lastRefillMillis = System.currentTimeMillis();
+    }
+
+
+    /**
+     * Reserves a token, returning the time in milliseconds that the caller
+     * must wait before using it, or 0 if the token is available now.
+     */
+    public long reserve() {
+        return reserve(System.currentTimeMillis());
+    }
+
+
+    synchronized long reserve(long nowMillis) {
+        refill(nowMillis);
+        tokens -= 1;
+        if (tokens >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-tokens / tokensPerMilli);
+    }
+
+
+    /**
+     * Takes a token if one is available now, returning 0, or otherwise
+     * returns the time in milliseconds until a token is available, without
+     * reserving it.
+     */
+    public long tryAcquire() {
+        return tryAcquire(System.currentTimeMillis());
+    }
+
+
+    synchronized long tryAcquire(long nowMillis) {
+        refill(nowMillis);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerMilli));
+    }
+
+
+    /**
+     * Checks if this bucket is full, which means that it was not used for as
+     * long as it takes to refill it.
+     */
+    public synchronized boolean isFull() {
+        refill(System.currentTimeMillis());
+        return tokens >= maxTokens;
+    }
+
+
+    private void refill(long nowMillis) {
+        if (nowMillis > lastRefillMillis) {
+            tokens = Math.min(maxTokens, tokens + (nowMillis - lastRefillMillis) * tokensPerMilli);
+            lastRefillMillis = nowMillis;
+        }
+    }
+
+
+    /**
+     * Returns the rate of this bucket, in tokens per second.
+     */
+    public double getRate() {
+        return tokensPerMilli * 1000;
+    }
+}
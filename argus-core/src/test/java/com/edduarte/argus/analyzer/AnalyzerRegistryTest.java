@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.analyzer;
+
+import it.unimi.dsi.lang.MutableString;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class AnalyzerRegistryTest {
+
+    private File stopwordsDir;
+
+
+    @Before
+    public void setUp() throws IOException {
+        stopwordsDir = Files.createTempDirectory("argus-stopwords").toFile();
+        write("en", "the", "and | conjunction");
+        write("pt", "e", "o");
+    }
+
+
+    @After
+    public void close() {
+        File[] files = stopwordsDir.listFiles();
+        if (files != null) {
+            Arrays.stream(files).forEach(File::delete);
+        }
+        stopwordsDir.delete();
+    }
+
+
+    @Test
+    public void testShared() {
+        AnalyzerRegistry registry = new AnalyzerRegistry(stopwordsDir);
+
+        Analyzer en = registry.get("en");
+        assertSame(en, registry.get("en"));
+        assertTrue(en.getStopper().isStopword(new MutableString("the")));
+        assertTrue(en.getStopper().isStopword(new MutableString("and")));
+        assertFalse(en.getStopper().isStopword(new MutableString("conjunction")));
+
+        Analyzer pt = registry.get("pt");
+        assertNotSame(en, pt);
+        assertTrue(pt.getStopper().isStopword(new MutableString("o")));
+        assertFalse(pt.getStopper().isStopword(new MutableString("the")));
+
+        // unsupported languages fall back to the english stopwords
+        Analyzer fr = registry.get("fr");
+        assertTrue(fr.getStopper().isStopword(new MutableString("the")));
+    }
+
+
+    @Test
+    public void testRefresh() throws IOException {
+        AnalyzerRegistry registry = new AnalyzerRegistry(stopwordsDir);
+
+        Analyzer pt = registry.get("pt");
+        assertFalse(pt.getStopper().isStopword(new MutableString("um")));
+
+        File ptFile = write("pt", "e", "o", "um");
+        ptFile.setLastModified(ptFile.lastModified() + 2000);
+
+        Analyzer refreshed = registry.get("pt");
+        assertNotSame(pt, refreshed);
+        assertTrue(refreshed.getStopper().isStopword(new MutableString("um")));
+
+        // a stopword file for a previously unsupported language is picked up
+        Analyzer fr = registry.get("fr");
+        assertFalse(fr.getStopper().isStopword(new MutableString("le")));
+        write("fr", "le", "la");
+        assertTrue(registry.get("fr").getStopper().isStopword(new MutableString("le")));
+    }
+
+
+    private File write(String language, String... lines) throws IOException {
+        File file = new File(stopwordsDir, language + ".txt");
+        Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.analyzer;
+
+import com.google.common.base.Strings;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class LanguageIdentifierTest {
+
+    @Test
+    public void testShortText() {
+        String text = "argus panoptes is the name of the hundred eyed giant";
+        assertEquals(text, LanguageIdentifier.sample(text).toString());
+
+        // text that fits in the sample is not split into windows
+        String words = words(new Random(42), 8000, new HashSet<>());
+        assertEquals(words, LanguageIdentifier.sample(words).toString());
+    }
+
+
+    @Test
+    public void testLongText() {
+        Set<String> dictionary = new HashSet<>();
+        String text = words(new Random(42), 100000, dictionary);
+        String sample = LanguageIdentifier.sample(text).toString();
+
+        // four windows of about 2K characters, with the start and the end of
+        // the text
+        assertTrue(sample.length() >= 4 * (2048 - 10));
+        assertTrue(sample.length() <= 4 * (2048 + 10));
+        assertTrue(text.startsWith(sample.substring(0, 100)));
+        assertTrue(text.endsWith(sample.substring(sample.length() - 100)));
+
+        // windows are aligned to the boundaries of words, so every word of the
+        // sample is a whole word of the text
+        for (String word : sample.split(" ")) {
+            assertTrue(word, dictionary.contains(word));
+        }
+    }
+
+
+    @Test
+    public void testTextWithoutWhitespace() {
+        String text = Strings.repeat("a", 2048 + 3 * 30000);
+        String sample = LanguageIdentifier.sample(text).toString();
+
+        // windows are cut at their bounds when there are no words to align to
+        assertEquals(4 * 2048 + 3, sample.length());
+        assertEquals(Strings.repeat("a", 2048), sample.substring(0, 2048));
+    }
+
+
+    /**
+     * Returns a text of random words, separated by single spaces, that is at
+     * least as long as the specified length and at most one word longer,
+     * adding each word to the specified set.
+     */
+    private static String words(Random random, int length, Set<String> dictionary) {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < length) {
+            StringBuilder word = new StringBuilder();
+            for (int i = 0, n = 3 + random.nextInt(7); i < n; i++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(word);
+            dictionary.add(word.toString());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.cleaner;
+
+import it.unimi.dsi.lang.MutableString;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class TextNormalizerTest {
+
+    @Test
+    public void testNormalize() {
+        assertEquals("Velazquez e Ecija Sao Paulo", normalize("  Velázquez é\n\nÉcija → São Paulo!  "));
+        assertEquals("a b c", normalize("\u00e1 \u0303  b \n c"));
+        assertEquals("", normalize(" \n ¿? "));
+        assertEquals("", normalize(""));
+    }
+
+
+    @Test
+    public void testSameAsCleaners() {
+        // every character of the basic multilingual plane, in random order and
+        // with runs of spaces, is cleaned like the previous chain of cleaners
+        // followed by the collapse of spaces and the trim
+        Random random = new Random(42);
+        for (int n = 0; n < 50; n++) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 5000; i++) {
+                int r = random.nextInt(10);
+                if (r < 3) {
+                    sb.append(' ');
+                } else if (r < 6) {
+                    sb.append((char) random.nextInt(0x80));
+                } else {
+                    sb.append((char) random.nextInt(Character.MAX_VALUE + 1));
+                }
+            }
+            String text = sb.toString();
+
+            MutableString expected = new MutableString(text);
+            AndCleaner.of(new SpecialCharsCleaner(), new DiacriticCleaner()).clean(expected);
+
+            assertEquals(expected.toString().replaceAll(" +", " ").trim(), normalize(text));
+        }
+    }
+
+
+    @Test
+    public void testCompactHashCode() {
+        // compact strings cache their hash code, which must not be kept after
+        // the characters are rewritten in place
+        MutableString s = new MutableString("S\u00e3o Paulo").compact();
+        s.hashCode();
+        new TextNormalizer().clean(s);
+        assertEquals("Sao Paulo", s.toString());
+        assertEquals(new MutableString("Sao Paulo").compact().hashCode(), s.hashCode());
+    }
+
+
+    private static String normalize(String text) {
+        MutableString s = new MutableString(text);
+        new TextNormalizer().clean(s);
+        return s.toString();
+    }
+}
@@ -37,7 +37,7 @@ import static org.junit.Assert.assertEquals;
 
 /**
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public class DifferenceDetectorTest {
@@ -90,8 +90,7 @@ public class DifferenceDetectorTest {
 
         DifferenceDetector comparison = new DifferenceDetector(
                 oldSnapshotDoc,
-                newSnapshotDoc,
-                parserPool
+                newSnapshotDoc
         );
         List<Difference> diffList = comparison.call();
         assertEquals(5, diffList.size());
@@ -123,11 +122,10 @@ public class DifferenceDetectorTest {
 
         DifferenceDetector comparison = new DifferenceDetector(
                 oldSnapshotDoc,
-                newSnapshotDoc,
-                parserPool
+                newSnapshotDoc
         );
         List<Difference> diffList = comparison.call();
-        assertEquals(352, diffList.size());
+        assertEquals(263, diffList.size());
     }
 }
 
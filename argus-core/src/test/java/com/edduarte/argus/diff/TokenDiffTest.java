@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.diff;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class TokenDiffTest {
+
+    @Test
+    public void testSimple() {
+        // "100 eye giant greek mytholog" -> "argu panopt name 100 eye giant nors mytholog"
+        int[] original = {0, 1, 2, 3, 4};
+        int[] revision = {5, 6, 7, 0, 1, 2, 8, 4};
+
+        List<TokenDiff.Edit> edits = new TokenDiff(original, revision).compare();
+
+        assertEquals(3, edits.size());
+        assertEdit(edits.get(0), DifferenceAction.inserted, 0, 3);
+        assertEdit(edits.get(1), DifferenceAction.deleted, 3, 4);
+        assertEdit(edits.get(2), DifferenceAction.inserted, 6, 7);
+    }
+
+
+    @Test
+    public void testIdentical() {
+        int[] sequence = {0, 1, 2, 1, 0};
+        assertEquals(0, new TokenDiff(sequence, sequence.clone()).compare().size());
+    }
+
+
+    @Test
+    public void testEmpty() {
+        List<TokenDiff.Edit> edits = new TokenDiff(new int[0], new int[]{0, 1}).compare();
+        assertEquals(1, edits.size());
+        assertEdit(edits.get(0), DifferenceAction.inserted, 0, 2);
+
+        edits = new TokenDiff(new int[]{0, 1}, new int[0]).compare();
+        assertEquals(1, edits.size());
+        assertEdit(edits.get(0), DifferenceAction.deleted, 0, 2);
+    }
+
+
+    @Test
+    public void testMinimalEdits() {
+        int[] original = {0, 1, 2, 0, 1, 1, 0};
+        int[] revision = {2, 1, 0, 1, 0, 2};
+
+        int changed = 0;
+        for (TokenDiff.Edit edit : new TokenDiff(original, revision).compare()) {
+            changed += edit.end - edit.start;
+        }
+        // the longest common subsequence has 4 tokens
+        assertEquals((original.length - 4) + (revision.length - 4), changed);
+    }
+
+
+    private static void assertEdit(TokenDiff.Edit edit,
+                                   DifferenceAction action,
+                                   int start,
+                                   int end) {
+        assertEquals(action, edit.action);
+        assertEquals(start, edit.start);
+        assertEquals(end, edit.end);
+    }
+}
@@ -28,12 +28,17 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public class DocumentCollectionTest {
@@ -90,4 +95,35 @@ public class DocumentCollectionTest {
         collection.remove("https://en.wikipedia.org/wiki/Argus_Panoptes");
         assertNull(collection.get("https://en.wikipedia.org/wiki/Argus_Panoptes"));
     }
+
+
+    @Test
+    public void testUpdateValidators() {
+        String url = "http://www.example.com/argus";
+        String type = "text/html";
+
+        Document d = DocumentBuilder
+                .fromString(url, "<p class=\"old\">Argus Panoptes</p>", type)
+                .build(occurrencesDB, parserPool);
+        collection.add(d);
+        Document previous = collection.get(url);
+        String previousContentHash = previous.getContentHash();
+
+        // only the markup changed, so the previous snapshot is kept with the
+        // content hash of the newer content
+        Document kept = DocumentBuilder
+                .fromString(url, "<p class=\"new\">Argus Panoptes</p>", type)
+                .withPreviousSnapshot(previous)
+                .build(occurrencesDB, parserPool);
+        assertSame(previous, kept);
+        assertTrue(kept.hasRefreshedValidators());
+        assertNotEquals(previousContentHash, kept.getContentHash());
+
+        collection.updateValidators(kept);
+        assertFalse(kept.hasRefreshedValidators());
+        collection.clearCache();
+        assertEquals(kept.getContentHash(), collection.get(url).getContentHash());
+
+        collection.remove(url);
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.document;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DB;
+import com.mongodb.MongoClient;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class DocumentPipelineTest {
+
+    private static final String URL = "http://www.bbc.com/news/uk/";
+
+    private static MongoClient mongoClient;
+
+    private static DB occurrencesDB;
+
+
+    @BeforeClass
+    public static void setUp() {
+        mongoClient = new MongoClient("localhost", 27017);
+        occurrencesDB = mongoClient.getDB("test_terms_db");
+    }
+
+
+    @AfterClass
+    public static void close() {
+        occurrencesDB.dropDatabase();
+        mongoClient.close();
+    }
+
+
+    @Test
+    public void testPreviousLanguage() {
+        Document previous = snapshot(0L);
+        previous.setLanguage("pt");
+
+        // the language is reused for fingerprints that differ in up to 12 bits
+        assertEquals("pt", DocumentPipeline.getPreviousLanguage(snapshot(0L), previous));
+        assertEquals("pt", DocumentPipeline.getPreviousLanguage(snapshot(0xfffL), previous));
+        assertEquals("pt", DocumentPipeline.getPreviousLanguage(snapshot(0xfff0000000000000L), previous));
+
+        // and detected again for fingerprints that differ in more bits
+        assertNull(DocumentPipeline.getPreviousLanguage(snapshot(0x1fffL), previous));
+        assertNull(DocumentPipeline.getPreviousLanguage(snapshot(-1L), previous));
+
+        assertNull(DocumentPipeline.getPreviousLanguage(snapshot(0L), null));
+    }
+
+
+    @Test
+    public void testOlderSnapshot() {
+        // snapshots stored before languages and fingerprints were stored
+        Document withoutFields = new Document(occurrencesDB, new BasicDBObject(Document.URL, URL));
+        assertNull(DocumentPipeline.getPreviousLanguage(snapshot(0L), withoutFields));
+
+        Document withoutLanguage = snapshot(0L);
+        assertNull(DocumentPipeline.getPreviousLanguage(snapshot(0L), withoutLanguage));
+
+        Document withoutFingerprint = new Document(occurrencesDB,
+                new BasicDBObject(Document.URL, URL).append(Document.LANGUAGE, "pt"));
+        assertNull(DocumentPipeline.getPreviousLanguage(snapshot(0L), withoutFingerprint));
+    }
+
+
+    private static Document snapshot(long fingerprint) {
+        return new Document(occurrencesDB, URL, "", "content", "text", fingerprint, null, 0);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.document;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class OccurrenceIndexTest {
+
+    @Test
+    public void testRoundTrip() {
+        OccurrenceIndex index = new OccurrenceIndex.Builder()
+                .add("argus", 0, 0, 4)
+                .add("panopt", 1, 6, 13)
+                .add("giant", 2, 40, 44)
+                .add("argus", 3, 120, 124)
+                .add("öl", 4, 70000, 70001)
+                .build();
+
+        OccurrenceIndex decoded = OccurrenceIndex.fromBytes(index.toBytes());
+
+        assertEquals(5, decoded.size());
+        assertEquals(4, decoded.termCount());
+        for (int i = 0; i < index.size(); i++) {
+            assertEquals(index.getText(i), decoded.getText(i));
+            assertEquals(index.getWordCount(i), decoded.getWordCount(i));
+            assertEquals(index.getStartIndex(i), decoded.getStartIndex(i));
+            assertEquals(index.getEndIndex(i), decoded.getEndIndex(i));
+        }
+        assertEquals(decoded.getTermId(0), decoded.getTermId(3));
+        assertEquals(-1, decoded.getTermId("mythology"));
+    }
+
+
+    @Test
+    public void testEmpty() {
+        OccurrenceIndex index = new OccurrenceIndex.Builder().build();
+        OccurrenceIndex decoded = OccurrenceIndex.fromBytes(index.toBytes());
+        assertEquals(0, decoded.size());
+        assertEquals(0, OccurrenceIndex.fromBytes(null).size());
+    }
+
+
+    @Test
+    public void testFindPosition() {
+        OccurrenceIndex.Builder builder = new OccurrenceIndex.Builder();
+        for (int i = 0; i < 100; i++) {
+            builder.add(i % 10 == 0 ? "argus" : "term" + i, i, i * 6, i * 6 + 4);
+        }
+        OccurrenceIndex index = builder.build();
+        int termId = index.getTermId("argus");
+
+        assertEquals(10, index.getPositions(termId).length);
+        assertEquals(50, index.findPosition(termId, 50, 4));
+        assertEquals(50, index.findPosition(termId, 47, 4));
+        assertEquals(60, index.findPosition(termId, 57, 4));
+        assertEquals(-1, index.findPosition(termId, 55, 4));
+        assertEquals(-1, index.findPosition(-1, 50, 4));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.fetch;
+
+import com.edduarte.argus.document.DocumentInput;
+import org.apache.commons.io.IOUtils;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class FetcherTest {
+
+    private static final String CONTENT = "<html><body>Argus Panoptes</body></html>";
+
+    private static final String ETAG = "\"argus-v1\"";
+
+    private static Server server;
+
+    private static Fetcher fetcher;
+
+    private static String baseUrl;
+
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        server = new Server(0);
+        server.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target,
+                               Request baseRequest,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+                baseRequest.setHandled(true);
+                if (target.equals("/missing")) {
+                    response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                } else if (target.equals("/busy")) {
+                    response.setStatus(429);
+                    response.setHeader("Retry-After", "1");
+                } else if (ETAG.equals(request.getHeader("If-None-Match"))) {
+                    response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                } else {
+                    response.setStatus(HttpServletResponse.SC_OK);
+                    response.setContentType("text/html; charset=utf-8");
+                    response.setHeader("ETag", ETAG);
+                    response.getWriter().write(CONTENT);
+                }
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getConnectors()[0].getLocalPort();
+
+        fetcher = new Fetcher(2, 5000, 2);
+        fetcher.start();
+    }
+
+
+    @AfterClass
+    public static void close() throws Exception {
+        fetcher.stop();
+        server.stop();
+    }
+
+
+    @Test
+    public void testFetch() throws Exception {
+        DocumentInput input = fetcher.fetch(baseUrl + "/page").get();
+
+        assertFalse(input.isNotModified());
+        assertEquals("text/html", input.getContentType());
+        assertEquals(ETAG, input.getETag());
+        assertEquals(CONTENT, IOUtils.toString(input.getStream(), "UTF-8"));
+    }
+
+
+    @Test
+    public void testNotModified() throws Exception {
+        DocumentInput input = fetcher.fetch(baseUrl + "/page", ETAG, 0).get();
+        assertTrue(input.isNotModified());
+    }
+
+
+    @Test
+    public void testNotFound() throws Exception {
+        try {
+            fetcher.fetch(baseUrl + "/missing").get();
+            fail("Expected the fetch of a missing page to fail");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof IOException);
+        }
+    }
+
+
+    @Test
+    public void testConcurrentFetches() throws Exception {
+        List<CompletableFuture<DocumentInput>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(fetcher.fetch(baseUrl + "/page" + i));
+        }
+        for (CompletableFuture<DocumentInput> future : futures) {
+            assertEquals(CONTENT, IOUtils.toString(future.get().getStream(), "UTF-8"));
+        }
+        assertEquals(0, fetcher.getInFlightCount());
+    }
+
+
+    @Test
+    public void testPauseOverloadedHost() throws Exception {
+        Fetcher politeFetcher = new Fetcher(2, 5000, new HostLimiter(100, 1, 2));
+        politeFetcher.start();
+        try {
+            try {
+                politeFetcher.fetch(baseUrl + "/busy").get();
+                fail("Expected the fetch of an overloaded host to fail");
+            } catch (ExecutionException ex) {
+                assertTrue(ex.getCause() instanceof IOException);
+            }
+
+            // the host asked to wait for 1 second before the next request
+            long start = System.currentTimeMillis();
+            politeFetcher.fetch(baseUrl + "/page").get();
+            assertTrue(System.currentTimeMillis() - start >= 900);
+        } finally {
+            politeFetcher.stop();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.fetch;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class HostLimiterTest {
+
+    @Test
+    public void testConcurrencyCap() {
+        HostLimiter limiter = new HostLimiter(0, 1, 2);
+        CompletableFuture<Void> a1 = limiter.acquire("a.com");
+        CompletableFuture<Void> a2 = limiter.acquire("a.com");
+        CompletableFuture<Void> a3 = limiter.acquire("a.com");
+        CompletableFuture<Void> b1 = limiter.acquire("b.com");
+
+        // other hosts are not held back by a busy host
+        assertTrue(a1.isDone());
+        assertTrue(a2.isDone());
+        assertFalse(a3.isDone());
+        assertTrue(b1.isDone());
+        assertEquals(1, limiter.getQueueDepth());
+        assertEquals("a.com", limiter.getBusiestHosts(1).get(0).getHost());
+
+        limiter.release("a.com");
+        assertTrue(a3.isDone());
+        assertEquals(0, limiter.getQueueDepth());
+        limiter.shutdown();
+    }
+
+
+    @Test
+    public void testRateLimit() throws Exception {
+        HostLimiter limiter = new HostLimiter(10, 1, 10);
+        long start = System.currentTimeMillis();
+
+        List<CompletableFuture<Void>> permits = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            permits.add(limiter.acquire("a.com"));
+        }
+        assertTrue(permits.get(0).isDone());
+        assertFalse(permits.get(1).isDone());
+
+        // the deferred requests are granted in order, one per 100ms
+        for (CompletableFuture<Void> p : permits) {
+            p.get();
+        }
+        assertTrue(System.currentTimeMillis() - start >= 350);
+        assertEquals(5, limiter.getBusiestHosts(1).get(0).getGrantedCount());
+        limiter.shutdown();
+    }
+
+
+    @Test
+    public void testPause() throws Exception {
+        HostLimiter limiter = new HostLimiter(0, 1, 10);
+        limiter.pause("a.com", 300);
+        long start = System.currentTimeMillis();
+
+        CompletableFuture<Void> a = limiter.acquire("a.com");
+        assertFalse(a.isDone());
+        assertTrue(limiter.acquire("b.com").isDone());
+
+        a.get();
+        assertTrue(System.currentTimeMillis() - start >= 250);
+        limiter.shutdown();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.job;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class ChangeRateEstimatorTest {
+
+    @Test
+    public void testBackOffAndSpeedUp() {
+        ChangeRateEstimator estimator = new ChangeRateEstimator(600);
+        assertEquals(600, estimator.getInterval(600, 9600));
+
+        // the first detection is always a change, and is ignored
+        long time = 0;
+        estimator.observe(true, time);
+        assertEquals(600, estimator.getInterval(600, 9600));
+
+        int interval = 600;
+        for (int i = 0; i < 10; i++) {
+            time += interval * 1000L;
+            estimator.observe(false, time);
+            int nextInterval = estimator.getInterval(600, 9600);
+            assertTrue(nextInterval >= interval);
+            interval = nextInterval;
+        }
+        assertEquals(9600, interval);
+
+        for (int i = 0; i < 10; i++) {
+            time += interval * 1000L;
+            estimator.observe(true, time);
+            int nextInterval = estimator.getInterval(600, 9600);
+            assertTrue(nextInterval <= interval);
+            interval = nextInterval;
+        }
+        assertEquals(600, interval);
+    }
+
+
+    @Test
+    public void testPoissonChanges() {
+        Random random = new Random(42);
+        ChangeRateEstimator estimator = new ChangeRateEstimator(600);
+
+        // a document that changes every 3000 seconds on average
+        double rate = 1 / 3000.0;
+        long time = 0;
+        double nextChange = -Math.log(random.nextDouble()) / rate;
+        estimator.observe(true, time);
+
+        int interval = 600;
+        double sum = 0;
+        int count = 0;
+        for (int i = 0; i < 2000; i++) {
+            time += interval * 1000L;
+            boolean changed = false;
+            while (nextChange <= time / 1000.0) {
+                changed = true;
+                nextChange += -Math.log(random.nextDouble()) / rate;
+            }
+            estimator.observe(changed, time);
+            interval = estimator.getInterval(600, 86400);
+            if (i >= 100) {
+                sum += interval;
+                count++;
+            }
+        }
+
+        double averageInterval = sum / count;
+        assertTrue(averageInterval > 1500 && averageInterval < 6000);
+    }
+}
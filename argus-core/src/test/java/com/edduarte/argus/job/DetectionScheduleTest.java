@@ -0,0 +1,67 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.job;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class DetectionScheduleTest {
+
+    @Test
+    public void testNextStart() {
+        long now = 1_000_000_000_000L;
+        long start = DetectionSchedule.getNextStart("http://www.example.com", 420, now);
+        assertTrue(start >= now && start < now + 420_000);
+
+        // the phase is kept at later times and across intervals
+        assertEquals(start, DetectionSchedule.getNextStart("http://www.example.com", 420, start));
+        assertEquals(start + 420_000,
+                DetectionSchedule.getNextStart("http://www.example.com", 420, start + 1));
+    }
+
+
+    @Test
+    public void testSpread() {
+        // the starts of many documents are spread evenly over the interval
+        long now = 1_000_000_000_000L;
+        int[] buckets = new int[10];
+        for (int i = 0; i < 10000; i++) {
+            long start = DetectionSchedule.getNextStart("http://www.example.com/" + i, 600, now);
+            buckets[(int) ((start - now) / 60_000)]++;
+        }
+        for (int count : buckets) {
+            assertTrue(count > 800 && count < 1200);
+        }
+    }
+
+
+    @Test
+    public void testPeriod() {
+        for (int i = 0; i < 1000; i++) {
+            int period = DetectionSchedule.getPeriod("http://www.example.com/" + i, 600);
+            assertTrue(period >= 600 && period < 630);
+            assertEquals(period, DetectionSchedule.getPeriod("http://www.example.com/" + i, 600));
+        }
+    }
+}
@@ -40,6 +40,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -112,11 +113,15 @@ public class JobManagerTest {
     public void testSimple() throws Exception {
         JobManager manager = JobManager.create("test_argus_manager", 12, new JobManagerHandler() {
             @Override
-            public boolean detectDifferences(String url) {
+            public CompletableFuture<DetectionResult> detectDifferences(String url) {
+
+                // check if there is a older document in the collection
+                Document oldDocument = collection.get(url);
 
                 // create a new document snapshot for the provided url
                 Document newDocument = DocumentBuilder
                         .fromString(url, testDocuments.get(), "text/html")
+                        .withPreviousSnapshot(oldDocument)
                         .withStopwords()
                         .withStemming()
                         .ignoreCase()
@@ -124,17 +129,18 @@ public class JobManagerTest {
                 if (newDocument == null) {
                     // A problem occurred during processing, mostly during the fetching phase.
                     // This could happen if the page was unavailable at the time.
-                    return false;
+                    return CompletableFuture.completedFuture(DetectionResult.failed);
                 }
 
-                // check if there is a older document in the collection
-                Document oldDocument = collection.get(url);
+                if (newDocument == oldDocument) {
+                    return CompletableFuture.completedFuture(DetectionResult.unchanged);
+                }
 
                 if (oldDocument != null) {
                     // there was already a document for this url on the collection, so
                     // detect differences between them and add them to the differences
                     // database
-                    DifferenceDetector detector = new DifferenceDetector(oldDocument, newDocument, parserPool);
+                    DifferenceDetector detector = new DifferenceDetector(oldDocument, newDocument);
                     List<Difference> results = detector.call();
 
                     removeExistingDifferences(url);
@@ -152,7 +158,7 @@ public class JobManagerTest {
                 collection.remove(url);
                 collection.add(newDocument);
 
-                return true;
+                return CompletableFuture.completedFuture(DetectionResult.changed);
             }
 
 
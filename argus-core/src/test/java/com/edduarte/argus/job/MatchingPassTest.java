@@ -0,0 +1,125 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.job;
+
+import com.edduarte.argus.diff.Difference;
+import com.edduarte.argus.diff.DifferenceAction;
+import com.edduarte.argus.diff.DifferenceMatcher;
+import com.edduarte.argus.keyword.Keyword;
+import com.edduarte.argus.keyword.KeywordBuilder;
+import com.edduarte.argus.parser.ParserPool;
+import com.edduarte.argus.parser.SimpleParser;
+import com.google.common.collect.Lists;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class MatchingPassTest {
+
+    private static ParserPool parserPool;
+
+    private static List<Difference> differences;
+
+
+    @BeforeClass
+    public static void setUp() throws InterruptedException {
+        parserPool = new ParserPool();
+        parserPool.place(new SimpleParser());
+        differences = Lists.newArrayList(
+                new Difference(DifferenceAction.inserted, "argus", "Argus Panoptes is the name of the 100 eyed giant in No"),
+                new Difference(DifferenceAction.inserted, "panopt", "Argus Panoptes is the name of the 100 eyed giant in Norse mytho"),
+                new Difference(DifferenceAction.deleted, "greek", "is the of the 100 eyed giant in Greek mythology"),
+                new Difference(DifferenceAction.inserted, "nors", "gus Panoptes is the name of the 100 eyed giant in Norse mythology")
+        );
+    }
+
+
+    @AfterClass
+    public static void close() {
+        parserPool.clear();
+    }
+
+
+    @Test
+    public void testSharedKeyword() {
+        MatchingPass pass = MatchingPass.run(differences, Lists.newArrayList(
+                subscription("http://client-a", false, false, "greek", "argus panoptes"),
+                subscription("http://client-b", false, false, "greek")
+        ));
+
+        // the keyword shared by both clients is matched for each of them
+        Set<DifferenceMatcher.Result> a = pass.getResults("http://client-a");
+        Set<DifferenceMatcher.Result> b = pass.getResults("http://client-b");
+        assertEquals(2, a.size());
+        assertEquals(1, b.size());
+        assertTrue(a.containsAll(b));
+        assertEquals(DifferenceAction.deleted, b.iterator().next().action);
+
+        assertNull(pass.getResults("http://client-c"));
+    }
+
+
+    @Test
+    public void testIgnoredActions() {
+        MatchingPass pass = MatchingPass.run(differences, Lists.newArrayList(
+                subscription("http://client-a", false, true, "greek", "argus panoptes"),
+                subscription("http://client-b", true, false, "greek", "norse"),
+                subscription("http://client-c", true, true, "greek", "norse")
+        ));
+
+        // client 'a' ignores removed differences and client 'b' ignores added
+        // differences, even though they share the same keyword
+        Set<DifferenceMatcher.Result> a = pass.getResults("http://client-a");
+        assertEquals(1, a.size());
+        assertEquals(DifferenceAction.inserted, a.iterator().next().action);
+
+        Set<DifferenceMatcher.Result> b = pass.getResults("http://client-b");
+        assertEquals(1, b.size());
+        assertEquals(DifferenceAction.deleted, b.iterator().next().action);
+
+        assertTrue(pass.getResults("http://client-c").isEmpty());
+    }
+
+
+    private static MatchingPass.Subscription subscription(String clientUrl,
+                                                          boolean ignoreAdded,
+                                                          boolean ignoreRemoved,
+                                                          String... keywordInputs) {
+        List<Keyword> keywords = Lists.newArrayList(keywordInputs)
+                .stream()
+                .map(input -> KeywordBuilder.fromText(input)
+                        .ignoreCase()
+                        .withStopwords()
+                        .withStemming()
+                        .build(parserPool))
+                .collect(Collectors.toList());
+        return new MatchingPass.Subscription(clientUrl, keywords, ignoreAdded, ignoreRemoved);
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.job;
+
+import com.edduarte.argus.diff.Difference;
+import com.edduarte.argus.keyword.Keyword;
+import com.edduarte.argus.rest.SubscribeRequest;
+import com.google.common.collect.Lists;
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DB;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.MongoClient;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class TimingWheelJobBackendTest {
+
+    private static final String DOCUMENT_URL = "http://www.bbc.com/news/uk/";
+
+    private static final int INTERVAL = 3600;
+
+    private static MongoClient mongoClient;
+
+    private static DB jobsDB;
+
+    private static DBCollection checkpointCollection;
+
+    private static volatile CountDownLatch detections;
+
+    private static volatile DetectionResult detectionResult;
+
+    private static AtomicReference<String> timeoutThread;
+
+
+    @BeforeClass
+    public static void setUp() {
+        mongoClient = new MongoClient("localhost", 27017);
+        jobsDB = mongoClient.getDB("test_wheel_jobs_db");
+        checkpointCollection = jobsDB.getCollection("argus_watches");
+    }
+
+
+    @AfterClass
+    public static void close() {
+        jobsDB.dropDatabase();
+        mongoClient.close();
+    }
+
+
+    @Before
+    public void clean() {
+        jobsDB.dropDatabase();
+        detections = new CountDownLatch(1);
+        detectionResult = DetectionResult.unchanged;
+        timeoutThread = new AtomicReference<>();
+    }
+
+
+    @After
+    public void stopManagers() {
+        JobManager manager = JobManager.get("test_wheel_manager");
+        if (manager != null) {
+            manager.stop();
+        }
+    }
+
+
+    @Test
+    public void testRecover() throws Exception {
+        JobManager manager = createManager();
+        TimingWheelJobBackend backend = new TimingWheelJobBackend(jobsDB);
+        manager.initialize(backend);
+        assertTrue(manager.createJob(request("http://client-a", 7200)));
+        assertTrue(manager.createJob(request("http://client-b", INTERVAL)));
+        int interval = backend.getDetectionInterval(DOCUMENT_URL);
+        assertTrue(interval > 0);
+
+        // stopping the manager checkpoints the watched document
+        manager.stop();
+        DBObject checkpoint = checkpointCollection.findOne(new BasicDBObject("_id", DOCUMENT_URL));
+        assertNotNull(checkpoint);
+        assertEquals(interval, ((Number) checkpoint.get("interval")).intValue());
+        assertEquals(2, ((BasicDBList) checkpoint.get("subscriptions")).size());
+
+        // a new backend recovers the document, its interval and its
+        // subscriptions from the checkpoint
+        manager = createManager();
+        backend = new TimingWheelJobBackend(jobsDB);
+        manager.initialize(backend);
+        assertEquals(1, backend.size());
+        assertEquals(interval, backend.getDetectionInterval(DOCUMENT_URL));
+        List<SubscribeRequest> subscriptions = backend.getSubscriptions(DOCUMENT_URL);
+        assertEquals(2, subscriptions.size());
+        SubscribeRequest a = subscriptions.get(0);
+        assertEquals("http://client-a", a.getClientUrl());
+        assertEquals(7200, a.getInterval());
+        assertEquals(Lists.newArrayList("argus", "panoptes"), a.getKeywords());
+
+        // a recovered document is not subscribed or scheduled twice
+        assertFalse(manager.createJob(request("http://client-a", 7200)));
+        assertFalse(backend.scheduleDetection(DOCUMENT_URL, INTERVAL));
+    }
+
+
+    @Test
+    public void testCancel() throws Exception {
+        JobManager manager = createManager();
+        TimingWheelJobBackend backend = new TimingWheelJobBackend(jobsDB);
+        manager.initialize(backend);
+        manager.createJob(request("http://client-a", INTERVAL));
+        manager.createJob(request("http://client-b", INTERVAL));
+        backend.shutdown();
+        assertEquals(1, checkpointCollection.count());
+
+        // cancelling one of the subscriptions keeps the document watched
+        assertTrue(manager.cancelMatchingJob(DOCUMENT_URL, "http://client-a"));
+        assertFalse(manager.cancelMatchingJob(DOCUMENT_URL, "http://client-a"));
+        assertEquals(1, backend.size());
+        assertTrue(backend.getDetectionInterval(DOCUMENT_URL) > 0);
+        backend.shutdown();
+        DBObject checkpoint = checkpointCollection.findOne(new BasicDBObject("_id", DOCUMENT_URL));
+        assertEquals(1, ((BasicDBList) checkpoint.get("subscriptions")).size());
+
+        // cancelling the last subscription cancels the detection, and the
+        // document is removed from the table and from the checkpoint
+        assertTrue(manager.cancelMatchingJob(DOCUMENT_URL, "http://client-b"));
+        assertEquals(0, backend.size());
+        assertEquals(-1, backend.getDetectionInterval(DOCUMENT_URL));
+        assertTrue(backend.getSubscriptions(DOCUMENT_URL).isEmpty());
+        backend.shutdown();
+        assertEquals(0, checkpointCollection.count());
+
+        // a new backend does not recover the removed document
+        manager.stop();
+        manager = createManager();
+        backend = new TimingWheelJobBackend(jobsDB);
+        manager.initialize(backend);
+        assertEquals(0, backend.size());
+    }
+
+
+    @Test
+    public void testCancelDetection() {
+        TimingWheelJobBackend backend = new TimingWheelJobBackend(jobsDB);
+        assertTrue(backend.scheduleDetection(DOCUMENT_URL, INTERVAL));
+        assertTrue(backend.addSubscription(request("http://client-a", INTERVAL)));
+
+        // a document without a detection is kept while it has subscriptions
+        backend.cancelDetection(DOCUMENT_URL);
+        assertEquals(1, backend.size());
+        assertEquals(-1, backend.getDetectionInterval(DOCUMENT_URL));
+        backend.shutdown();
+        DBObject checkpoint = checkpointCollection.findOne(new BasicDBObject("_id", DOCUMENT_URL));
+        assertEquals(0, ((Number) checkpoint.get("interval")).intValue());
+
+        assertTrue(backend.removeSubscription(DOCUMENT_URL, "http://client-a"));
+        assertEquals(0, backend.size());
+        backend.shutdown();
+        assertNull(checkpointCollection.findOne(new BasicDBObject("_id", DOCUMENT_URL)));
+
+        // a document without subscriptions is kept while it is scheduled
+        assertTrue(backend.addSubscription(request("http://client-a", INTERVAL)));
+        assertTrue(backend.scheduleDetection(DOCUMENT_URL, INTERVAL));
+        assertTrue(backend.removeSubscription(DOCUMENT_URL, "http://client-a"));
+        assertEquals(1, backend.size());
+        assertEquals(INTERVAL, backend.getDetectionInterval(DOCUMENT_URL));
+        backend.cancelDetection(DOCUMENT_URL);
+        assertEquals(0, backend.size());
+
+        // a document that was added and removed between checkpoints is not
+        // written to the checkpoint
+        backend.shutdown();
+        assertEquals(0, checkpointCollection.count());
+    }
+
+
+    @Test
+    public void testShrinkInterval() throws Exception {
+        JobManager manager = createManager();
+        TimingWheelJobBackend backend = new TimingWheelJobBackend(jobsDB);
+        manager.initialize(backend);
+        assertTrue(backend.scheduleDetection(DOCUMENT_URL, INTERVAL));
+
+        // the pending detection is moved closer when the interval shrinks,
+        // instead of waiting for the detection of the previous interval
+        backend.rescheduleDetection(DOCUMENT_URL, 1);
+        assertEquals(1, backend.getDetectionInterval(DOCUMENT_URL));
+        assertTrue(detections.await(5, TimeUnit.SECONDS));
+    }
+
+
+    @Test
+    public void testFaultTolerance() throws Exception {
+        JobManager manager = createManager();
+        TimingWheelJobBackend backend = new TimingWheelJobBackend(jobsDB);
+        manager.initialize(backend);
+        manager.createJob(request("http://client-a", INTERVAL));
+        detectionResult = DetectionResult.failed;
+
+        // detections fail on a thread of the HTTP client, but the job is timed
+        // out in the match stage after too many consecutive failures
+        for (int i = 0; i < 500 && timeoutThread.get() == null; i++) {
+            manager.callDetectDiffImpl(DOCUMENT_URL, System.currentTimeMillis());
+            Thread.sleep(10);
+        }
+        assertNotNull(timeoutThread.get());
+        assertTrue(timeoutThread.get().startsWith("argus-match"));
+        assertEquals(0, backend.size());
+    }
+
+
+    private static JobManager createManager() {
+        return JobManager.create("test_wheel_manager", 60, new JobManagerHandler() {
+            @Override
+            public CompletableFuture<DetectionResult> detectDifferences(String url) {
+                detections.countDown();
+                // completes on another thread, like the detections of the
+                // documents that are fetched by the HTTP client
+                CompletableFuture<DetectionResult> detection = new CompletableFuture<>();
+                DetectionResult result = detectionResult;
+                new Thread(() -> detection.complete(result), "test-http-client").start();
+                return detection;
+            }
+
+
+            @Override
+            public List<Difference> getExistingDifferences(String url) {
+                return Collections.emptyList();
+            }
+
+
+            @Override
+            public void removeExistingDifferences(String url) {
+                timeoutThread.compareAndSet(null, Thread.currentThread().getName());
+            }
+
+
+            @Override
+            public Keyword buildKeyword(String keywordInput) {
+                return null;
+            }
+        });
+    }
+
+
+    private static SubscribeRequest request(String clientUrl, int interval) {
+        return new SubscribeRequest(DOCUMENT_URL, clientUrl,
+                Lists.newArrayList("argus", "panoptes"), interval, false, false);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.keyword;
+
+import com.edduarte.argus.analyzer.AnalyzerRegistry;
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class KeywordCacheTest {
+
+    private File stopwordsDir;
+
+    private File enFile;
+
+
+    @Before
+    public void setUp() throws IOException {
+        stopwordsDir = Files.createTempDirectory("argus-stopwords").toFile();
+        enFile = new File(stopwordsDir, "en.txt");
+        Files.write(enFile.toPath(), Arrays.asList("the", "and"), StandardCharsets.UTF_8);
+    }
+
+
+    @After
+    public void close() {
+        enFile.delete();
+        stopwordsDir.delete();
+    }
+
+
+    @Test
+    public void testCache() throws IOException {
+        KeywordCache cache = new KeywordCache(new AnalyzerRegistry(stopwordsDir), 100, 0);
+        AtomicInteger builds = new AtomicInteger(0);
+
+        Keyword keyword = cache.get("argus panoptes", () -> {
+            builds.incrementAndGet();
+            return new Keyword("argus panoptes", Lists.newArrayList("argus", "panopt"), "en");
+        });
+        assertSame(keyword, cache.get("argus panoptes", () -> {
+            builds.incrementAndGet();
+            return null;
+        }));
+        assertEquals(1, builds.get());
+        assertEquals(1, cache.size());
+
+        // keywords that could not be built are not cached
+        assertNull(cache.get("greek", () -> null));
+        assertEquals(1, cache.size());
+
+        // changing the stopwords of the keyword's language rebuilds it
+        Files.write(enFile.toPath(), Arrays.asList("the", "and", "of"), StandardCharsets.UTF_8);
+        enFile.setLastModified(enFile.lastModified() + 2000);
+        Keyword rebuilt = cache.get("argus panoptes", () -> {
+            builds.incrementAndGet();
+            return new Keyword("argus panoptes", Lists.newArrayList("argus", "panopt"), "en");
+        });
+        assertEquals(2, builds.get());
+        assertSame(rebuilt, cache.get("argus panoptes", () -> null));
+    }
+
+
+    @Test
+    public void testCheckInterval() throws IOException {
+        KeywordCache cache = new KeywordCache(new AnalyzerRegistry(stopwordsDir), 100, 60000);
+        AtomicInteger builds = new AtomicInteger(0);
+
+        Keyword keyword = cache.get("argus panoptes", () -> {
+            builds.incrementAndGet();
+            return new Keyword("argus panoptes", Lists.newArrayList("argus", "panopt"), "en");
+        });
+
+        // the stopwords are not checked again until the interval elapses
+        Files.write(enFile.toPath(), Arrays.asList("the", "and", "of"), StandardCharsets.UTF_8);
+        enFile.setLastModified(enFile.lastModified() + 2000);
+        assertSame(keyword, cache.get("argus panoptes", () -> {
+            builds.incrementAndGet();
+            return null;
+        }));
+        assertEquals(1, builds.get());
+    }
+
+
+    @Test
+    public void testMaxSize() {
+        KeywordCache cache = new KeywordCache(new AnalyzerRegistry(stopwordsDir), 2, 0);
+
+        Keyword argus = cache.get("argus", () -> new Keyword("argus", Lists.newArrayList("argus"), null));
+        cache.get("panoptes", () -> new Keyword("panoptes", Lists.newArrayList("panopt"), null));
+        assertSame(argus, cache.get("argus", () -> null));
+
+        // the least recently used keyword is evicted
+        cache.get("greek", () -> new Keyword("greek", Lists.newArrayList("greek"), null));
+        assertEquals(2, cache.size());
+        assertSame(argus, cache.get("argus", () -> null));
+        assertNull(cache.get("panoptes", () -> null));
+    }
+}
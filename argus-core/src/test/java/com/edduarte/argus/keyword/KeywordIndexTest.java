@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.keyword;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class KeywordIndexTest {
+
+    @Test
+    public void testScanner() {
+        KeywordIndex index = KeywordIndex.of(Lists.newArrayList(
+                new Keyword("argus panoptes", Lists.newArrayList("argus", "panopt")),
+                new Keyword("greek", Lists.newArrayList("greek")),
+                new Keyword("greek argus", Lists.newArrayList("greek", "argus"))
+        ));
+        assertEquals(3, index.size());
+
+        KeywordIndex.Scanner scanner = index.newScanner();
+        List<Integer> matched = new ArrayList<>();
+
+        scanner.accept("argus", matched::add);
+        assertTrue(matched.isEmpty());
+        scanner.accept("name", matched::add);
+        assertTrue(matched.isEmpty());
+        scanner.accept("panopt", matched::add);
+        assertEquals(Lists.newArrayList(0), matched);
+
+        // a term that completes two keywords reports both of them
+        matched.clear();
+        scanner.accept("greek", matched::add);
+        assertEquals(Lists.newArrayList(1, 2), matched);
+
+        // terms seen before a reset are forgotten
+        matched.clear();
+        scanner.reset();
+        scanner.accept("panopt", matched::add);
+        assertTrue(matched.isEmpty());
+        scanner.accept("argus", matched::add);
+        assertEquals(Lists.newArrayList(0), matched);
+    }
+
+
+    @Test
+    public void testLargeKeyword() {
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            terms.add("term" + i);
+        }
+        KeywordIndex index = KeywordIndex.of(Lists.newArrayList(
+                new Keyword("large", terms),
+                new Keyword("small", Lists.newArrayList("term149"))
+        ));
+
+        KeywordIndex.Scanner scanner = index.newScanner();
+        List<Integer> matched = new ArrayList<>();
+        for (int i = terms.size() - 1; i > 0; i--) {
+            scanner.accept(terms.get(i), matched::add);
+            // repeated terms do not count twice towards a match
+            scanner.accept("term149", matched::add);
+        }
+        assertTrue(matched.stream().allMatch(k -> k == 1));
+
+        matched.clear();
+        scanner.accept("term0", matched::add);
+        assertEquals(Lists.newArrayList(0), matched);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.notify;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class NotificationDispatcherTest {
+
+    private static Server server;
+
+    private static String baseUrl;
+
+    private static List<String> received;
+
+    private static AtomicInteger unavailableCount;
+
+    private NotificationDispatcher dispatcher;
+
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        received = new CopyOnWriteArrayList<>();
+        unavailableCount = new AtomicInteger();
+
+        server = new Server(0);
+        server.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target,
+                               Request baseRequest,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+                baseRequest.setHandled(true);
+                if (target.equals("/gone")) {
+                    response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                } else if (target.equals("/flaky") && unavailableCount.getAndIncrement() < 2) {
+                    response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                } else {
+                    InputStream in = request.getInputStream();
+                    if ("gzip".equals(request.getHeader("Content-Encoding"))) {
+                        in = new GZIPInputStream(in);
+                    }
+                    received.add(IOUtils.toString(in, "UTF-8"));
+                    response.setStatus(HttpServletResponse.SC_OK);
+                }
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getConnectors()[0].getLocalPort();
+    }
+
+
+    @AfterClass
+    public static void close() throws Exception {
+        server.stop();
+    }
+
+
+    @Before
+    public void startDispatcher() throws Exception {
+        received.clear();
+        unavailableCount.set(0);
+        dispatcher = new NotificationDispatcher();
+        dispatcher.start();
+    }
+
+
+    @After
+    public void stopDispatcher() {
+        dispatcher.stop();
+    }
+
+
+    @Test
+    public void testDelivery() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            dispatcher.dispatch(baseUrl + "/client", "{\"status\":\"ok\",\"n\":" + i + "}");
+        }
+        awaitPending();
+
+        assertEquals(20, received.size());
+        assertEquals(20, dispatcher.getDeliveredCount());
+        assertEquals(0, dispatcher.getFailedCount());
+    }
+
+
+    @Test
+    public void testRetry() throws Exception {
+        dispatcher.dispatch(baseUrl + "/flaky", "{\"status\":\"ok\"}");
+        awaitPending();
+
+        // delivered on the third attempt, after two retries with backoff
+        assertEquals(1, received.size());
+        assertEquals(1, dispatcher.getDeliveredCount());
+        assertEquals(2, dispatcher.getRetriedCount());
+    }
+
+
+    @Test
+    public void testRejected() throws Exception {
+        dispatcher.dispatch(baseUrl + "/gone", "{\"status\":\"ok\"}");
+        awaitPending();
+
+        // a client error is not retried
+        assertEquals(0, received.size());
+        assertEquals(0, dispatcher.getRetriedCount());
+        assertEquals(1, dispatcher.getFailedCount());
+    }
+
+
+    @Test
+    public void testBatchedDelivery() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            dispatcher.dispatchBatched(baseUrl + "/client", "{\"n\":" + i + "}", false);
+        }
+        dispatcher.dispatchBatched(baseUrl + "/other", "{\"n\":3}", true);
+        awaitReceived(2);
+
+        // one request per client, with the compressed batch decoded by the
+        // client
+        assertEquals(2, received.size());
+        assertTrue(received.contains("[{\"n\":0},{\"n\":1},{\"n\":2}]"));
+        assertTrue(received.contains("[{\"n\":3}]"));
+    }
+
+
+    private void awaitReceived(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15000;
+        while (received.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+
+    private void awaitPending() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (dispatcher.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
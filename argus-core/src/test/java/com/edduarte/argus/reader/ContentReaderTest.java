@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.reader;
+
+import it.unimi.dsi.lang.MutableString;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class ContentReaderTest {
+
+    @Test
+    public void testDeclaredCharset() throws Exception {
+        byte[] content = "Velázquez".getBytes(StandardCharsets.ISO_8859_1);
+
+        assertEquals("Velázquez", read(content, "ISO-8859-1"));
+        // the declared charset is ignored if it is not supported
+        assertEquals("Vel\ufffdzquez", read(content, "unknown-charset"));
+    }
+
+
+    @Test
+    public void testByteOrderMark() throws Exception {
+        byte[] text = "Ἄργος".getBytes(StandardCharsets.UTF_16LE);
+        byte[] content = new byte[text.length + 2];
+        content[0] = (byte) 0xff;
+        content[1] = (byte) 0xfe;
+        System.arraycopy(text, 0, content, 2, text.length);
+
+        // the byte-order mark prevails over the declared charset
+        assertEquals("Ἄργος", read(content, "ISO-8859-1"));
+    }
+
+
+    @Test
+    public void testPrefixCharset() throws Exception {
+        String html = "<html><head><meta charset=\"windows-1252\"></head><body>€ café</body></html>";
+        byte[] content = html.getBytes("windows-1252");
+
+        assertEquals(html, read(content, null));
+    }
+
+
+    @Test
+    public void testLargeContent() throws Exception {
+        // multi-byte characters and surrogate pairs that cross the boundaries
+        // of the decoding buffers
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            sb.append(i % 3 == 0 ? "👁" : i % 3 == 1 ? "é" : "a");
+        }
+        String text = sb.toString();
+        byte[] content = text.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(text, read(content, null));
+
+        // reading one character at a time splits the surrogate pairs
+        StringBuilder chars = new StringBuilder();
+        try (ContentReader reader = ContentReader.open(new ByteArrayInputStream(content), null)) {
+            for (int c; (c = reader.read()) != -1; ) {
+                chars.append((char) c);
+            }
+        }
+        assertEquals(text, chars.toString());
+    }
+
+
+    private static String read(byte[] content, String declaredCharset) throws IOException {
+        MutableString output = new MutableString();
+        try (ContentReader reader = ContentReader.open(
+                new ByteArrayInputStream(content), declaredCharset)) {
+            ContentReader.readFully(reader, output);
+        }
+        return output.toString();
+    }
+}
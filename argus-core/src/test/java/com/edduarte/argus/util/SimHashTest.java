@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class SimHashTest {
+
+    private static final String TEXT = "Argus is a web document monitoring service " +
+            "that tracks the differences between the snapshots of a document and " +
+            "notifies its clients when any of the keywords that they watch was " +
+            "added to or removed from the document, where the text of every " +
+            "snapshot is read, cleaned, tokenized and indexed in a language that " +
+            "is detected from the text of the document";
+
+
+    @Test
+    public void testSameWords() {
+        assertEquals(SimHash.of(TEXT), SimHash.of(TEXT));
+        // whitespace and case do not change the words of a text
+        assertEquals(SimHash.of(TEXT), SimHash.of("  " + TEXT.toUpperCase().replace(" ", "\n ") + " "));
+        assertEquals(0, SimHash.distance(SimHash.of(TEXT), SimHash.of(TEXT)));
+    }
+
+
+    @Test
+    public void testDistance() {
+        long fingerprint = SimHash.of(TEXT);
+
+        int editedDistance = SimHash.distance(fingerprint,
+                SimHash.of(TEXT.replace("keywords", "terms")));
+        int rewrittenDistance = SimHash.distance(fingerprint,
+                SimHash.of("Os clientes recebem notificações sempre que uma palavra " +
+                        "vigiada for adicionada ou removida de um documento na web"));
+
+        assertTrue(editedDistance < rewrittenDistance);
+        assertTrue(editedDistance <= 12);
+        assertTrue(rewrittenDistance > 12);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class StageTest {
+
+    @Test
+    public void testSubmit() throws Exception {
+        Stage stage = new Stage("test", 2, 10);
+        assertEquals(42, (int) stage.submit(() -> 42).get());
+
+        CompletableFuture<Integer> failed = stage.submit(() -> {
+            throw new IllegalStateException("failed task");
+        });
+        try {
+            failed.get();
+            fail("Expected the failed task to complete exceptionally");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(1, stage.getFailedCount());
+
+        // stages can also be used as plain executors
+        CountDownLatch executed = new CountDownLatch(1);
+        stage.execute(executed::countDown);
+        assertTrue(executed.await(5, TimeUnit.SECONDS));
+        stage.shutdown();
+    }
+
+
+    @Test
+    public void testBackpressure() throws Exception {
+        Stage stage = new Stage("test", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // occupy the single worker and the single queue slot
+        CompletableFuture<Boolean> running = stage.submit(() -> release.await(5, TimeUnit.SECONDS));
+        stage.submit(() -> true);
+
+        // a third submission must block until there is room in the queue
+        CountDownLatch submitted = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            stage.submit(() -> true);
+            submitted.countDown();
+        });
+        producer.start();
+        assertFalse(submitted.await(200, TimeUnit.MILLISECONDS));
+        assertEquals(1, stage.getQueueDepth());
+
+        release.countDown();
+        assertTrue(submitted.await(5, TimeUnit.SECONDS));
+        assertTrue(running.get());
+        producer.join();
+        stage.shutdown();
+    }
+
+
+    @Test
+    public void testEnqueue() throws Exception {
+        Stage stage = new Stage("test", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // occupy the single worker and the single queue slot
+        CompletableFuture<Boolean> running = stage.submit(() -> release.await(5, TimeUnit.SECONDS));
+        stage.submit(() -> true);
+
+        // enqueued tasks never block, even if the queue is full, and are
+        // executed in the order in which they were enqueued
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Boolean>> enqueued = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int task = i;
+            enqueued.add(stage.enqueue(() -> executed.add(task)));
+        }
+        assertEquals(4, stage.getQueueDepth());
+        assertFalse(enqueued.get(0).isDone());
+
+        release.countDown();
+        assertTrue(running.get());
+        for (CompletableFuture<Boolean> future : enqueued) {
+            assertTrue(future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(Arrays.asList(0, 1, 2), executed);
+        assertEquals(0, stage.getQueueDepth());
+
+        stage.shutdown();
+        try {
+            stage.enqueue(() -> true).get();
+            fail("Expected the task enqueued in a shutdown stage to be rejected");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof RejectedExecutionException);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class TimingWheelTest {
+
+    @Test
+    public void testExpiration() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1000, 0);
+        Random random = new Random(42);
+
+        // deadlines spread through the first three levels of the wheel
+        int count = 20000;
+        for (int i = 0; i < count; i++) {
+            long deadline = 1000 + (long) random.nextInt(100000) * 1000;
+            wheel.schedule(deadline, deadline);
+        }
+        assertEquals(count, wheel.size());
+
+        List<Long> expired = new ArrayList<>();
+        long now = 0;
+        while (wheel.size() > 0) {
+            now += 1000 + random.nextInt(5000);
+            long currentNow = now;
+            wheel.advance(now, deadline -> {
+                // never expires early, and never more than one advance late
+                assertTrue(deadline <= currentNow);
+                expired.add(deadline);
+            });
+        }
+
+        assertEquals(count, expired.size());
+        for (int i = 1; i < expired.size(); i++) {
+            assertTrue(expired.get(i - 1) <= expired.get(i));
+        }
+    }
+
+
+    @Test
+    public void testExactTicks() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1000, 0);
+        long[] deadlines = {1000, 255000, 256000, 257000, 65536000, 70000000};
+        for (long d : deadlines) {
+            wheel.schedule(d, d);
+        }
+
+        List<Long> expired = new ArrayList<>();
+        for (long now = 1000; now <= 70000000; now += 1000) {
+            long currentNow = now;
+            wheel.advance(now, deadline -> {
+                assertEquals((long) deadline, currentNow);
+                expired.add(deadline);
+            });
+        }
+        assertEquals(deadlines.length, expired.size());
+    }
+
+
+    @Test
+    public void testCancel() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 0);
+        TimingWheel.Timeout<String> kept = wheel.schedule("kept", 5000);
+        TimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 300000);
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled));
+        assertFalse(cancelled.isScheduled());
+        assertEquals(1, wheel.size());
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(400000, expired::add);
+        assertEquals(1, expired.size());
+        assertEquals("kept", expired.get(0));
+        assertFalse(kept.isScheduled());
+
+        // deadlines that already passed expire on the next tick
+        wheel.schedule("late", 1000);
+        wheel.advance(400000, expired::add);
+        assertEquals(1, expired.size());
+        wheel.advance(401000, expired::add);
+        assertEquals("late", expired.get(1));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class TokenBucketTest {
+
+    @Test
+    public void testReserve() {
+        TokenBucket bucket = new TokenBucket(10, 10);
+        long now = System.currentTimeMillis();
+
+        // the burst is available immediately
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, bucket.reserve(now));
+        }
+
+        // exceeding reservations are deferred in order, one per 100ms
+        assertEquals(100, bucket.reserve(now));
+        assertEquals(200, bucket.reserve(now));
+        assertEquals(300, bucket.reserve(now));
+
+        // the reserved tokens are paid before new tokens are available
+        assertEquals(0, bucket.reserve(now + 400));
+        assertEquals(100, bucket.reserve(now + 400));
+    }
+
+
+    @Test
+    public void testRefillUpToBurst() {
+        TokenBucket bucket = new TokenBucket(2, 4);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 4; i++) {
+            bucket.reserve(now);
+        }
+
+        // an idle bucket never stores more than its burst
+        now += 60000;
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, bucket.reserve(now));
+        }
+        assertEquals(500, bucket.reserve(now));
+    }
+
+
+    @Test
+    public void testTryAcquire() {
+        TokenBucket bucket = new TokenBucket(4, 1);
+        long now = System.currentTimeMillis();
+        assertEquals(0, bucket.tryAcquire(now));
+
+        // failed attempts do not take tokens
+        assertEquals(250, bucket.tryAcquire(now));
+        assertEquals(150, bucket.tryAcquire(now + 100));
+        assertEquals(0, bucket.tryAcquire(now + 250));
+    }
+}
@@ -17,67 +17,99 @@
 package com.edduarte.argus.reader;
 
 import com.google.common.collect.ImmutableSet;
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonToken;
 import it.unimi.dsi.lang.MutableString;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 
 /**
  * A reader class that supports reading documents in the JSON format.
+ * <p>
+ * Documents are read token by token, where every key and primitive value is
+ * appended to the read string as soon as it is read, so the document tree is
+ * never built and the memory used by this reader, besides the read string, is
+ * bounded by the size of the largest key or value.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public class JsonReader implements com.edduarte.argus.reader.Reader {
 
-    private final Gson jsonParser;
-
-    public JsonReader() {
-        jsonParser = new Gson();
-    }
-
     @Override
-    public MutableString readDocumentContents(InputStream documentStream) throws IOException {
+    public MutableString readDocumentContents(java.io.Reader documentReader) throws IOException {
         MutableString sb = new MutableString();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(documentStream))) {
-            for (int c; (c = reader.read()) != -1; ) {
-                sb.append((char) c);
-            }
-        }
+        com.google.gson.stream.JsonReader json = new com.google.gson.stream.JsonReader(documentReader);
+        json.setLenient(true);
+        read(json, sb);
+        return sb.compact();
+    }
 
-        JsonElement fullText = jsonParser.fromJson(sb.toString(), JsonElement.class);
-        sb.delete(0, sb.length());
-        readRecursive(fullText, sb);
+    /**
+     * Appends every key and primitive value of the specified JSON stream,
+     * followed by a space, where every value within an object or an array is
+     * followed by another space.
+     */
+    private static void read(com.google.gson.stream.JsonReader json, MutableString collector)
+            throws IOException {
+        int depth = 0;
+        while (true) {
+            JsonToken token = json.peek();
+            switch (token) {
+                case BEGIN_OBJECT:
+                    json.beginObject();
+                    depth++;
+                    break;
 
-        return sb.compact();
+                case END_OBJECT:
+                    json.endObject();
+                    depth--;
+                    endValue(depth, collector);
+                    break;
+
+                case BEGIN_ARRAY:
+                    json.beginArray();
+                    depth++;
+                    break;
+
+                case END_ARRAY:
+                    json.endArray();
+                    depth--;
+                    endValue(depth, collector);
+                    break;
+
+                case NAME:
+                    collector.append(json.nextName());
+                    collector.append(' ');
+                    break;
+
+                case STRING:
+                case NUMBER:
+                    // numbers are read as they were written in the document
+                    collector.append(json.nextString());
+                    collector.append(' ');
+                    endValue(depth, collector);
+                    break;
+
+                case BOOLEAN:
+                    collector.append(json.nextBoolean() ? "true" : "false");
+                    collector.append(' ');
+                    endValue(depth, collector);
+                    break;
+
+                case NULL:
+                    json.nextNull();
+                    endValue(depth, collector);
+                    break;
+
+                case END_DOCUMENT:
+                    return;
+            }
+        }
     }
 
-    private void readRecursive(JsonElement root, MutableString collector) {
-        if (root.isJsonObject()) {
-            JsonObject object = (JsonObject) root;
-            object.entrySet().forEach(e -> {
-                collector.append(e.getKey());
-                collector.append(' ');
-                readRecursive(e.getValue(), collector);
-                collector.append(' ');
-            });
-        } else if (root.isJsonArray()) {
-            JsonArray array = (JsonArray) root;
-            array.forEach(child -> {
-                readRecursive(child, collector);
-                collector.append(' ');
-            });
-        } else if (root.isJsonPrimitive()) {
-            JsonPrimitive primitive = (JsonPrimitive) root;
-            collector.append(primitive.getAsString());
+    private static void endValue(int depth, MutableString collector) {
+        if (depth > 0) {
             collector.append(' ');
         }
     }
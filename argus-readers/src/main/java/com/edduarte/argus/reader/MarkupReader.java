@@ -18,49 +18,110 @@ package com.edduarte.argus.reader;
 
 import com.google.common.collect.ImmutableSet;
 import it.unimi.dsi.lang.MutableString;
-import org.jsoup.Jsoup;
-import org.jsoup.helper.StringUtil;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Node;
-import org.jsoup.nodes.TextNode;
-import org.jsoup.select.NodeTraversor;
-import org.jsoup.select.NodeVisitor;
+import org.jsoup.nodes.Entities;
 
 import java.io.IOException;
-import java.io.InputStream;
 
 /**
  * A reader class that supports reading documents in the XML format.
+ * <p>
+ * Documents are read by a streaming tokenizer that emits the text between
+ * tags straight into the returned string in a single pass, without building a
+ * document tree, so the memory used by this reader is bounded by the size of
+ * the read text. The contents of comments, processing instructions, scripts
+ * and styles are skipped, numeric character references and every named
+ * entity of HTML are decoded, and the title, list items, line breaks,
+ * paragraphs, headings and other block elements are separated by line breaks.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
-public class MarkupReader implements com.edduarte.argus.reader.Reader, NodeVisitor {
+public class MarkupReader implements com.edduarte.argus.reader.Reader {
+
+    /**
+     * The maximum length of a tag name or of a character reference, after
+     * which the rest of the name is ignored.
+     */
+    private static final int MAX_NAME_LENGTH = 32;
+
+    /**
+     * The elements that are rendered as blocks, whose end tags separate their
+     * text from the text that follows them. Paragraphs and headings, which are
+     * separated by an empty line, and list items, which are separated when
+     * they start, are not included.
+     */
+    private static final String[] BLOCK_ELEMENTS = {
+            "address", "article", "aside", "blockquote", "caption", "dd", "details",
+            "div", "dl", "dt", "fieldset", "figcaption", "figure", "footer", "form",
+            "header", "legend", "main", "nav", "ol", "pre", "section", "summary",
+            "table", "tbody", "td", "tfoot", "th", "thead", "title", "tr", "ul"
+    };
+
+    private final char[] buffer;
+
+    /**
+     * The characters of the tag name or character reference being read,
+     * which is reused for every name.
+     */
+    private final char[] name;
+
+    private java.io.Reader in;
+
+    private int position;
+
+    private int limit;
+
+    /**
+     * A character that was read ahead and that is returned by the next read,
+     * or -1 if there is none.
+     */
+    private int pushback;
+
+    private MutableString output;
+
+    /**
+     * Flag that sets that whitespace was read since the last emitted
+     * character, which is emitted as a single space before the next one.
+     */
+    private boolean hasPendingSpace;
 
-    private final StringBuilder accumulator;
-    private int width;
 
     public MarkupReader() {
-        this.width = 0;
-        this.accumulator = new StringBuilder();
+        this.buffer = new char[8192];
+        this.name = new char[MAX_NAME_LENGTH];
     }
 
-    @Override
-    public MutableString readDocumentContents(InputStream documentStream) throws IOException {
-        accumulator.delete(0, accumulator.length());
-
-        Document doc = Jsoup.parse(documentStream, null, "");
 
-        NodeTraversor traversal = new NodeTraversor(this);
-        traversal.traverse(doc);
+    @Override
+    public MutableString readDocumentContents(java.io.Reader documentReader) throws IOException {
+        in = documentReader;
+        position = 0;
+        limit = 0;
+        pushback = -1;
+        output = new MutableString();
+        hasPendingSpace = false;
 
-        String plainText = accumulator.toString();
-        plainText = plainText.replaceAll("<.*?>", "");
+        try {
+            for (int c; (c = read()) != -1; ) {
+                if (c == '<') {
+                    readMarkup();
+                } else if (c == '&') {
+                    readReference();
+                } else {
+                    appendText((char) c);
+                }
+            }
+        } finally {
+            in = null;
+        }
 
-        return new MutableString(plainText);
+        MutableString result = output;
+        output = null;
+        return result.compact();
     }
 
+
     @Override
     public ImmutableSet<String> getSupportedContentTypes() {
         return ImmutableSet.of(
@@ -76,57 +137,376 @@ public class MarkupReader implements com.edduarte.argus.reader.Reader, NodeVisit
                 "application/xml-dtd");
     }
 
-    @Override
-    public void head(Node node, int depth) {
-        String name = node.nodeName();
-        if (node instanceof TextNode) {
-            this.append(((TextNode) node).text());
-        } else if (name.equals("li")) {
-            this.append("\n * ");
+
+    /**
+     * Reads the markup that follows a '&lt;', which is either a tag, a
+     * comment, a CDATA section, a declaration or a processing instruction, or
+     * is text if the '&lt;' does not start any of them.
+     */
+    private void readMarkup() throws IOException {
+        int c = read();
+        if (c == '/') {
+            int length = readName();
+            skipTag();
+            onEndTag(length);
+
+        } else if (c == '!') {
+            c = read();
+            if (c == '-') {
+                skipComment();
+            } else if (c == '[') {
+                readCharacterData();
+            } else {
+                // a doctype or another declaration
+                unread(c);
+                skipTag();
+            }
+
+        } else if (c == '?') {
+            skipProcessingInstruction();
+
+        } else if (isNameStart(c)) {
+            unread(c);
+            int length = readName();
+            boolean isSelfClosing = skipTag();
+            onStartTag(length, isSelfClosing);
+
+        } else {
+            appendText('<');
+            unread(c);
         }
     }
 
-    @Override
-    public void tail(Node node, int depth) {
-        String name = node.nodeName();
-        if (name.equals("br")) {
-            this.append("\n");
-        } else if (StringUtil.in(name, "p", "h1", "h2", "h3", "h4", "h5")) {
-            this.append("\n\n");
-        } else if (name.equals("a")) {
-            this.append(String.format(" <%s>", node.absUrl("href")));
-        }
-    }
-
-    private void append(String text) {
-        if (text.startsWith("\n")) {
-            this.width = 0;
-        }
-
-        if (!text.equals(" ") || this.accumulator.length() != 0 &&
-                !StringUtil.in(this.accumulator.substring(this.accumulator.length() - 1), " ", "\n")) {
-            if (text.length() + this.width > 80) {
-                String[] words = text.split("\\s+");
-
-                for (int i = 0; i < words.length; ++i) {
-                    String word = words[i];
-                    boolean last = i == words.length - 1;
-                    if (!last) {
-                        word = word + " ";
-                    }
-
-                    if (word.length() + this.width > 80) {
-                        this.accumulator.append("\n").append(word);
-                        this.width = word.length();
-                    } else {
-                        this.accumulator.append(word);
-                        this.width += word.length();
-                    }
+
+    private void onStartTag(int length, boolean isSelfClosing) throws IOException {
+        if (isName(length, "li")) {
+            appendBreak("\n * ");
+        } else if (isName(length, "br")) {
+            appendBreak("\n");
+        } else if (!isSelfClosing && (isName(length, "script") || isName(length, "style"))) {
+            // raw text that is not part of the contents of the document
+            skipUntilEndTag(length);
+        }
+    }
+
+
+    private void onEndTag(int length) {
+        if (isName(length, "p") || isHeading(length)) {
+            appendBreak("\n\n");
+        } else if (isBlock(length)) {
+            appendLineBreak();
+        } else if (isName(length, "a")) {
+            hasPendingSpace = true;
+        }
+    }
+
+
+    /**
+     * Reads the name of a tag into the name buffer, converted to lower-case,
+     * returning its length.
+     */
+    private int readName() throws IOException {
+        int length = 0;
+        for (int c; (c = read()) != -1; ) {
+            if (c == '>' || c == '/' || Character.isWhitespace(c)) {
+                unread(c);
+                break;
+            }
+            if (length < MAX_NAME_LENGTH) {
+                name[length] = Character.toLowerCase((char) c);
+            }
+            length++;
+        }
+        return length;
+    }
+
+
+    private boolean isHeading(int length) {
+        return length == 2 && name[0] == 'h' && name[1] >= '1' && name[1] <= '6';
+    }
+
+
+    private boolean isBlock(int length) {
+        for (String element : BLOCK_ELEMENTS) {
+            if (isName(length, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    private boolean isName(int length, String tagName) {
+        if (length != tagName.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name[i] != tagName.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Skips the attributes of a tag until its closing '&gt;', ignoring any
+     * '&gt;' within quoted attribute values, and returns true if the tag is
+     * self-closing.
+     */
+    private boolean skipTag() throws IOException {
+        int quote = 0;
+        int previous = 0;
+        for (int c; (c = read()) != -1; ) {
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
                 }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return previous == '/';
+            }
+            previous = c;
+        }
+        return false;
+    }
+
+
+    /**
+     * Skips a comment, which follows a "&lt;!-", until its closing "--&gt;".
+     */
+    private void skipComment() throws IOException {
+        int dashes = 0;
+        for (int c; (c = read()) != -1; ) {
+            if (c == '>' && dashes >= 2) {
+                return;
+            }
+            dashes = c == '-' ? dashes + 1 : 0;
+        }
+    }
+
+
+    /**
+     * Skips a processing instruction, like the XML declaration, until its
+     * closing "?&gt;".
+     */
+    private void skipProcessingInstruction() throws IOException {
+        int previous = 0;
+        for (int c; (c = read()) != -1; ) {
+            if (c == '>' && previous == '?') {
+                return;
+            }
+            previous = c;
+        }
+    }
+
+
+    /**
+     * Skips the raw text of a script or style element until its end tag, where
+     * the element name is in the name buffer.
+     */
+    private void skipUntilEndTag(int length) throws IOException {
+        for (int c; (c = read()) != -1; ) {
+            if (c != '<') {
+                continue;
+            }
+            c = read();
+            if (c != '/') {
+                unread(c);
+                continue;
+            }
+
+            int i = 0;
+            while (i < length) {
+                c = read();
+                if (c == -1 || Character.toLowerCase((char) c) != name[i]) {
+                    break;
+                }
+                i++;
+            }
+            if (i == length) {
+                skipTag();
+                return;
+            }
+            unread(c);
+        }
+    }
+
+
+    /**
+     * Reads a CDATA section, which follows a "&lt;![", as text, or skips a
+     * conditional section or other declaration that is not a CDATA section.
+     */
+    private void readCharacterData() throws IOException {
+        String prefix = "CDATA[";
+        for (int i = 0; i < prefix.length(); i++) {
+            int c = read();
+            if (c != prefix.charAt(i)) {
+                unread(c);
+                skipTag();
+                return;
+            }
+        }
+
+        // the number of trailing ']' that may start the closing "]]>"
+        int matched = 0;
+        for (int c; (c = read()) != -1; ) {
+            if (c == ']') {
+                if (matched == 2) {
+                    appendText(']');
+                } else {
+                    matched++;
+                }
+            } else if (c == '>' && matched == 2) {
+                return;
             } else {
-                this.accumulator.append(text);
-                this.width += text.length();
+                for (; matched > 0; matched--) {
+                    appendText(']');
+                }
+                appendText((char) c);
+            }
+        }
+    }
+
+
+    /**
+     * Reads a character reference, which follows a '&amp;', decoding it if it
+     * is a numeric reference or a named entity of HTML, or appending it as text
+     * otherwise.
+     */
+    private void readReference() throws IOException {
+        int length = 0;
+        int c;
+        while ((c = read()) != -1 && length < MAX_NAME_LENGTH &&
+                (Character.isLetterOrDigit(c) || (c == '#' && length == 0))) {
+            name[length++] = (char) c;
+        }
+
+        int codePoint = c == ';' ? decodeReference(length) : -1;
+        if (codePoint < 0) {
+            appendText('&');
+            for (int i = 0; i < length; i++) {
+                appendText(name[i]);
+            }
+            unread(c);
+            return;
+        }
+
+        if (Character.isBmpCodePoint(codePoint)) {
+            appendText((char) codePoint);
+        } else {
+            appendText(Character.highSurrogate(codePoint));
+            appendText(Character.lowSurrogate(codePoint));
+        }
+    }
+
+
+    /**
+     * Decodes the character reference in the name buffer, returning its code
+     * point, or -1 if it is not a valid numeric reference nor a named entity.
+     */
+    private int decodeReference(int length) {
+        if (length == 0) {
+            return -1;
+        }
+
+        if (name[0] != '#') {
+            String entity = new String(name, 0, length);
+            return Entities.isNamedEntity(entity) ? Entities.getCharacterByName(entity) : -1;
+        }
+
+        int radix = 10;
+        int start = 1;
+        if (length > 1 && (name[1] == 'x' || name[1] == 'X')) {
+            radix = 16;
+            start = 2;
+        }
+        if (start == length) {
+            return -1;
+        }
+
+        int codePoint = 0;
+        for (int i = start; i < length; i++) {
+            int digit = Character.digit(name[i], radix);
+            if (digit < 0) {
+                return -1;
+            }
+            codePoint = codePoint * radix + digit;
+            if (codePoint > Character.MAX_CODE_POINT) {
+                return -1;
             }
         }
+        return codePoint;
+    }
+
+
+    /**
+     * Appends a character of text, where every sequence of whitespace is
+     * collapsed into a single space, and whitespace at the start of the
+     * contents or of a line is dropped.
+     */
+    private void appendText(char c) {
+        if (Character.isWhitespace(c) || c == '\u00a0' || c == '\ufeff') {
+            hasPendingSpace = true;
+            return;
+        }
+
+        if (hasPendingSpace) {
+            int length = output.length();
+            char last = length > 0 ? output.charAt(length - 1) : '\n';
+            if (last != '\n' && last != ' ') {
+                output.append(' ');
+            }
+            hasPendingSpace = false;
+        }
+        output.append(c);
+    }
+
+
+    private void appendBreak(String text) {
+        hasPendingSpace = false;
+        output.append(text);
+    }
+
+
+    /**
+     * Appends a line break, unless the contents are empty or already end with
+     * one, so that nested blocks are separated by a single line break.
+     */
+    private void appendLineBreak() {
+        hasPendingSpace = false;
+        int length = output.length();
+        if (length > 0 && output.charAt(length - 1) != '\n') {
+            output.append('\n');
+        }
+    }
+
+
+    private int read() throws IOException {
+        if (pushback != -1) {
+            int c = pushback;
+            pushback = -1;
+            return c;
+        }
+        if (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+
+    private void unread(int c) {
+        pushback = c;
+    }
+
+
+    private static boolean isNameStart(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
     }
 }
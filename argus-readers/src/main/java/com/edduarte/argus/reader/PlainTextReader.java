@@ -19,28 +19,21 @@ package com.edduarte.argus.reader;
 import com.google.common.collect.ImmutableSet;
 import it.unimi.dsi.lang.MutableString;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 
 /**
  * A reader class that supports reading documents in plain-text format.
  *
  * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
- * @version 1.3.2
+ * @version 1.5.0
  * @since 1.0.0
  */
 public class PlainTextReader implements com.edduarte.argus.reader.Reader {
 
     @Override
-    public MutableString readDocumentContents(InputStream documentStream) throws IOException {
+    public MutableString readDocumentContents(java.io.Reader documentReader) throws IOException {
         MutableString sb = new MutableString();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(documentStream))) {
-            for (int c; (c = reader.read()) != -1; ) {
-                sb.append((char) c);
-            }
-        }
+        ContentReader.readFully(documentReader, sb);
         return sb.compact();
     }
 
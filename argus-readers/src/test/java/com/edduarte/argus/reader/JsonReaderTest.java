@@ -20,6 +20,7 @@ import com.edduarte.argus.reader.JsonReader;
 import it.unimi.dsi.lang.MutableString;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 
 import static org.junit.Assert.*;
@@ -115,4 +116,16 @@ public class JsonReaderTest {
                         "[[Category:Greek legendary creatures]]       ",
                 text.toString());
     }
+
+    @Test
+    public void testNested() throws Exception {
+        String json = "{\"a\":1.50,\"b\":[true,null,{\"c\":\"d\"}],\"e\":{}}";
+        InputStream input = new ByteArrayInputStream(json.getBytes("UTF-8"));
+
+        Reader reader = new JsonReader();
+        MutableString text = reader.readDocumentContents(input);
+
+        // numbers are kept as written and null values are skipped
+        assertEquals("a 1.50  b true   c d    e  ", text.toString());
+    }
 }
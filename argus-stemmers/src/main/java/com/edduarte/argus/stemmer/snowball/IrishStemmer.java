@@ -11,91 +11,90 @@ public class IrishStemmer extends SnowballStemmer {
 
     private static final long serialVersionUID = 1L;
 
-    private final static IrishStemmer methodObject = new IrishStemmer();
     private final static Among a_0[] = {
-            new Among("b'", -1, 4, "", methodObject),
-            new Among("bh", -1, 14, "", methodObject),
-            new Among("bhf", 1, 9, "", methodObject),
-            new Among("bp", -1, 11, "", methodObject),
-            new Among("ch", -1, 15, "", methodObject),
-            new Among("d'", -1, 2, "", methodObject),
-            new Among("d'fh", 5, 3, "", methodObject),
-            new Among("dh", -1, 16, "", methodObject),
-            new Among("dt", -1, 13, "", methodObject),
-            new Among("fh", -1, 17, "", methodObject),
-            new Among("gc", -1, 7, "", methodObject),
-            new Among("gh", -1, 18, "", methodObject),
-            new Among("h-", -1, 1, "", methodObject),
-            new Among("m'", -1, 4, "", methodObject),
-            new Among("mb", -1, 6, "", methodObject),
-            new Among("mh", -1, 19, "", methodObject),
-            new Among("n-", -1, 1, "", methodObject),
-            new Among("nd", -1, 8, "", methodObject),
-            new Among("ng", -1, 10, "", methodObject),
-            new Among("ph", -1, 20, "", methodObject),
-            new Among("sh", -1, 5, "", methodObject),
-            new Among("t-", -1, 1, "", methodObject),
-            new Among("th", -1, 21, "", methodObject),
-            new Among("ts", -1, 12, "", methodObject)
+            new Among("b'", -1, 4),
+            new Among("bh", -1, 14),
+            new Among("bhf", 1, 9),
+            new Among("bp", -1, 11),
+            new Among("ch", -1, 15),
+            new Among("d'", -1, 2),
+            new Among("d'fh", 5, 3),
+            new Among("dh", -1, 16),
+            new Among("dt", -1, 13),
+            new Among("fh", -1, 17),
+            new Among("gc", -1, 7),
+            new Among("gh", -1, 18),
+            new Among("h-", -1, 1),
+            new Among("m'", -1, 4),
+            new Among("mb", -1, 6),
+            new Among("mh", -1, 19),
+            new Among("n-", -1, 1),
+            new Among("nd", -1, 8),
+            new Among("ng", -1, 10),
+            new Among("ph", -1, 20),
+            new Among("sh", -1, 5),
+            new Among("t-", -1, 1),
+            new Among("th", -1, 21),
+            new Among("ts", -1, 12)
     };
     private final static Among a_1[] = {
-            new Among("\u00EDochta", -1, 1, "", methodObject),
-            new Among("a\u00EDochta", 0, 1, "", methodObject),
-            new Among("ire", -1, 2, "", methodObject),
-            new Among("aire", 2, 2, "", methodObject),
-            new Among("abh", -1, 1, "", methodObject),
-            new Among("eabh", 4, 1, "", methodObject),
-            new Among("ibh", -1, 1, "", methodObject),
-            new Among("aibh", 6, 1, "", methodObject),
-            new Among("amh", -1, 1, "", methodObject),
-            new Among("eamh", 8, 1, "", methodObject),
-            new Among("imh", -1, 1, "", methodObject),
-            new Among("aimh", 10, 1, "", methodObject),
-            new Among("\u00EDocht", -1, 1, "", methodObject),
-            new Among("a\u00EDocht", 12, 1, "", methodObject),
-            new Among("ir\u00ED", -1, 2, "", methodObject),
-            new Among("air\u00ED", 14, 2, "", methodObject)
+            new Among("\u00EDochta", -1, 1),
+            new Among("a\u00EDochta", 0, 1),
+            new Among("ire", -1, 2),
+            new Among("aire", 2, 2),
+            new Among("abh", -1, 1),
+            new Among("eabh", 4, 1),
+            new Among("ibh", -1, 1),
+            new Among("aibh", 6, 1),
+            new Among("amh", -1, 1),
+            new Among("eamh", 8, 1),
+            new Among("imh", -1, 1),
+            new Among("aimh", 10, 1),
+            new Among("\u00EDocht", -1, 1),
+            new Among("a\u00EDocht", 12, 1),
+            new Among("ir\u00ED", -1, 2),
+            new Among("air\u00ED", 14, 2)
     };
     private final static Among a_2[] = {
-            new Among("\u00F3ideacha", -1, 6, "", methodObject),
-            new Among("patacha", -1, 5, "", methodObject),
-            new Among("achta", -1, 1, "", methodObject),
-            new Among("arcachta", 2, 2, "", methodObject),
-            new Among("eachta", 2, 1, "", methodObject),
-            new Among("grafa\u00EDochta", -1, 4, "", methodObject),
-            new Among("paite", -1, 5, "", methodObject),
-            new Among("ach", -1, 1, "", methodObject),
-            new Among("each", 7, 1, "", methodObject),
-            new Among("\u00F3ideach", 8, 6, "", methodObject),
-            new Among("gineach", 8, 3, "", methodObject),
-            new Among("patach", 7, 5, "", methodObject),
-            new Among("grafa\u00EDoch", -1, 4, "", methodObject),
-            new Among("pataigh", -1, 5, "", methodObject),
-            new Among("\u00F3idigh", -1, 6, "", methodObject),
-            new Among("acht\u00FAil", -1, 1, "", methodObject),
-            new Among("eacht\u00FAil", 15, 1, "", methodObject),
-            new Among("gineas", -1, 3, "", methodObject),
-            new Among("ginis", -1, 3, "", methodObject),
-            new Among("acht", -1, 1, "", methodObject),
-            new Among("arcacht", 19, 2, "", methodObject),
-            new Among("eacht", 19, 1, "", methodObject),
-            new Among("grafa\u00EDocht", -1, 4, "", methodObject),
-            new Among("arcachta\u00ED", -1, 2, "", methodObject),
-            new Among("grafa\u00EDochta\u00ED", -1, 4, "", methodObject)
+            new Among("\u00F3ideacha", -1, 6),
+            new Among("patacha", -1, 5),
+            new Among("achta", -1, 1),
+            new Among("arcachta", 2, 2),
+            new Among("eachta", 2, 1),
+            new Among("grafa\u00EDochta", -1, 4),
+            new Among("paite", -1, 5),
+            new Among("ach", -1, 1),
+            new Among("each", 7, 1),
+            new Among("\u00F3ideach", 8, 6),
+            new Among("gineach", 8, 3),
+            new Among("patach", 7, 5),
+            new Among("grafa\u00EDoch", -1, 4),
+            new Among("pataigh", -1, 5),
+            new Among("\u00F3idigh", -1, 6),
+            new Among("acht\u00FAil", -1, 1),
+            new Among("eacht\u00FAil", 15, 1),
+            new Among("gineas", -1, 3),
+            new Among("ginis", -1, 3),
+            new Among("acht", -1, 1),
+            new Among("arcacht", 19, 2),
+            new Among("eacht", 19, 1),
+            new Among("grafa\u00EDocht", -1, 4),
+            new Among("arcachta\u00ED", -1, 2),
+            new Among("grafa\u00EDochta\u00ED", -1, 4)
     };
     private final static Among a_3[] = {
-            new Among("imid", -1, 1, "", methodObject),
-            new Among("aimid", 0, 1, "", methodObject),
-            new Among("\u00EDmid", -1, 1, "", methodObject),
-            new Among("a\u00EDmid", 2, 1, "", methodObject),
-            new Among("adh", -1, 2, "", methodObject),
-            new Among("eadh", 4, 2, "", methodObject),
-            new Among("faidh", -1, 1, "", methodObject),
-            new Among("fidh", -1, 1, "", methodObject),
-            new Among("\u00E1il", -1, 2, "", methodObject),
-            new Among("ain", -1, 2, "", methodObject),
-            new Among("tear", -1, 2, "", methodObject),
-            new Among("tar", -1, 2, "", methodObject)
+            new Among("imid", -1, 1),
+            new Among("aimid", 0, 1),
+            new Among("\u00EDmid", -1, 1),
+            new Among("a\u00EDmid", 2, 1),
+            new Among("adh", -1, 2),
+            new Among("eadh", 4, 2),
+            new Among("faidh", -1, 1),
+            new Among("fidh", -1, 1),
+            new Among("\u00E1il", -1, 2),
+            new Among("ain", -1, 2),
+            new Among("tear", -1, 2),
+            new Among("tar", -1, 2)
     };
     private static final char g_v[] = {17, 65, 16, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 17, 4, 2};
     private int I_p2;
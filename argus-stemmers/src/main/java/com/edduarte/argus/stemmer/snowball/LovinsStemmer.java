@@ -11,361 +11,360 @@ public class LovinsStemmer extends SnowballStemmer {
 
     private static final long serialVersionUID = 1L;
 
-    private final static LovinsStemmer methodObject = new LovinsStemmer();
     private final static Among a_0[] = {
-            new Among("d", -1, -1, "", methodObject),
-            new Among("f", -1, -1, "", methodObject),
-            new Among("ph", -1, -1, "", methodObject),
-            new Among("th", -1, -1, "", methodObject),
-            new Among("l", -1, -1, "", methodObject),
-            new Among("er", -1, -1, "", methodObject),
-            new Among("or", -1, -1, "", methodObject),
-            new Among("es", -1, -1, "", methodObject),
-            new Among("t", -1, -1, "", methodObject)
+            new Among("d", -1, -1),
+            new Among("f", -1, -1),
+            new Among("ph", -1, -1),
+            new Among("th", -1, -1),
+            new Among("l", -1, -1),
+            new Among("er", -1, -1),
+            new Among("or", -1, -1),
+            new Among("es", -1, -1),
+            new Among("t", -1, -1)
     };
     private final static Among a_1[] = {
-            new Among("s'", -1, 1, "r_A", methodObject),
-            new Among("a", -1, 1, "r_A", methodObject),
-            new Among("ia", 1, 1, "r_A", methodObject),
-            new Among("ata", 1, 1, "r_A", methodObject),
-            new Among("ic", -1, 1, "r_A", methodObject),
-            new Among("aic", 4, 1, "r_A", methodObject),
-            new Among("allic", 4, 1, "r_BB", methodObject),
-            new Among("aric", 4, 1, "r_A", methodObject),
-            new Among("atic", 4, 1, "r_B", methodObject),
-            new Among("itic", 4, 1, "r_H", methodObject),
-            new Among("antic", 4, 1, "r_C", methodObject),
-            new Among("istic", 4, 1, "r_A", methodObject),
-            new Among("alistic", 11, 1, "r_B", methodObject),
-            new Among("aristic", 11, 1, "r_A", methodObject),
-            new Among("ivistic", 11, 1, "r_A", methodObject),
-            new Among("ed", -1, 1, "r_E", methodObject),
-            new Among("anced", 15, 1, "r_B", methodObject),
-            new Among("enced", 15, 1, "r_A", methodObject),
-            new Among("ished", 15, 1, "r_A", methodObject),
-            new Among("ied", 15, 1, "r_A", methodObject),
-            new Among("ened", 15, 1, "r_E", methodObject),
-            new Among("ioned", 15, 1, "r_A", methodObject),
-            new Among("ated", 15, 1, "r_I", methodObject),
-            new Among("ented", 15, 1, "r_C", methodObject),
-            new Among("ized", 15, 1, "r_F", methodObject),
-            new Among("arized", 24, 1, "r_A", methodObject),
-            new Among("oid", -1, 1, "r_A", methodObject),
-            new Among("aroid", 26, 1, "r_A", methodObject),
-            new Among("hood", -1, 1, "r_A", methodObject),
-            new Among("ehood", 28, 1, "r_A", methodObject),
-            new Among("ihood", 28, 1, "r_A", methodObject),
-            new Among("elihood", 30, 1, "r_E", methodObject),
-            new Among("ward", -1, 1, "r_A", methodObject),
-            new Among("e", -1, 1, "r_A", methodObject),
-            new Among("ae", 33, 1, "r_A", methodObject),
-            new Among("ance", 33, 1, "r_B", methodObject),
-            new Among("icance", 35, 1, "r_A", methodObject),
-            new Among("ence", 33, 1, "r_A", methodObject),
-            new Among("ide", 33, 1, "r_L", methodObject),
-            new Among("icide", 38, 1, "r_A", methodObject),
-            new Among("otide", 38, 1, "r_A", methodObject),
-            new Among("age", 33, 1, "r_B", methodObject),
-            new Among("able", 33, 1, "r_A", methodObject),
-            new Among("atable", 42, 1, "r_A", methodObject),
-            new Among("izable", 42, 1, "r_E", methodObject),
-            new Among("arizable", 44, 1, "r_A", methodObject),
-            new Among("ible", 33, 1, "r_A", methodObject),
-            new Among("encible", 46, 1, "r_A", methodObject),
-            new Among("ene", 33, 1, "r_E", methodObject),
-            new Among("ine", 33, 1, "r_M", methodObject),
-            new Among("idine", 49, 1, "r_I", methodObject),
-            new Among("one", 33, 1, "r_R", methodObject),
-            new Among("ature", 33, 1, "r_E", methodObject),
-            new Among("eature", 52, 1, "r_Z", methodObject),
-            new Among("ese", 33, 1, "r_A", methodObject),
-            new Among("wise", 33, 1, "r_A", methodObject),
-            new Among("ate", 33, 1, "r_A", methodObject),
-            new Among("entiate", 56, 1, "r_A", methodObject),
-            new Among("inate", 56, 1, "r_A", methodObject),
-            new Among("ionate", 56, 1, "r_D", methodObject),
-            new Among("ite", 33, 1, "r_AA", methodObject),
-            new Among("ive", 33, 1, "r_A", methodObject),
-            new Among("ative", 61, 1, "r_A", methodObject),
-            new Among("ize", 33, 1, "r_F", methodObject),
-            new Among("alize", 63, 1, "r_A", methodObject),
-            new Among("icalize", 64, 1, "r_A", methodObject),
-            new Among("ialize", 64, 1, "r_A", methodObject),
-            new Among("entialize", 66, 1, "r_A", methodObject),
-            new Among("ionalize", 64, 1, "r_A", methodObject),
-            new Among("arize", 63, 1, "r_A", methodObject),
-            new Among("ing", -1, 1, "r_N", methodObject),
-            new Among("ancing", 70, 1, "r_B", methodObject),
-            new Among("encing", 70, 1, "r_A", methodObject),
-            new Among("aging", 70, 1, "r_B", methodObject),
-            new Among("ening", 70, 1, "r_E", methodObject),
-            new Among("ioning", 70, 1, "r_A", methodObject),
-            new Among("ating", 70, 1, "r_I", methodObject),
-            new Among("enting", 70, 1, "r_C", methodObject),
-            new Among("ying", 70, 1, "r_B", methodObject),
-            new Among("izing", 70, 1, "r_F", methodObject),
-            new Among("arizing", 79, 1, "r_A", methodObject),
-            new Among("ish", -1, 1, "r_C", methodObject),
-            new Among("yish", 81, 1, "r_A", methodObject),
-            new Among("i", -1, 1, "r_A", methodObject),
-            new Among("al", -1, 1, "r_BB", methodObject),
-            new Among("ical", 84, 1, "r_A", methodObject),
-            new Among("aical", 85, 1, "r_A", methodObject),
-            new Among("istical", 85, 1, "r_A", methodObject),
-            new Among("oidal", 84, 1, "r_A", methodObject),
-            new Among("eal", 84, 1, "r_Y", methodObject),
-            new Among("ial", 84, 1, "r_A", methodObject),
-            new Among("ancial", 90, 1, "r_A", methodObject),
-            new Among("arial", 90, 1, "r_A", methodObject),
-            new Among("ential", 90, 1, "r_A", methodObject),
-            new Among("ional", 84, 1, "r_A", methodObject),
-            new Among("ational", 94, 1, "r_B", methodObject),
-            new Among("izational", 95, 1, "r_A", methodObject),
-            new Among("ental", 84, 1, "r_A", methodObject),
-            new Among("ful", -1, 1, "r_A", methodObject),
-            new Among("eful", 98, 1, "r_A", methodObject),
-            new Among("iful", 98, 1, "r_A", methodObject),
-            new Among("yl", -1, 1, "r_R", methodObject),
-            new Among("ism", -1, 1, "r_B", methodObject),
-            new Among("icism", 102, 1, "r_A", methodObject),
-            new Among("oidism", 102, 1, "r_A", methodObject),
-            new Among("alism", 102, 1, "r_B", methodObject),
-            new Among("icalism", 105, 1, "r_A", methodObject),
-            new Among("ionalism", 105, 1, "r_A", methodObject),
-            new Among("inism", 102, 1, "r_J", methodObject),
-            new Among("ativism", 102, 1, "r_A", methodObject),
-            new Among("um", -1, 1, "r_U", methodObject),
-            new Among("ium", 110, 1, "r_A", methodObject),
-            new Among("ian", -1, 1, "r_A", methodObject),
-            new Among("ician", 112, 1, "r_A", methodObject),
-            new Among("en", -1, 1, "r_F", methodObject),
-            new Among("ogen", 114, 1, "r_A", methodObject),
-            new Among("on", -1, 1, "r_S", methodObject),
-            new Among("ion", 116, 1, "r_Q", methodObject),
-            new Among("ation", 117, 1, "r_B", methodObject),
-            new Among("ication", 118, 1, "r_G", methodObject),
-            new Among("entiation", 118, 1, "r_A", methodObject),
-            new Among("ination", 118, 1, "r_A", methodObject),
-            new Among("isation", 118, 1, "r_A", methodObject),
-            new Among("arisation", 122, 1, "r_A", methodObject),
-            new Among("entation", 118, 1, "r_A", methodObject),
-            new Among("ization", 118, 1, "r_F", methodObject),
-            new Among("arization", 125, 1, "r_A", methodObject),
-            new Among("action", 117, 1, "r_G", methodObject),
-            new Among("o", -1, 1, "r_A", methodObject),
-            new Among("ar", -1, 1, "r_X", methodObject),
-            new Among("ear", 129, 1, "r_Y", methodObject),
-            new Among("ier", -1, 1, "r_A", methodObject),
-            new Among("ariser", -1, 1, "r_A", methodObject),
-            new Among("izer", -1, 1, "r_F", methodObject),
-            new Among("arizer", 133, 1, "r_A", methodObject),
-            new Among("or", -1, 1, "r_T", methodObject),
-            new Among("ator", 135, 1, "r_A", methodObject),
-            new Among("s", -1, 1, "r_W", methodObject),
-            new Among("'s", 137, 1, "r_A", methodObject),
-            new Among("as", 137, 1, "r_B", methodObject),
-            new Among("ics", 137, 1, "r_A", methodObject),
-            new Among("istics", 140, 1, "r_A", methodObject),
-            new Among("es", 137, 1, "r_E", methodObject),
-            new Among("ances", 142, 1, "r_B", methodObject),
-            new Among("ences", 142, 1, "r_A", methodObject),
-            new Among("ides", 142, 1, "r_L", methodObject),
-            new Among("oides", 145, 1, "r_A", methodObject),
-            new Among("ages", 142, 1, "r_B", methodObject),
-            new Among("ies", 142, 1, "r_P", methodObject),
-            new Among("acies", 148, 1, "r_A", methodObject),
-            new Among("ancies", 148, 1, "r_A", methodObject),
-            new Among("encies", 148, 1, "r_A", methodObject),
-            new Among("aries", 148, 1, "r_A", methodObject),
-            new Among("ities", 148, 1, "r_A", methodObject),
-            new Among("alities", 153, 1, "r_A", methodObject),
-            new Among("ivities", 153, 1, "r_A", methodObject),
-            new Among("ines", 142, 1, "r_M", methodObject),
-            new Among("nesses", 142, 1, "r_A", methodObject),
-            new Among("ates", 142, 1, "r_A", methodObject),
-            new Among("atives", 142, 1, "r_A", methodObject),
-            new Among("ings", 137, 1, "r_N", methodObject),
-            new Among("is", 137, 1, "r_A", methodObject),
-            new Among("als", 137, 1, "r_BB", methodObject),
-            new Among("ials", 162, 1, "r_A", methodObject),
-            new Among("entials", 163, 1, "r_A", methodObject),
-            new Among("ionals", 162, 1, "r_A", methodObject),
-            new Among("isms", 137, 1, "r_B", methodObject),
-            new Among("ians", 137, 1, "r_A", methodObject),
-            new Among("icians", 167, 1, "r_A", methodObject),
-            new Among("ions", 137, 1, "r_B", methodObject),
-            new Among("ations", 169, 1, "r_B", methodObject),
-            new Among("arisations", 170, 1, "r_A", methodObject),
-            new Among("entations", 170, 1, "r_A", methodObject),
-            new Among("izations", 170, 1, "r_A", methodObject),
-            new Among("arizations", 173, 1, "r_A", methodObject),
-            new Among("ars", 137, 1, "r_O", methodObject),
-            new Among("iers", 137, 1, "r_A", methodObject),
-            new Among("izers", 137, 1, "r_F", methodObject),
-            new Among("ators", 137, 1, "r_A", methodObject),
-            new Among("less", 137, 1, "r_A", methodObject),
-            new Among("eless", 179, 1, "r_A", methodObject),
-            new Among("ness", 137, 1, "r_A", methodObject),
-            new Among("eness", 181, 1, "r_E", methodObject),
-            new Among("ableness", 182, 1, "r_A", methodObject),
-            new Among("eableness", 183, 1, "r_E", methodObject),
-            new Among("ibleness", 182, 1, "r_A", methodObject),
-            new Among("ateness", 182, 1, "r_A", methodObject),
-            new Among("iteness", 182, 1, "r_A", methodObject),
-            new Among("iveness", 182, 1, "r_A", methodObject),
-            new Among("ativeness", 188, 1, "r_A", methodObject),
-            new Among("ingness", 181, 1, "r_A", methodObject),
-            new Among("ishness", 181, 1, "r_A", methodObject),
-            new Among("iness", 181, 1, "r_A", methodObject),
-            new Among("ariness", 192, 1, "r_E", methodObject),
-            new Among("alness", 181, 1, "r_A", methodObject),
-            new Among("icalness", 194, 1, "r_A", methodObject),
-            new Among("antialness", 194, 1, "r_A", methodObject),
-            new Among("entialness", 194, 1, "r_A", methodObject),
-            new Among("ionalness", 194, 1, "r_A", methodObject),
-            new Among("fulness", 181, 1, "r_A", methodObject),
-            new Among("lessness", 181, 1, "r_A", methodObject),
-            new Among("ousness", 181, 1, "r_A", methodObject),
-            new Among("eousness", 201, 1, "r_A", methodObject),
-            new Among("iousness", 201, 1, "r_A", methodObject),
-            new Among("itousness", 201, 1, "r_A", methodObject),
-            new Among("entness", 181, 1, "r_A", methodObject),
-            new Among("ants", 137, 1, "r_B", methodObject),
-            new Among("ists", 137, 1, "r_A", methodObject),
-            new Among("icists", 207, 1, "r_A", methodObject),
-            new Among("us", 137, 1, "r_V", methodObject),
-            new Among("ous", 209, 1, "r_A", methodObject),
-            new Among("eous", 210, 1, "r_A", methodObject),
-            new Among("aceous", 211, 1, "r_A", methodObject),
-            new Among("antaneous", 211, 1, "r_A", methodObject),
-            new Among("ious", 210, 1, "r_A", methodObject),
-            new Among("acious", 214, 1, "r_B", methodObject),
-            new Among("itous", 210, 1, "r_A", methodObject),
-            new Among("ant", -1, 1, "r_B", methodObject),
-            new Among("icant", 217, 1, "r_A", methodObject),
-            new Among("ent", -1, 1, "r_C", methodObject),
-            new Among("ement", 219, 1, "r_A", methodObject),
-            new Among("izement", 220, 1, "r_A", methodObject),
-            new Among("ist", -1, 1, "r_A", methodObject),
-            new Among("icist", 222, 1, "r_A", methodObject),
-            new Among("alist", 222, 1, "r_A", methodObject),
-            new Among("icalist", 224, 1, "r_A", methodObject),
-            new Among("ialist", 224, 1, "r_A", methodObject),
-            new Among("ionist", 222, 1, "r_A", methodObject),
-            new Among("entist", 222, 1, "r_A", methodObject),
-            new Among("y", -1, 1, "r_B", methodObject),
-            new Among("acy", 229, 1, "r_A", methodObject),
-            new Among("ancy", 229, 1, "r_B", methodObject),
-            new Among("ency", 229, 1, "r_A", methodObject),
-            new Among("ly", 229, 1, "r_B", methodObject),
-            new Among("ealy", 233, 1, "r_Y", methodObject),
-            new Among("ably", 233, 1, "r_A", methodObject),
-            new Among("ibly", 233, 1, "r_A", methodObject),
-            new Among("edly", 233, 1, "r_E", methodObject),
-            new Among("iedly", 237, 1, "r_A", methodObject),
-            new Among("ely", 233, 1, "r_E", methodObject),
-            new Among("ately", 239, 1, "r_A", methodObject),
-            new Among("ively", 239, 1, "r_A", methodObject),
-            new Among("atively", 241, 1, "r_A", methodObject),
-            new Among("ingly", 233, 1, "r_B", methodObject),
-            new Among("atingly", 243, 1, "r_A", methodObject),
-            new Among("ily", 233, 1, "r_A", methodObject),
-            new Among("lily", 245, 1, "r_A", methodObject),
-            new Among("arily", 245, 1, "r_A", methodObject),
-            new Among("ally", 233, 1, "r_B", methodObject),
-            new Among("ically", 248, 1, "r_A", methodObject),
-            new Among("aically", 249, 1, "r_A", methodObject),
-            new Among("allically", 249, 1, "r_C", methodObject),
-            new Among("istically", 249, 1, "r_A", methodObject),
-            new Among("alistically", 252, 1, "r_B", methodObject),
-            new Among("oidally", 248, 1, "r_A", methodObject),
-            new Among("ially", 248, 1, "r_A", methodObject),
-            new Among("entially", 255, 1, "r_A", methodObject),
-            new Among("ionally", 248, 1, "r_A", methodObject),
-            new Among("ationally", 257, 1, "r_B", methodObject),
-            new Among("izationally", 258, 1, "r_B", methodObject),
-            new Among("entally", 248, 1, "r_A", methodObject),
-            new Among("fully", 233, 1, "r_A", methodObject),
-            new Among("efully", 261, 1, "r_A", methodObject),
-            new Among("ifully", 261, 1, "r_A", methodObject),
-            new Among("enly", 233, 1, "r_E", methodObject),
-            new Among("arly", 233, 1, "r_K", methodObject),
-            new Among("early", 265, 1, "r_Y", methodObject),
-            new Among("lessly", 233, 1, "r_A", methodObject),
-            new Among("ously", 233, 1, "r_A", methodObject),
-            new Among("eously", 268, 1, "r_A", methodObject),
-            new Among("iously", 268, 1, "r_A", methodObject),
-            new Among("ently", 233, 1, "r_A", methodObject),
-            new Among("ary", 229, 1, "r_F", methodObject),
-            new Among("ery", 229, 1, "r_E", methodObject),
-            new Among("icianry", 229, 1, "r_A", methodObject),
-            new Among("atory", 229, 1, "r_A", methodObject),
-            new Among("ity", 229, 1, "r_A", methodObject),
-            new Among("acity", 276, 1, "r_A", methodObject),
-            new Among("icity", 276, 1, "r_A", methodObject),
-            new Among("eity", 276, 1, "r_A", methodObject),
-            new Among("ality", 276, 1, "r_A", methodObject),
-            new Among("icality", 280, 1, "r_A", methodObject),
-            new Among("iality", 280, 1, "r_A", methodObject),
-            new Among("antiality", 282, 1, "r_A", methodObject),
-            new Among("entiality", 282, 1, "r_A", methodObject),
-            new Among("ionality", 280, 1, "r_A", methodObject),
-            new Among("elity", 276, 1, "r_A", methodObject),
-            new Among("ability", 276, 1, "r_A", methodObject),
-            new Among("izability", 287, 1, "r_A", methodObject),
-            new Among("arizability", 288, 1, "r_A", methodObject),
-            new Among("ibility", 276, 1, "r_A", methodObject),
-            new Among("inity", 276, 1, "r_CC", methodObject),
-            new Among("arity", 276, 1, "r_B", methodObject),
-            new Among("ivity", 276, 1, "r_A", methodObject)
+            new Among("s'", -1, 1, LovinsStemmer::r_A),
+            new Among("a", -1, 1, LovinsStemmer::r_A),
+            new Among("ia", 1, 1, LovinsStemmer::r_A),
+            new Among("ata", 1, 1, LovinsStemmer::r_A),
+            new Among("ic", -1, 1, LovinsStemmer::r_A),
+            new Among("aic", 4, 1, LovinsStemmer::r_A),
+            new Among("allic", 4, 1, LovinsStemmer::r_BB),
+            new Among("aric", 4, 1, LovinsStemmer::r_A),
+            new Among("atic", 4, 1, LovinsStemmer::r_B),
+            new Among("itic", 4, 1, LovinsStemmer::r_H),
+            new Among("antic", 4, 1, LovinsStemmer::r_C),
+            new Among("istic", 4, 1, LovinsStemmer::r_A),
+            new Among("alistic", 11, 1, LovinsStemmer::r_B),
+            new Among("aristic", 11, 1, LovinsStemmer::r_A),
+            new Among("ivistic", 11, 1, LovinsStemmer::r_A),
+            new Among("ed", -1, 1, LovinsStemmer::r_E),
+            new Among("anced", 15, 1, LovinsStemmer::r_B),
+            new Among("enced", 15, 1, LovinsStemmer::r_A),
+            new Among("ished", 15, 1, LovinsStemmer::r_A),
+            new Among("ied", 15, 1, LovinsStemmer::r_A),
+            new Among("ened", 15, 1, LovinsStemmer::r_E),
+            new Among("ioned", 15, 1, LovinsStemmer::r_A),
+            new Among("ated", 15, 1, LovinsStemmer::r_I),
+            new Among("ented", 15, 1, LovinsStemmer::r_C),
+            new Among("ized", 15, 1, LovinsStemmer::r_F),
+            new Among("arized", 24, 1, LovinsStemmer::r_A),
+            new Among("oid", -1, 1, LovinsStemmer::r_A),
+            new Among("aroid", 26, 1, LovinsStemmer::r_A),
+            new Among("hood", -1, 1, LovinsStemmer::r_A),
+            new Among("ehood", 28, 1, LovinsStemmer::r_A),
+            new Among("ihood", 28, 1, LovinsStemmer::r_A),
+            new Among("elihood", 30, 1, LovinsStemmer::r_E),
+            new Among("ward", -1, 1, LovinsStemmer::r_A),
+            new Among("e", -1, 1, LovinsStemmer::r_A),
+            new Among("ae", 33, 1, LovinsStemmer::r_A),
+            new Among("ance", 33, 1, LovinsStemmer::r_B),
+            new Among("icance", 35, 1, LovinsStemmer::r_A),
+            new Among("ence", 33, 1, LovinsStemmer::r_A),
+            new Among("ide", 33, 1, LovinsStemmer::r_L),
+            new Among("icide", 38, 1, LovinsStemmer::r_A),
+            new Among("otide", 38, 1, LovinsStemmer::r_A),
+            new Among("age", 33, 1, LovinsStemmer::r_B),
+            new Among("able", 33, 1, LovinsStemmer::r_A),
+            new Among("atable", 42, 1, LovinsStemmer::r_A),
+            new Among("izable", 42, 1, LovinsStemmer::r_E),
+            new Among("arizable", 44, 1, LovinsStemmer::r_A),
+            new Among("ible", 33, 1, LovinsStemmer::r_A),
+            new Among("encible", 46, 1, LovinsStemmer::r_A),
+            new Among("ene", 33, 1, LovinsStemmer::r_E),
+            new Among("ine", 33, 1, LovinsStemmer::r_M),
+            new Among("idine", 49, 1, LovinsStemmer::r_I),
+            new Among("one", 33, 1, LovinsStemmer::r_R),
+            new Among("ature", 33, 1, LovinsStemmer::r_E),
+            new Among("eature", 52, 1, LovinsStemmer::r_Z),
+            new Among("ese", 33, 1, LovinsStemmer::r_A),
+            new Among("wise", 33, 1, LovinsStemmer::r_A),
+            new Among("ate", 33, 1, LovinsStemmer::r_A),
+            new Among("entiate", 56, 1, LovinsStemmer::r_A),
+            new Among("inate", 56, 1, LovinsStemmer::r_A),
+            new Among("ionate", 56, 1, LovinsStemmer::r_D),
+            new Among("ite", 33, 1, LovinsStemmer::r_AA),
+            new Among("ive", 33, 1, LovinsStemmer::r_A),
+            new Among("ative", 61, 1, LovinsStemmer::r_A),
+            new Among("ize", 33, 1, LovinsStemmer::r_F),
+            new Among("alize", 63, 1, LovinsStemmer::r_A),
+            new Among("icalize", 64, 1, LovinsStemmer::r_A),
+            new Among("ialize", 64, 1, LovinsStemmer::r_A),
+            new Among("entialize", 66, 1, LovinsStemmer::r_A),
+            new Among("ionalize", 64, 1, LovinsStemmer::r_A),
+            new Among("arize", 63, 1, LovinsStemmer::r_A),
+            new Among("ing", -1, 1, LovinsStemmer::r_N),
+            new Among("ancing", 70, 1, LovinsStemmer::r_B),
+            new Among("encing", 70, 1, LovinsStemmer::r_A),
+            new Among("aging", 70, 1, LovinsStemmer::r_B),
+            new Among("ening", 70, 1, LovinsStemmer::r_E),
+            new Among("ioning", 70, 1, LovinsStemmer::r_A),
+            new Among("ating", 70, 1, LovinsStemmer::r_I),
+            new Among("enting", 70, 1, LovinsStemmer::r_C),
+            new Among("ying", 70, 1, LovinsStemmer::r_B),
+            new Among("izing", 70, 1, LovinsStemmer::r_F),
+            new Among("arizing", 79, 1, LovinsStemmer::r_A),
+            new Among("ish", -1, 1, LovinsStemmer::r_C),
+            new Among("yish", 81, 1, LovinsStemmer::r_A),
+            new Among("i", -1, 1, LovinsStemmer::r_A),
+            new Among("al", -1, 1, LovinsStemmer::r_BB),
+            new Among("ical", 84, 1, LovinsStemmer::r_A),
+            new Among("aical", 85, 1, LovinsStemmer::r_A),
+            new Among("istical", 85, 1, LovinsStemmer::r_A),
+            new Among("oidal", 84, 1, LovinsStemmer::r_A),
+            new Among("eal", 84, 1, LovinsStemmer::r_Y),
+            new Among("ial", 84, 1, LovinsStemmer::r_A),
+            new Among("ancial", 90, 1, LovinsStemmer::r_A),
+            new Among("arial", 90, 1, LovinsStemmer::r_A),
+            new Among("ential", 90, 1, LovinsStemmer::r_A),
+            new Among("ional", 84, 1, LovinsStemmer::r_A),
+            new Among("ational", 94, 1, LovinsStemmer::r_B),
+            new Among("izational", 95, 1, LovinsStemmer::r_A),
+            new Among("ental", 84, 1, LovinsStemmer::r_A),
+            new Among("ful", -1, 1, LovinsStemmer::r_A),
+            new Among("eful", 98, 1, LovinsStemmer::r_A),
+            new Among("iful", 98, 1, LovinsStemmer::r_A),
+            new Among("yl", -1, 1, LovinsStemmer::r_R),
+            new Among("ism", -1, 1, LovinsStemmer::r_B),
+            new Among("icism", 102, 1, LovinsStemmer::r_A),
+            new Among("oidism", 102, 1, LovinsStemmer::r_A),
+            new Among("alism", 102, 1, LovinsStemmer::r_B),
+            new Among("icalism", 105, 1, LovinsStemmer::r_A),
+            new Among("ionalism", 105, 1, LovinsStemmer::r_A),
+            new Among("inism", 102, 1, LovinsStemmer::r_J),
+            new Among("ativism", 102, 1, LovinsStemmer::r_A),
+            new Among("um", -1, 1, LovinsStemmer::r_U),
+            new Among("ium", 110, 1, LovinsStemmer::r_A),
+            new Among("ian", -1, 1, LovinsStemmer::r_A),
+            new Among("ician", 112, 1, LovinsStemmer::r_A),
+            new Among("en", -1, 1, LovinsStemmer::r_F),
+            new Among("ogen", 114, 1, LovinsStemmer::r_A),
+            new Among("on", -1, 1, LovinsStemmer::r_S),
+            new Among("ion", 116, 1, LovinsStemmer::r_Q),
+            new Among("ation", 117, 1, LovinsStemmer::r_B),
+            new Among("ication", 118, 1, LovinsStemmer::r_G),
+            new Among("entiation", 118, 1, LovinsStemmer::r_A),
+            new Among("ination", 118, 1, LovinsStemmer::r_A),
+            new Among("isation", 118, 1, LovinsStemmer::r_A),
+            new Among("arisation", 122, 1, LovinsStemmer::r_A),
+            new Among("entation", 118, 1, LovinsStemmer::r_A),
+            new Among("ization", 118, 1, LovinsStemmer::r_F),
+            new Among("arization", 125, 1, LovinsStemmer::r_A),
+            new Among("action", 117, 1, LovinsStemmer::r_G),
+            new Among("o", -1, 1, LovinsStemmer::r_A),
+            new Among("ar", -1, 1, LovinsStemmer::r_X),
+            new Among("ear", 129, 1, LovinsStemmer::r_Y),
+            new Among("ier", -1, 1, LovinsStemmer::r_A),
+            new Among("ariser", -1, 1, LovinsStemmer::r_A),
+            new Among("izer", -1, 1, LovinsStemmer::r_F),
+            new Among("arizer", 133, 1, LovinsStemmer::r_A),
+            new Among("or", -1, 1, LovinsStemmer::r_T),
+            new Among("ator", 135, 1, LovinsStemmer::r_A),
+            new Among("s", -1, 1, LovinsStemmer::r_W),
+            new Among("'s", 137, 1, LovinsStemmer::r_A),
+            new Among("as", 137, 1, LovinsStemmer::r_B),
+            new Among("ics", 137, 1, LovinsStemmer::r_A),
+            new Among("istics", 140, 1, LovinsStemmer::r_A),
+            new Among("es", 137, 1, LovinsStemmer::r_E),
+            new Among("ances", 142, 1, LovinsStemmer::r_B),
+            new Among("ences", 142, 1, LovinsStemmer::r_A),
+            new Among("ides", 142, 1, LovinsStemmer::r_L),
+            new Among("oides", 145, 1, LovinsStemmer::r_A),
+            new Among("ages", 142, 1, LovinsStemmer::r_B),
+            new Among("ies", 142, 1, LovinsStemmer::r_P),
+            new Among("acies", 148, 1, LovinsStemmer::r_A),
+            new Among("ancies", 148, 1, LovinsStemmer::r_A),
+            new Among("encies", 148, 1, LovinsStemmer::r_A),
+            new Among("aries", 148, 1, LovinsStemmer::r_A),
+            new Among("ities", 148, 1, LovinsStemmer::r_A),
+            new Among("alities", 153, 1, LovinsStemmer::r_A),
+            new Among("ivities", 153, 1, LovinsStemmer::r_A),
+            new Among("ines", 142, 1, LovinsStemmer::r_M),
+            new Among("nesses", 142, 1, LovinsStemmer::r_A),
+            new Among("ates", 142, 1, LovinsStemmer::r_A),
+            new Among("atives", 142, 1, LovinsStemmer::r_A),
+            new Among("ings", 137, 1, LovinsStemmer::r_N),
+            new Among("is", 137, 1, LovinsStemmer::r_A),
+            new Among("als", 137, 1, LovinsStemmer::r_BB),
+            new Among("ials", 162, 1, LovinsStemmer::r_A),
+            new Among("entials", 163, 1, LovinsStemmer::r_A),
+            new Among("ionals", 162, 1, LovinsStemmer::r_A),
+            new Among("isms", 137, 1, LovinsStemmer::r_B),
+            new Among("ians", 137, 1, LovinsStemmer::r_A),
+            new Among("icians", 167, 1, LovinsStemmer::r_A),
+            new Among("ions", 137, 1, LovinsStemmer::r_B),
+            new Among("ations", 169, 1, LovinsStemmer::r_B),
+            new Among("arisations", 170, 1, LovinsStemmer::r_A),
+            new Among("entations", 170, 1, LovinsStemmer::r_A),
+            new Among("izations", 170, 1, LovinsStemmer::r_A),
+            new Among("arizations", 173, 1, LovinsStemmer::r_A),
+            new Among("ars", 137, 1, LovinsStemmer::r_O),
+            new Among("iers", 137, 1, LovinsStemmer::r_A),
+            new Among("izers", 137, 1, LovinsStemmer::r_F),
+            new Among("ators", 137, 1, LovinsStemmer::r_A),
+            new Among("less", 137, 1, LovinsStemmer::r_A),
+            new Among("eless", 179, 1, LovinsStemmer::r_A),
+            new Among("ness", 137, 1, LovinsStemmer::r_A),
+            new Among("eness", 181, 1, LovinsStemmer::r_E),
+            new Among("ableness", 182, 1, LovinsStemmer::r_A),
+            new Among("eableness", 183, 1, LovinsStemmer::r_E),
+            new Among("ibleness", 182, 1, LovinsStemmer::r_A),
+            new Among("ateness", 182, 1, LovinsStemmer::r_A),
+            new Among("iteness", 182, 1, LovinsStemmer::r_A),
+            new Among("iveness", 182, 1, LovinsStemmer::r_A),
+            new Among("ativeness", 188, 1, LovinsStemmer::r_A),
+            new Among("ingness", 181, 1, LovinsStemmer::r_A),
+            new Among("ishness", 181, 1, LovinsStemmer::r_A),
+            new Among("iness", 181, 1, LovinsStemmer::r_A),
+            new Among("ariness", 192, 1, LovinsStemmer::r_E),
+            new Among("alness", 181, 1, LovinsStemmer::r_A),
+            new Among("icalness", 194, 1, LovinsStemmer::r_A),
+            new Among("antialness", 194, 1, LovinsStemmer::r_A),
+            new Among("entialness", 194, 1, LovinsStemmer::r_A),
+            new Among("ionalness", 194, 1, LovinsStemmer::r_A),
+            new Among("fulness", 181, 1, LovinsStemmer::r_A),
+            new Among("lessness", 181, 1, LovinsStemmer::r_A),
+            new Among("ousness", 181, 1, LovinsStemmer::r_A),
+            new Among("eousness", 201, 1, LovinsStemmer::r_A),
+            new Among("iousness", 201, 1, LovinsStemmer::r_A),
+            new Among("itousness", 201, 1, LovinsStemmer::r_A),
+            new Among("entness", 181, 1, LovinsStemmer::r_A),
+            new Among("ants", 137, 1, LovinsStemmer::r_B),
+            new Among("ists", 137, 1, LovinsStemmer::r_A),
+            new Among("icists", 207, 1, LovinsStemmer::r_A),
+            new Among("us", 137, 1, LovinsStemmer::r_V),
+            new Among("ous", 209, 1, LovinsStemmer::r_A),
+            new Among("eous", 210, 1, LovinsStemmer::r_A),
+            new Among("aceous", 211, 1, LovinsStemmer::r_A),
+            new Among("antaneous", 211, 1, LovinsStemmer::r_A),
+            new Among("ious", 210, 1, LovinsStemmer::r_A),
+            new Among("acious", 214, 1, LovinsStemmer::r_B),
+            new Among("itous", 210, 1, LovinsStemmer::r_A),
+            new Among("ant", -1, 1, LovinsStemmer::r_B),
+            new Among("icant", 217, 1, LovinsStemmer::r_A),
+            new Among("ent", -1, 1, LovinsStemmer::r_C),
+            new Among("ement", 219, 1, LovinsStemmer::r_A),
+            new Among("izement", 220, 1, LovinsStemmer::r_A),
+            new Among("ist", -1, 1, LovinsStemmer::r_A),
+            new Among("icist", 222, 1, LovinsStemmer::r_A),
+            new Among("alist", 222, 1, LovinsStemmer::r_A),
+            new Among("icalist", 224, 1, LovinsStemmer::r_A),
+            new Among("ialist", 224, 1, LovinsStemmer::r_A),
+            new Among("ionist", 222, 1, LovinsStemmer::r_A),
+            new Among("entist", 222, 1, LovinsStemmer::r_A),
+            new Among("y", -1, 1, LovinsStemmer::r_B),
+            new Among("acy", 229, 1, LovinsStemmer::r_A),
+            new Among("ancy", 229, 1, LovinsStemmer::r_B),
+            new Among("ency", 229, 1, LovinsStemmer::r_A),
+            new Among("ly", 229, 1, LovinsStemmer::r_B),
+            new Among("ealy", 233, 1, LovinsStemmer::r_Y),
+            new Among("ably", 233, 1, LovinsStemmer::r_A),
+            new Among("ibly", 233, 1, LovinsStemmer::r_A),
+            new Among("edly", 233, 1, LovinsStemmer::r_E),
+            new Among("iedly", 237, 1, LovinsStemmer::r_A),
+            new Among("ely", 233, 1, LovinsStemmer::r_E),
+            new Among("ately", 239, 1, LovinsStemmer::r_A),
+            new Among("ively", 239, 1, LovinsStemmer::r_A),
+            new Among("atively", 241, 1, LovinsStemmer::r_A),
+            new Among("ingly", 233, 1, LovinsStemmer::r_B),
+            new Among("atingly", 243, 1, LovinsStemmer::r_A),
+            new Among("ily", 233, 1, LovinsStemmer::r_A),
+            new Among("lily", 245, 1, LovinsStemmer::r_A),
+            new Among("arily", 245, 1, LovinsStemmer::r_A),
+            new Among("ally", 233, 1, LovinsStemmer::r_B),
+            new Among("ically", 248, 1, LovinsStemmer::r_A),
+            new Among("aically", 249, 1, LovinsStemmer::r_A),
+            new Among("allically", 249, 1, LovinsStemmer::r_C),
+            new Among("istically", 249, 1, LovinsStemmer::r_A),
+            new Among("alistically", 252, 1, LovinsStemmer::r_B),
+            new Among("oidally", 248, 1, LovinsStemmer::r_A),
+            new Among("ially", 248, 1, LovinsStemmer::r_A),
+            new Among("entially", 255, 1, LovinsStemmer::r_A),
+            new Among("ionally", 248, 1, LovinsStemmer::r_A),
+            new Among("ationally", 257, 1, LovinsStemmer::r_B),
+            new Among("izationally", 258, 1, LovinsStemmer::r_B),
+            new Among("entally", 248, 1, LovinsStemmer::r_A),
+            new Among("fully", 233, 1, LovinsStemmer::r_A),
+            new Among("efully", 261, 1, LovinsStemmer::r_A),
+            new Among("ifully", 261, 1, LovinsStemmer::r_A),
+            new Among("enly", 233, 1, LovinsStemmer::r_E),
+            new Among("arly", 233, 1, LovinsStemmer::r_K),
+            new Among("early", 265, 1, LovinsStemmer::r_Y),
+            new Among("lessly", 233, 1, LovinsStemmer::r_A),
+            new Among("ously", 233, 1, LovinsStemmer::r_A),
+            new Among("eously", 268, 1, LovinsStemmer::r_A),
+            new Among("iously", 268, 1, LovinsStemmer::r_A),
+            new Among("ently", 233, 1, LovinsStemmer::r_A),
+            new Among("ary", 229, 1, LovinsStemmer::r_F),
+            new Among("ery", 229, 1, LovinsStemmer::r_E),
+            new Among("icianry", 229, 1, LovinsStemmer::r_A),
+            new Among("atory", 229, 1, LovinsStemmer::r_A),
+            new Among("ity", 229, 1, LovinsStemmer::r_A),
+            new Among("acity", 276, 1, LovinsStemmer::r_A),
+            new Among("icity", 276, 1, LovinsStemmer::r_A),
+            new Among("eity", 276, 1, LovinsStemmer::r_A),
+            new Among("ality", 276, 1, LovinsStemmer::r_A),
+            new Among("icality", 280, 1, LovinsStemmer::r_A),
+            new Among("iality", 280, 1, LovinsStemmer::r_A),
+            new Among("antiality", 282, 1, LovinsStemmer::r_A),
+            new Among("entiality", 282, 1, LovinsStemmer::r_A),
+            new Among("ionality", 280, 1, LovinsStemmer::r_A),
+            new Among("elity", 276, 1, LovinsStemmer::r_A),
+            new Among("ability", 276, 1, LovinsStemmer::r_A),
+            new Among("izability", 287, 1, LovinsStemmer::r_A),
+            new Among("arizability", 288, 1, LovinsStemmer::r_A),
+            new Among("ibility", 276, 1, LovinsStemmer::r_A),
+            new Among("inity", 276, 1, LovinsStemmer::r_CC),
+            new Among("arity", 276, 1, LovinsStemmer::r_B),
+            new Among("ivity", 276, 1, LovinsStemmer::r_A)
     };
     private final static Among a_2[] = {
-            new Among("bb", -1, -1, "", methodObject),
-            new Among("dd", -1, -1, "", methodObject),
-            new Among("gg", -1, -1, "", methodObject),
-            new Among("ll", -1, -1, "", methodObject),
-            new Among("mm", -1, -1, "", methodObject),
-            new Among("nn", -1, -1, "", methodObject),
-            new Among("pp", -1, -1, "", methodObject),
-            new Among("rr", -1, -1, "", methodObject),
-            new Among("ss", -1, -1, "", methodObject),
-            new Among("tt", -1, -1, "", methodObject)
+            new Among("bb", -1, -1),
+            new Among("dd", -1, -1),
+            new Among("gg", -1, -1),
+            new Among("ll", -1, -1),
+            new Among("mm", -1, -1),
+            new Among("nn", -1, -1),
+            new Among("pp", -1, -1),
+            new Among("rr", -1, -1),
+            new Among("ss", -1, -1),
+            new Among("tt", -1, -1)
     };
     private final static Among a_3[] = {
-            new Among("uad", -1, 18, "", methodObject),
-            new Among("vad", -1, 19, "", methodObject),
-            new Among("cid", -1, 20, "", methodObject),
-            new Among("lid", -1, 21, "", methodObject),
-            new Among("erid", -1, 22, "", methodObject),
-            new Among("pand", -1, 23, "", methodObject),
-            new Among("end", -1, 24, "", methodObject),
-            new Among("ond", -1, 25, "", methodObject),
-            new Among("lud", -1, 26, "", methodObject),
-            new Among("rud", -1, 27, "", methodObject),
-            new Among("ul", -1, 9, "", methodObject),
-            new Among("her", -1, 28, "", methodObject),
-            new Among("metr", -1, 7, "", methodObject),
-            new Among("istr", -1, 6, "", methodObject),
-            new Among("urs", -1, 5, "", methodObject),
-            new Among("uct", -1, 2, "", methodObject),
-            new Among("et", -1, 32, "", methodObject),
-            new Among("mit", -1, 29, "", methodObject),
-            new Among("ent", -1, 30, "", methodObject),
-            new Among("umpt", -1, 3, "", methodObject),
-            new Among("rpt", -1, 4, "", methodObject),
-            new Among("ert", -1, 31, "", methodObject),
-            new Among("yt", -1, 33, "", methodObject),
-            new Among("iev", -1, 1, "", methodObject),
-            new Among("olv", -1, 8, "", methodObject),
-            new Among("ax", -1, 14, "", methodObject),
-            new Among("ex", -1, 15, "", methodObject),
-            new Among("bex", 26, 10, "", methodObject),
-            new Among("dex", 26, 11, "", methodObject),
-            new Among("pex", 26, 12, "", methodObject),
-            new Among("tex", 26, 13, "", methodObject),
-            new Among("ix", -1, 16, "", methodObject),
-            new Among("lux", -1, 17, "", methodObject),
-            new Among("yz", -1, 34, "", methodObject)
+            new Among("uad", -1, 18),
+            new Among("vad", -1, 19),
+            new Among("cid", -1, 20),
+            new Among("lid", -1, 21),
+            new Among("erid", -1, 22),
+            new Among("pand", -1, 23),
+            new Among("end", -1, 24),
+            new Among("ond", -1, 25),
+            new Among("lud", -1, 26),
+            new Among("rud", -1, 27),
+            new Among("ul", -1, 9),
+            new Among("her", -1, 28),
+            new Among("metr", -1, 7),
+            new Among("istr", -1, 6),
+            new Among("urs", -1, 5),
+            new Among("uct", -1, 2),
+            new Among("et", -1, 32),
+            new Among("mit", -1, 29),
+            new Among("ent", -1, 30),
+            new Among("umpt", -1, 3),
+            new Among("rpt", -1, 4),
+            new Among("ert", -1, 31),
+            new Among("yt", -1, 33),
+            new Among("iev", -1, 1),
+            new Among("olv", -1, 8),
+            new Among("ax", -1, 14),
+            new Among("ex", -1, 15),
+            new Among("bex", 26, 10),
+            new Among("dex", 26, 11),
+            new Among("pex", 26, 12),
+            new Among("tex", 26, 13),
+            new Among("ix", -1, 16),
+            new Among("lux", -1, 17),
+            new Among("yz", -1, 34)
     };
 
     @Override
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2015 Ed Duarte
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.edduarte.argus.stemmer.snowball;
+
+import com.edduarte.argus.stemmer.Stemmer;
+import it.unimi.dsi.lang.MutableString;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Regression tests for the Snowball stemmers, with a small sample of words of
+ * every supported language.
+ *
+ * @author Ed Duarte (<a href="mailto:ed@edduarte.com">ed@edduarte.com</a>)
+ * @version 1.5.0
+ * @since 1.5.0
+ */
+public class SnowballStemmerTest {
+
+    @Test
+    public void testLovins() {
+        // conditional endings are only removed if their routine accepts the
+        // stem, which is evaluated on the stemmer that is doing the lookup
+        Stemmer stemmer = new LovinsStemmer();
+        assertStem(stemmer, "nationality", "nat");
+        assertStem(stemmer, "connections", "connect");
+        assertStem(stemmer, "connected", "connect");
+        assertStem(stemmer, "sitting", "sit");
+    }
+
+
+    @Test
+    public void testEnglish() {
+        Stemmer stemmer = new EnglishStemmer();
+        assertStem(stemmer, "running", "run");
+        assertStem(stemmer, "generously", "generous");
+        assertStem(stemmer, "caresses", "caress");
+        assertStem(stemmer, "ponies", "poni");
+    }
+
+
+    @Test
+    public void testPorter() {
+        Stemmer stemmer = new PorterStemmer();
+        assertStem(stemmer, "relational", "relat");
+        assertStem(stemmer, "caresses", "caress");
+        assertStem(stemmer, "ponies", "poni");
+        assertStem(stemmer, "hopping", "hop");
+    }
+
+
+    @Test
+    public void testPortuguese() {
+        Stemmer stemmer = new PortugueseStemmer();
+        assertStem(stemmer, "quilométricas", "quilométr");
+        assertStem(stemmer, "continuamente", "continu");
+        assertStem(stemmer, "gatinhos", "gatinh");
+    }
+
+
+    @Test
+    public void testSpanish() {
+        Stemmer stemmer = new SpanishStemmer();
+        assertStem(stemmer, "cantaban", "cant");
+        assertStem(stemmer, "chiquillos", "chiquill");
+        assertStem(stemmer, "nacionalidad", "nacional");
+    }
+
+
+    @Test
+    public void testFrench() {
+        Stemmer stemmer = new FrenchStemmer();
+        assertStem(stemmer, "continuellement", "continuel");
+        assertStem(stemmer, "majestueusement", "majestu");
+        assertStem(stemmer, "chevaux", "cheval");
+    }
+
+
+    @Test
+    public void testItalian() {
+        Stemmer stemmer = new ItalianStemmer();
+        assertStem(stemmer, "abbandonata", "abbandon");
+        assertStem(stemmer, "gatti", "gatt");
+        assertStem(stemmer, "nazionalità", "nazional");
+    }
+
+
+    @Test
+    public void testGerman() {
+        Stemmer stemmer = new GermanStemmer();
+        assertStem(stemmer, "aufeinanderfolgenden", "aufeinanderfolg");
+        assertStem(stemmer, "häuser", "haus");
+        assertStem(stemmer, "katzen", "katz");
+    }
+
+
+    @Test
+    public void testGerman2() {
+        Stemmer stemmer = new German2Stemmer();
+        assertStem(stemmer, "haeuser", "haus");
+        assertStem(stemmer, "katzen", "katz");
+    }
+
+
+    @Test
+    public void testDutch() {
+        Stemmer stemmer = new DutchStemmer();
+        assertStem(stemmer, "lichamelijk", "licham");
+        assertStem(stemmer, "katten", "kat");
+    }
+
+
+    @Test
+    public void testKp() {
+        Stemmer stemmer = new KpStemmer();
+        assertStem(stemmer, "katten", "kat");
+    }
+
+
+    @Test
+    public void testDanish() {
+        Stemmer stemmer = new DanishStemmer();
+        assertStem(stemmer, "indtager", "indtag");
+        assertStem(stemmer, "katte", "kat");
+    }
+
+
+    @Test
+    public void testNorwegian() {
+        Stemmer stemmer = new NorwegianStemmer();
+        assertStem(stemmer, "havnedistriktene", "havnedistrikt");
+        assertStem(stemmer, "katter", "katt");
+    }
+
+
+    @Test
+    public void testSwedish() {
+        Stemmer stemmer = new SwedishStemmer();
+        assertStem(stemmer, "klokare", "klok");
+        assertStem(stemmer, "katterna", "katt");
+    }
+
+
+    @Test
+    public void testFinnish() {
+        Stemmer stemmer = new FinnishStemmer();
+        assertStem(stemmer, "kahvilassa", "kahvil");
+        assertStem(stemmer, "taloissa", "talo");
+        // endings that are only removed after a long vowel or after an 'i'
+        // that follows a vowel
+        assertStem(stemmer, "huoneeseen", "huone");
+        assertStem(stemmer, "vapaaseen", "vapa");
+        assertStem(stemmer, "taloiden", "talo");
+        assertStem(stemmer, "kaupunkeiden", "kaupunk");
+        assertStem(stemmer, "taloitten", "talo");
+        assertStem(stemmer, "kaupungeitten", "kaupung");
+        assertStem(stemmer, "taloisiin", "talo");
+    }
+
+
+    @Test
+    public void testHungarian() {
+        Stemmer stemmer = new HungarianStemmer();
+        assertStem(stemmer, "macskák", "macska");
+        assertStem(stemmer, "házakban", "ház");
+    }
+
+
+    @Test
+    public void testRomanian() {
+        Stemmer stemmer = new RomanianStemmer();
+        assertStem(stemmer, "pisicile", "pisic");
+        assertStem(stemmer, "frumoasele", "frumoas");
+    }
+
+
+    @Test
+    public void testRussian() {
+        Stemmer stemmer = new RussianStemmer();
+        assertStem(stemmer, "вечерами", "вечер");
+        assertStem(stemmer, "кошками", "кошк");
+    }
+
+
+    @Test
+    public void testTurkish() {
+        Stemmer stemmer = new TurkishStemmer();
+        assertStem(stemmer, "kitaplar", "kitap");
+        assertStem(stemmer, "evlerimizden", "ev");
+    }
+
+
+    @Test
+    public void testCatalan() {
+        Stemmer stemmer = new CatalanStemmer();
+        assertStem(stemmer, "gatets", "gat");
+        assertStem(stemmer, "nacionalitat", "nacional");
+    }
+
+
+    @Test
+    public void testBasque() {
+        Stemmer stemmer = new BasqueStemmer();
+        assertStem(stemmer, "etxeetan", "etxe");
+        assertStem(stemmer, "katuak", "katu");
+    }
+
+
+    @Test
+    public void testIrish() {
+        Stemmer stemmer = new IrishStemmer();
+        assertStem(stemmer, "gcathracha", "cathracha");
+        assertStem(stemmer, "bhfuinneoga", "fuinneoga");
+    }
+
+
+    @Test
+    public void testArmenian() {
+        Stemmer stemmer = new ArmenianStemmer();
+        assertStem(stemmer, "ընկերներ", "ընկեր");
+        assertStem(stemmer, "մարդիկ", "մարդ");
+    }
+
+
+    private static void assertStem(Stemmer stemmer, String word, String expectedStem) {
+        MutableString text = new MutableString(word);
+        stemmer.stem(text);
+        assertEquals(expectedStem, text.toString());
+    }
+}